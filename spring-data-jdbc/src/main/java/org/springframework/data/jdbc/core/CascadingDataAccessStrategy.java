@@ -21,8 +21,12 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.lang.Nullable;
 
 /**
  * Delegates each methods to the {@link DataAccessStrategy}s passed to the constructor in turn until the first that does
@@ -56,6 +60,34 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.update(instance, domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateListElement(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public <T> boolean updateListElement(T instance, Object rootId,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath, int index) {
+		return collect(das -> das.updateListElement(instance, rootId, propertyPath, index));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#increment(java.lang.Object, java.lang.Class, org.springframework.data.relational.core.mapping.RelationalPersistentProperty, java.lang.Number)
+	 */
+	@Override
+	public <T> Object increment(Object id, Class<T> domainType, RelationalPersistentProperty property, Number delta) {
+		return collect(das -> das.increment(id, domainType, property, delta));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.relational.core.query.Update)
+	 */
+	@Override
+	public <T> long updateAll(Class<T> domainType, Criteria criteria, Update update) {
+		return collect(das -> das.updateAll(domainType, criteria, update));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -74,6 +106,16 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.delete(rootId, propertyPath));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteListTail(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public void deleteListTail(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+			int size) {
+		collectVoid(das -> das.deleteListTail(rootId, propertyPath, size));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -92,6 +134,24 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.deleteAll(propertyPath));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public <T> long deleteAll(Class<T> domainType, Criteria criteria) {
+		return collect(das -> das.deleteAll(domainType, criteria));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(org.springframework.data.mapping.PersistentPropertyPath, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Criteria criteria) {
+		collectVoid(das -> das.deleteAll(propertyPath, criteria));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
@@ -101,6 +161,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.count(domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public long count(Class<?> domainType, Criteria criteria) {
+		return collect(das -> das.count(domainType, criteria));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -128,6 +197,36 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAllById(ids, domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllForUpdateSkipLocked(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort,
+			int limit) {
+		return collect(das -> das.findAllForUpdateSkipLocked(domainType, criteria, sort, limit));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset,
+			int limit) {
+		return collect(das -> das.findAll(domainType, criteria, sort, offset, limit));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllProperties(java.lang.Class, java.util.List, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit) {
+		return collect(das -> das.findAllProperties(domainType, properties, criteria, sort, offset, limit));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllByProperty(java.lang.Object, org.springframework.data.relational.core.mapping.RelationalPersistentProperty)
@@ -146,6 +245,26 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.existsById(id, domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#exists(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public boolean exists(Class<?> domainType, Criteria criteria) {
+		return collect(das -> das.exists(domainType, criteria));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#prepare(java.lang.Class)
+	 */
+	@Override
+	public void prepare(Class<?> domainType) {
+
+		// every strategy might get used for the aggregate, so all of them get prepared
+		strategies.forEach(das -> das.prepare(domainType));
+	}
+
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		// Keep <T> as Eclipse fails to compile if <> is used.
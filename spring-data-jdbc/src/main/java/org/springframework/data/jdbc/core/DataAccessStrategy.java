@@ -15,10 +15,14 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.lang.Nullable;
 
 /**
@@ -43,7 +47,9 @@ public interface DataAccessStrategy {
 	<T> Object insert(T instance, Class<T> domainType, Map<String, Object> additionalParameters);
 
 	/**
-	 * Updates the data of a single entity in the database. Referenced entities don't get handled.
+	 * Updates the data of a single entity in the database. Referenced entities don't get handled. For an entity with a
+	 * {@link org.springframework.data.annotation.Version} property, the version gets incremented and the row only gets
+	 * updated if it still has the version of the instance.
 	 *
 	 * @param instance the instance to save. Must not be {@code null}.
 	 * @param domainType the type of the instance to save. Must not be {@code null}.
@@ -52,6 +58,48 @@ public interface DataAccessStrategy {
 	 */
 	<T> boolean update(T instance, Class<T> domainType);
 
+	/**
+	 * Updates the data of a single element of a {@link java.util.List} directly referenced by an aggregate root. The
+	 * element is identified by the id of the aggregate root and its index stored in the key column.
+	 *
+	 * @param instance the element to save. Must not be {@code null}.
+	 * @param rootId Id of the root object on which the {@literal propertyPath} is based. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the list. Must not be {@code null}.
+	 * @param index the index of the element in the list.
+	 * @param <T> the type of the element to save.
+	 * @return whether the update actually updated a row.
+	 */
+	<T> boolean updateListElement(T instance, Object rootId,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath, int index);
+
+	/**
+	 * Atomically adds {@literal delta} to the value of a simple numeric property of the aggregate root identified by
+	 * {@literal id}, using a single update statement without loading the aggregate. Referenced entities don't get
+	 * handled.
+	 *
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param property the property to increment. Must not be {@code null}.
+	 * @param delta the value to add. Negative values decrement the property. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the value of the property after the update or {@code null} if there is no aggregate root with the given
+	 *         id.
+	 */
+	@Nullable
+	<T> Object increment(Object id, Class<T> domainType, RelationalPersistentProperty property, Number delta);
+
+	/**
+	 * Assigns new values to simple properties of all aggregate roots matching {@literal criteria}, using a single update
+	 * statement without loading the aggregates. Referenced entities don't get handled.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots to update. Must not be {@code null}.
+	 * @param update the new values. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the number of updated aggregate roots.
+	 */
+	<T> long updateAll(Class<T> domainType, Criteria criteria, Update update);
+
 	/**
 	 * deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -70,6 +118,16 @@ public interface DataAccessStrategy {
 	 */
 	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes the elements of a {@link java.util.List} directly referenced by the instance identified by
+	 * {@literal rootId}, that have an index of at least {@literal size}.
+	 *
+	 * @param rootId Id of the root object on which the {@literal propertyPath} is based. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the list. Must not be {@code null}.
+	 * @param size the number of elements to keep.
+	 */
+	void deleteListTail(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath, int size);
+
 	/**
 	 * Deletes all entities of the given domain type.
 	 *
@@ -85,6 +143,24 @@ public interface DataAccessStrategy {
 	 */
 	void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes all aggregate roots matching {@literal criteria}. Referenced entities don't get handled.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots to delete. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the number of deleted aggregate roots.
+	 */
+	<T> long deleteAll(Class<T> domainType, Criteria criteria);
+
+	/**
+	 * Deletes all entities reachable via {@literal propertyPath} from any aggregate root matching {@literal criteria}.
+	 *
+	 * @param propertyPath Leading from the root object to the entities to be deleted. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots of which referenced entities get deleted. Must not be {@code null}.
+	 */
+	void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Criteria criteria);
+
 	/**
 	 * Counts the rows in the table representing the given domain type.
 	 *
@@ -93,6 +169,15 @@ public interface DataAccessStrategy {
 	 */
 	long count(Class<?> domainType);
 
+	/**
+	 * Counts the aggregate roots matching {@literal criteria}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots to count. Must not be {@code null}.
+	 * @return the count.
+	 */
+	long count(Class<?> domainType, Criteria criteria);
+
 	/**
 	 * Loads a single entity identified by type and id.
 	 *
@@ -124,6 +209,51 @@ public interface DataAccessStrategy {
 	 */
 	<T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType);
 
+	/**
+	 * Loads at most {@literal limit} aggregates with a root matching {@literal criteria}, in the order given by
+	 * {@literal sort}. The rows of the aggregate roots get locked until the end of the current transaction. Rows already
+	 * locked by other transactions get skipped, so competing consumers of a queue table don't block each other.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots. May be {@code null} to consider all aggregate roots.
+	 * @param sort the order in which aggregate roots get selected. Must not be {@code null}.
+	 * @param limit the maximum number of aggregates to load. Must be greater than zero.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the loaded aggregates in the order given by {@literal sort}. Guaranteed to be not {@code null}.
+	 */
+	<T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort, int limit);
+
+	/**
+	 * Loads the aggregates with a root matching {@literal criteria}, in the order given by {@literal sort}. Entities
+	 * referenced via collections or maps get loaded for all aggregates at once instead of for each aggregate root.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots. May be {@code null} to load all aggregates.
+	 * @param sort the order of the aggregates. Must not be {@code null}.
+	 * @param offset the number of matching aggregates to skip.
+	 * @param limit the maximum number of aggregates to load. {@literal 0} loads all matching aggregates.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the loaded aggregates in the order given by {@literal sort}. Guaranteed to be not {@code null}.
+	 */
+	<T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset, int limit);
+
+	/**
+	 * Loads the values of some simple properties of the aggregate roots matching {@literal criteria}, e.g. for a
+	 * projection. Only the columns of these properties get selected, without joins for one-to-one relationships and
+	 * without loading referenced entities.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param properties the names of the simple properties to load. Must not be {@code null} or empty.
+	 * @param criteria selects the aggregate roots. May be {@code null} to consider all aggregate roots.
+	 * @param sort the order of the aggregate roots. Must not be {@code null}.
+	 * @param offset the number of matching aggregate roots to skip.
+	 * @param limit the maximum number of aggregate roots to load. {@literal 0} loads all matching aggregate roots.
+	 * @return for each aggregate root the property values, converted to the types of the properties, by property name.
+	 *         Guaranteed to be not {@code null}.
+	 */
+	Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit);
+
 	/**
 	 * Finds all entities reachable via {@literal property} from the instance identified by {@literal rootId}.
 	 *
@@ -141,4 +271,23 @@ public interface DataAccessStrategy {
 	 * @return {@code true} if a matching row exists, otherwise {@code false}.
 	 */
 	<T> boolean existsById(Object id, Class<T> domainType);
+
+	/**
+	 * Checks if any aggregate root matching {@literal criteria} exists.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots. Must not be {@code null}.
+	 * @return {@code true} if a matching row exists, otherwise {@code false}.
+	 */
+	boolean exists(Class<?> domainType, Criteria criteria);
+
+	/**
+	 * Prepares everything needed to access the aggregate with the given root type, for example by generating the
+	 * required SQL statements, so this work doesn't get done on first use. Mapping problems get detected as a side
+	 * effect. The default implementation does nothing.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @throws org.springframework.data.mapping.MappingException when the aggregate can't be mapped to the database.
+	 */
+	default void prepare(Class<?> domainType) {}
 }
@@ -18,15 +18,24 @@ package org.springframework.data.jdbc.core;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.springframework.dao.DataRetrievalFailureException;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.dialect.Dialect;
+import org.springframework.data.jdbc.core.dialect.DialectResolver;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -35,13 +44,21 @@ import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -64,6 +81,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final @NonNull NamedParameterJdbcOperations operations;
 	private final @NonNull DataAccessStrategy accessStrategy;
 
+	// row mappers determine what to read for an entity once, so they get reused for all statements
+	private final Map<Class<?>, EntityRowMapper<?>> rowMappers = new ConcurrentHashMap<>();
+
+	private boolean padInLists = false;
+	private volatile @Nullable Dialect dialect;
+
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy} which references it self for resolution of recursive data accesses.
 	 * Only suitable if this is the only access strategy in use.
@@ -78,6 +101,32 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.accessStrategy = this;
 	}
 
+	/**
+	 * Configures padding lists of values bound with one parameter per value, like the ids of aggregates to load or the
+	 * values of {@link Criteria.Operator#IN} conditions, to the next power of two by repeating the last value. Every list
+	 * size results in a different statement after expanding the parameters, flooding the statement caches of driver and
+	 * database. With padding there is only one statement per power of two. Databases getting lists of ids as a single
+	 * array parameter aren't affected.
+	 *
+	 * @param padInLists {@literal true} to pad lists of values. The default is {@literal false}.
+	 */
+	public void setPadInLists(boolean padInLists) {
+		this.padInLists = padInLists;
+	}
+
+	/**
+	 * Configures the {@link Dialect} of the database. If none is configured, it gets detected from the
+	 * {@link java.sql.DatabaseMetaData} on first use by {@link DialectResolver}.
+	 *
+	 * @param dialect must not be {@code null}.
+	 */
+	public void setDialect(Dialect dialect) {
+
+		Assert.notNull(dialect, "Dialect must not be null!");
+
+		this.dialect = dialect;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#insert(java.lang.Object, java.lang.Class, java.util.Map)
@@ -102,13 +151,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 					converter.writeValue(idValue, ClassTypeInformation.from(idProperty.getColumnType())));
 		}
 
+		if (persistentEntity.hasVersionProperty()) {
+
+			RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
+			parameters.put(versionProperty.getColumnName(), VersionUtil.initialVersion(versionProperty));
+		}
+
 		parameters.forEach(parameterSource::addValue);
 
-		operations.update( //
-				sql(domainType).getInsert(parameters.keySet()), //
-				parameterSource, //
-				holder //
-		);
+		getJdbcOperations().update(sql(domainType).getPreparedInsert(parameters.keySet()).bind(parameterSource), holder);
 
 		return getIdFromHolder(holder, persistentEntity);
 	}
@@ -121,8 +172,101 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <S> boolean update(S instance, Class<S> domainType) {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+		MapSqlParameterSource parameters = getPropertyMap(instance, persistentEntity);
+
+		if (persistentEntity.hasVersionProperty()) {
+
+			// the update only succeeds if the version in the database is still the one of the instance
+			RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
+			Object version = persistentEntity.getPropertyAccessor(instance).getProperty(versionProperty);
+
+			parameters.addValue(SqlGenerator.EXPECTED_VERSION_PARAMETER, version);
+			parameters.addValue(versionProperty.getColumnName(), VersionUtil.nextVersion(versionProperty, version));
+		}
+
+		return getJdbcOperations().update(sql(domainType).getPreparedUpdate().bind(parameters)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateListElement(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> boolean updateListElement(T instance, Object rootId,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath, int index) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity((Class<T>) instance.getClass());
+		RelationalPersistentProperty listProperty = propertyPath.getRequiredLeafProperty();
+		Class<?> rootType = propertyPath.getBaseProperty().getOwner().getType();
+
+		MapSqlParameterSource parameters = getPropertyMap(instance, persistentEntity);
+		parameters.addValue(listProperty.getReverseColumnName(), rootId);
+		parameters.addValue(listProperty.getKeyColumn(), index);
+
+		return operations.update(sql(rootType).getUpdateListElement(propertyPath), parameters) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#increment(java.lang.Object, java.lang.Class, org.springframework.data.relational.core.mapping.RelationalPersistentProperty, java.lang.Number)
+	 */
+	@Override
+	@Nullable
+	public <T> Object increment(Object id, Class<T> domainType, RelationalPersistentProperty property, Number delta) {
+
+		SqlGenerator sql = sql(domainType);
+		String increment = sql.getIncrement(property.getColumnName());
+		MapSqlParameterSource parameters = createIdParameterSource(id, domainType);
+		parameters.addValue("delta", delta);
+
+		Dialect dialect = getDialect();
+
+		if (dialect.supportsReturning()) {
+
+			List<Object> values = operations.queryForList(dialect.returning(increment, property.getColumnName()),
+					parameters, Object.class);
+
+			return values.isEmpty() ? null : converter.readValue(values.get(0), property.getTypeInformation());
+		}
+
+		// the updated row stays locked until the transaction ends, so the following query reads the value just written
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalTransactionStateException(String.format(
+					"Incrementing %s of %s requires an active transaction, since the new value gets read by a separate query!",
+					property.getName(), domainType.getName()));
+		}
+
+		if (operations.update(increment, parameters) == 0) {
+			return null;
+		}
+
+		Object value = operations.queryForObject(sql.getFindColumnById(property.getColumnName()), parameters,
+				Object.class);
+
+		return converter.readValue(value, property.getTypeInformation());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.relational.core.query.Update)
+	 */
+	@Override
+	public <T> long updateAll(Class<T> domainType, Criteria criteria, Update update) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		MapSqlParameterSource parameters = createConditionParameterSource(persistentEntity, criteria);
+
+		int index = 0;
+		for (Map.Entry<String, Object> assignment : update.getAssignments().entrySet()) {
 
-		return operations.update(sql(domainType).getUpdate(), getPropertyMap(instance, persistentEntity)) != 0;
+			RelationalPersistentProperty property = persistentEntity.getRequiredPersistentProperty(assignment.getKey());
+			parameters.addValue(SqlGenerator.getAssignmentParameter(index++),
+					converter.writeValue(assignment.getValue(), ClassTypeInformation.from(property.getColumnType())),
+					JdbcUtil.sqlTypeFor(property.getColumnType()));
+		}
+
+		return operations.update(sql(domainType).getUpdateAll(update, criteria), parameters);
 	}
 
 	/*
@@ -132,10 +276,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
-		String deleteByIdSql = sql(domainType).getDeleteById();
+		PreparedSql deleteById = sql(domainType).getPreparedDeleteById();
 		MapSqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.update(deleteByIdSql, parameter);
+		getJdbcOperations().update(deleteById.bind(parameter));
 	}
 
 	/*
@@ -151,11 +295,25 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		RelationalPersistentProperty referencingProperty = propertyPath.getLeafProperty();
 		Assert.notNull(referencingProperty, "No property found matching the PropertyPath " + propertyPath);
 
-		String format = sql(rootEntity.getType()).createDeleteByPath(propertyPath);
+		PreparedSql deleteByPath = sql(rootEntity.getType()).getPreparedDeleteByPath(propertyPath);
+
+		getJdbcOperations().update(deleteByPath.bind(new MapSqlParameterSource("rootId", rootId)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteListTail(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public void deleteListTail(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+			int size) {
+
+		Class<?> rootType = propertyPath.getBaseProperty().getOwner().getType();
 
 		HashMap<String, Object> parameters = new HashMap<>();
 		parameters.put("rootId", rootId);
-		operations.update(format, parameters);
+		parameters.put("size", size);
+		operations.update(sql(rootType).getDeleteListTail(propertyPath), parameters);
 	}
 
 	/*
@@ -177,6 +335,33 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				.update(sql(propertyPath.getBaseProperty().getOwner().getType()).createDeleteAllSql(propertyPath));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public <T> long deleteAll(Class<T> domainType, Criteria criteria) {
+
+		MapSqlParameterSource parameters = createConditionParameterSource(getRequiredPersistentEntity(domainType),
+				criteria);
+
+		return operations.update(sql(domainType).getDeleteAll(criteria), parameters);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(org.springframework.data.mapping.PersistentPropertyPath, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Criteria criteria) {
+
+		Class<?> rootType = propertyPath.getBaseProperty().getOwner().getType();
+		MapSqlParameterSource parameters = createConditionParameterSource(getRequiredPersistentEntity(rootType),
+				criteria);
+
+		operations.update(sql(rootType).getDeleteAll(propertyPath, criteria), parameters);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
@@ -191,6 +376,22 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public long count(Class<?> domainType, Criteria criteria) {
+
+		MapSqlParameterSource parameters = createConditionParameterSource(getRequiredPersistentEntity(domainType),
+				criteria);
+		Long result = operations.queryForObject(sql(domainType).getCount(criteria), parameters, Long.class);
+
+		Assert.notNull(result, "The result of a count query must not be null.");
+
+		return result;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -199,14 +400,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> T findById(Object id, Class<T> domainType) {
 
-		String findOneSql = sql(domainType).getFindOne();
+		PreparedSql findOne = sql(domainType).getPreparedFindOne();
 		MapSqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		try {
-			return operations.queryForObject(findOneSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
-		} catch (EmptyResultDataAccessException e) {
-			return null;
-		}
+		return DataAccessUtils.singleResult(
+				getJdbcOperations().query(findOne.bind(parameter), (RowMapper<T>) getEntityRowMapper(domainType)));
 	}
 
 	/*
@@ -226,18 +424,109 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return findAllById(ids, (RowMapper<T>) getEntityRowMapper(domainType), getRequiredPersistentEntity(domainType));
+	}
 
-		String findAllInListSql = sql(domainType).getFindAllInList();
-		Class<?> targetType = getRequiredPersistentEntity(domainType).getRequiredIdProperty().getColumnType();
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllForUpdateSkipLocked(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort,
+			int limit) {
 
-		MapSqlParameterSource parameter = new MapSqlParameterSource( //
-				"ids", //
-				StreamSupport.stream(ids.spliterator(), false) //
-						.map(id -> converter.writeValue(id, ClassTypeInformation.from(targetType))) //
-						.collect(Collectors.toList()) //
-		);
+		Assert.isTrue(limit > 0, "The limit must be greater than zero.");
 
-		return operations.query(findAllInListSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+
+		// only the rows of the aggregate roots get locked, so no outer joins interfere with the locking clause
+		String findIdsSql = sql(domainType).getFindIdsForUpdateSkipLocked(criteria, sort, getDialect());
+		MapSqlParameterSource parameters = criteria == null //
+				? new MapSqlParameterSource() //
+				: createConditionParameterSource(persistentEntity, criteria);
+		parameters.addValue(SqlGenerator.LIMIT_PARAMETER, limit);
+
+		List<Object> ids = operations.query(findIdsSql, parameters,
+				(rs, rowNum) -> converter.readValue(rs.getObject(1), idProperty.getTypeInformation()));
+
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return findAllInOrder(ids, persistentEntity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset,
+			int limit) {
+
+		Assert.isTrue(offset >= 0, "The offset must not be negative.");
+		Assert.isTrue(limit >= 0, "The limit must not be negative.");
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		MapSqlParameterSource parameters = criteria == null //
+				? new MapSqlParameterSource() //
+				: createConditionParameterSource(persistentEntity, criteria);
+
+		boolean limited = addLimitParameters(parameters, offset, limit);
+
+		if (!hasCollections(persistentEntity)) {
+
+			String findAllSql = limited //
+					? sql(domainType).getFindAll(criteria, sort, getDialect(), offset > 0) //
+					: sql(domainType).getFindAll(criteria, sort);
+			return operations.query(findAllSql, parameters, (RowMapper<T>) getEntityRowMapper(domainType));
+		}
+
+		// the ids get selected first, so the collections of all aggregates can get loaded at once
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		String findIdsSql = limited //
+				? sql(domainType).getFindIds(criteria, sort, getDialect(), offset > 0) //
+				: sql(domainType).getFindIds(criteria, sort);
+		List<Object> ids = operations.query(findIdsSql, parameters,
+				(rs, rowNum) -> converter.readValue(rs.getObject(1), idProperty.getTypeInformation()));
+
+		return ids.isEmpty() ? Collections.emptyList() : findAllInOrder(ids, persistentEntity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllProperties(java.lang.Class, java.util.List, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit) {
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(domainType);
+		MapSqlParameterSource parameters = criteria == null //
+				? new MapSqlParameterSource() //
+				: createConditionParameterSource(persistentEntity, criteria);
+
+		List<RelationalPersistentProperty> persistentProperties = properties.stream() //
+				.map(persistentEntity::getRequiredPersistentProperty) //
+				.collect(Collectors.toList());
+
+		String findPropertiesSql = addLimitParameters(parameters, offset, limit) //
+				? sql(domainType).getFindProperties(properties, criteria, sort, getDialect(), offset > 0) //
+				: sql(domainType).getFindProperties(properties, criteria, sort);
+
+		return operations.query(findPropertiesSql, parameters, (rs, rowNum) -> {
+
+			Map<String, Object> values = new HashMap<>();
+
+			for (RelationalPersistentProperty property : persistentProperties) {
+				values.put(property.getName(),
+						converter.readValue(rs.getObject(property.getColumnName()), property.getTypeInformation()));
+			}
+
+			return values;
+		});
 	}
 
 	/*
@@ -251,15 +540,20 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		Assert.notNull(rootId, "rootId must not be null.");
 
 		Class<?> actualType = property.getActualType();
-		String findAllByProperty = sql(actualType) //
-				.getFindAllByProperty(property.getReverseColumnName(), property.getKeyColumn(), property.isOrdered());
+		PreparedStatementCreator findAllByProperty = sql(actualType) //
+				.getPreparedFindAllByProperty(property.getReverseColumnName(), property.getKeyColumn(), property.isOrdered())
+				.bind(new MapSqlParameterSource(property.getReverseColumnName(), rootId));
+
+		if (property.isMap()) {
+			return (Iterable<T>) getJdbcOperations().query(findAllByProperty, getMapEntityResultSetExtractor(property));
+		}
+
+		RowMapper<T> rowMapper = (RowMapper<T>) getEntityRowMapper(actualType);
+		List<T> result = getJdbcOperations().query(findAllByProperty, rowMapper);
 
-		MapSqlParameterSource parameter = new MapSqlParameterSource(property.getReverseColumnName(), rootId);
+		Assert.notNull(result, "The result of a query must not be null.");
 
-		return operations.query(findAllByProperty, parameter, //
-				(RowMapper<T>) (property.isMap() //
-						? this.getMapEntityRowMapper(property) //
-						: this.getEntityRowMapper(actualType)));
+		return result;
 	}
 
 	/*
@@ -269,35 +563,110 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
-		String existsSql = sql(domainType).getExists();
+		String existsSql = sql(domainType).getExists(getDialect());
 		MapSqlParameterSource parameter = createIdParameterSource(id, domainType);
+		parameter.addValue(SqlGenerator.LIMIT_PARAMETER, 1);
+
+		Boolean result = operations.query(existsSql, parameter, ResultSet::next);
+
+		Assert.notNull(result, "The result of an exists query must not be null");
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#exists(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public boolean exists(Class<?> domainType, Criteria criteria) {
 
-		Boolean result = operations.queryForObject(existsSql, parameter, Boolean.class);
+		MapSqlParameterSource parameters = createConditionParameterSource(getRequiredPersistentEntity(domainType),
+				criteria);
+
+		// a single row suffices, no matter how many rows match
+		addLimitParameters(parameters, 0, 1);
+		Boolean result = operations.query(sql(domainType).getFindIds(criteria, Sort.unsorted(), getDialect(), false),
+				parameters, ResultSet::next);
 
 		Assert.notNull(result, "The result of an exists query must not be null");
 
 		return result;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#prepare(java.lang.Class)
+	 */
+	@Override
+	public void prepare(Class<?> domainType) {
+
+		SqlGenerator rootSql = sql(domainType);
+		rootSql.prepare();
+		getEntityRowMapper(domainType).prepare();
+
+		context.findPersistentPropertyPaths(domainType, p -> p.isEntity() && !p.isEmbedded()).forEach(path -> {
+
+			RelationalPersistentProperty property = path.getRequiredLeafProperty();
+
+			rootSql.getPreparedDeleteByPath(path);
+			rootSql.createDeleteAllSql(path);
+
+			// creating the generator validates the mapping of the referenced entity
+			SqlGenerator referencedSql = sql(property.getActualType());
+
+			// entities referenced by collections and maps get loaded by separate statements, all others via joins
+			if (property.isCollectionLike() || property.isMap()) {
+				referencedSql.getPreparedFindAllByProperty(property.getReverseColumnName(), property.getKeyColumn(),
+						property.isOrdered());
+				getEntityRowMapper(property.getActualType()).prepare();
+			}
+		});
+	}
+
 	private <S> MapSqlParameterSource getPropertyMap(final S instance, RelationalPersistentEntity<S> persistentEntity) {
 
 		MapSqlParameterSource parameters = new MapSqlParameterSource();
 
-		PersistentPropertyAccessor<S> propertyAccessor = persistentEntity.getPropertyAccessor(instance);
+		addPropertiesToParameters(parameters, instance, persistentEntity, "");
+
+		return parameters;
+	}
+
+	/**
+	 * Adds the values of all simple properties of {@literal instance} to {@literal parameters}, including the ones of
+	 * embedded value objects.
+	 *
+	 * @param instance may be {@code null}, in which case {@code null} values get added for all properties.
+	 * @param prefix the column prefix of the embedded value object, if any. Must not be {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	private <S> void addPropertiesToParameters(MapSqlParameterSource parameters, @Nullable S instance,
+			RelationalPersistentEntity<S> persistentEntity, String prefix) {
+
+		PersistentPropertyAccessor<S> propertyAccessor = instance == null ? null
+				: persistentEntity.getPropertyAccessor(instance);
 
 		persistentEntity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
 
+			Object value = propertyAccessor == null ? null : propertyAccessor.getProperty(property);
+
+			if (property.isEmbedded()) {
+
+				RelationalPersistentEntity<Object> embeddedEntity = (RelationalPersistentEntity<Object>) context
+						.getRequiredPersistentEntity(property.getActualType());
+				addPropertiesToParameters(parameters, value, embeddedEntity, prefix + property.getEmbeddedPrefix());
+				return;
+			}
+
 			if (property.isEntity()) {
 				return;
 			}
 
-			Object value = propertyAccessor.getProperty(property);
 			Object convertedValue = converter.writeValue(value, ClassTypeInformation.from(property.getColumnType()));
-			parameters.addValue(property.getColumnName(), convertedValue, JdbcUtil.sqlTypeFor(property.getColumnType()));
-
+			parameters.addValue(prefix + property.getColumnName(), convertedValue,
+					JdbcUtil.sqlTypeFor(property.getColumnType()));
 		});
-
-		return parameters;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -340,15 +709,25 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
     }
 
 	private EntityRowMapper<?> getEntityRowMapper(Class<?> domainType) {
-		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), context, converter, accessStrategy);
+
+		return rowMappers.computeIfAbsent(domainType,
+				type -> new EntityRowMapper<>(getRequiredPersistentEntity(type), context, converter, accessStrategy));
 	}
 
-	private RowMapper<?> getMapEntityRowMapper(RelationalPersistentProperty property) {
+	private MapEntityResultSetExtractor<?> getMapEntityResultSetExtractor(RelationalPersistentProperty property) {
 
 		String keyColumn = property.getKeyColumn();
 		Assert.notNull(keyColumn, () -> "KeyColumn must not be null for " + property);
 
-		return new MapEntityRowMapper<>(getEntityRowMapper(property.getActualType()), keyColumn);
+		return new MapEntityResultSetExtractor<>(getEntityRowMapper(property.getActualType()), keyColumn);
+	}
+
+	/**
+	 * Generated statements with positional parameters get executed directly on the {@link JdbcOperations}, bypassing the
+	 * parsing of named parameters.
+	 */
+	private JdbcOperations getJdbcOperations() {
+		return operations.getJdbcOperations();
 	}
 
 	private <T> MapSqlParameterSource createIdParameterSource(Object id, Class<T> domainType) {
@@ -357,6 +736,198 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new MapSqlParameterSource("id", converter.writeValue(id, ClassTypeInformation.from(columnType)));
 	}
 
+	private <T> List<T> findAllById(Iterable<?> ids, RowMapper<T> rowMapper,
+			RelationalPersistentEntity<T> persistentEntity) {
+
+		Class<?> targetType = persistentEntity.getRequiredIdProperty().getColumnType();
+		List<Object> values = StreamSupport.stream(ids.spliterator(), false) //
+				.map(id -> converter.writeValue(id, ClassTypeInformation.from(targetType))) //
+				.collect(Collectors.toList());
+
+		int sqlType = JdbcUtil.sqlTypeFor(targetType);
+		InListSyntax syntax = InListSyntax.of(getDialect(), sqlType);
+		String findAllInListSql = sql(persistentEntity.getType()).getFindAllInList(syntax);
+
+		List<T> result = new ArrayList<>();
+		for (List<Object> chunk : syntax.chunk(values)) {
+			result.addAll(operations.query(findAllInListSql,
+					new MapSqlParameterSource("ids", bindInList(syntax, chunk, sqlType)), rowMapper));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Loads the aggregates with the given ids, including the entities referenced via collections or maps, and returns
+	 * them in the order of the ids.
+	 */
+	private <T> List<T> findAllInOrder(List<Object> ids, RelationalPersistentEntity<T> persistentEntity) {
+
+		@SuppressWarnings("unchecked")
+		EntityRowMapper<T> rowMapper = ((EntityRowMapper<T>) getEntityRowMapper(persistentEntity.getType()))
+				.withAccessStrategy(prefetchCollections(persistentEntity, ids));
+
+		Map<Object, T> aggregatesById = new HashMap<>();
+		findAllById(ids, rowMapper, persistentEntity)
+				.forEach(aggregate -> aggregatesById.put(persistentEntity.getIdentifierAccessor(aggregate).getIdentifier(), aggregate));
+
+		// ids without a matching row, e.g. because the aggregate got deleted concurrently, get skipped
+		return ids.stream() //
+				.map(aggregatesById::get) //
+				.filter(Objects::nonNull) //
+				.collect(Collectors.toList());
+	}
+
+	private static boolean hasCollections(RelationalPersistentEntity<?> persistentEntity) {
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+			if (property.isEntity() && (property.isCollectionLike() || property.isMap())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Loads the entities referenced via collection or map properties by the aggregate roots with the given ids, using a
+	 * single query per property instead of one per aggregate root.
+	 *
+	 * @return a {@link DataAccessStrategy} providing the loaded entities to an {@link EntityRowMapper} for the aggregate
+	 *         roots.
+	 */
+	private DataAccessStrategy prefetchCollections(RelationalPersistentEntity<?> persistentEntity, List<Object> ids) {
+
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		Map<RelationalPersistentProperty, Map<Object, Iterable<?>>> prefetched = new HashMap<>();
+
+		List<Object> values = ids.stream() //
+				.map(id -> converter.writeValue(id, ClassTypeInformation.from(idProperty.getColumnType()))) //
+				.collect(Collectors.toList());
+		int sqlType = JdbcUtil.sqlTypeFor(idProperty.getColumnType());
+		InListSyntax syntax = InListSyntax.of(getDialect(), sqlType);
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+
+			if (!property.isEntity() || !(property.isCollectionLike() || property.isMap())) {
+				continue;
+			}
+
+			String reverseColumn = property.getReverseColumnName();
+			String keyColumn = property.getKeyColumn();
+			String findAllSql = sql(property.getActualType()).getFindAllByPropertyIn(reverseColumn, keyColumn,
+					property.isOrdered(), syntax);
+
+			RowMapper<?> rowMapper = getEntityRowMapper(property.getActualType());
+			Map<Object, List<Object>> elementsByRootId = new HashMap<>();
+			Map<Object, Map<Object, Object>> entriesByRootId = new HashMap<>();
+
+			RowCallbackHandler collectElements = rs -> {
+
+				Object rootId = converter.readValue(rs.getObject(reverseColumn), idProperty.getTypeInformation());
+				Object element = rowMapper.mapRow(rs, rs.getRow());
+
+				if (property.isMap()) {
+					entriesByRootId.computeIfAbsent(rootId, k -> new HashMap<>()).put(rs.getObject(keyColumn), element);
+				} else {
+					elementsByRootId.computeIfAbsent(rootId, k -> new ArrayList<>()).add(element);
+				}
+			};
+
+			for (List<Object> chunk : syntax.chunk(values)) {
+				operations.query(findAllSql, new MapSqlParameterSource(reverseColumn, bindInList(syntax, chunk, sqlType)),
+						collectElements);
+			}
+
+			Map<Object, Iterable<?>> byRootId = new HashMap<>(elementsByRootId);
+			entriesByRootId.forEach((rootId, entries) -> byRootId.put(rootId, new MapEntries<>(entries)));
+			prefetched.put(property, byRootId);
+		}
+
+		return new PrefetchingDataAccessStrategy(accessStrategy, prefetched);
+	}
+
+	private Object bindInList(InListSyntax syntax, List<Object> values, int sqlType) {
+		return syntax.bind(padInLists ? syntax.pad(values) : values, sqlType);
+	}
+
+	/**
+	 * Adds the parameters of a limited select.
+	 *
+	 * @param limit the maximum number of rows. {@literal 0} for no limit.
+	 * @return whether the select needs to get limited.
+	 */
+	private static boolean addLimitParameters(MapSqlParameterSource parameters, long offset, int limit) {
+
+		if (offset == 0 && limit == 0) {
+			return false;
+		}
+
+		parameters.addValue(SqlGenerator.LIMIT_PARAMETER, limit == 0 ? Integer.MAX_VALUE : limit);
+		parameters.addValue(SqlGenerator.OFFSET_PARAMETER, offset);
+
+		return true;
+	}
+
+	private Dialect getDialect() {
+
+		Dialect result = dialect;
+
+		if (result == null) {
+
+			result = operations.getJdbcOperations()
+					.execute((ConnectionCallback<Dialect>) connection -> DialectResolver.getDialect(connection.getMetaData()));
+
+			Assert.state(result != null, "Unable to determine the dialect of the database.");
+
+			dialect = result;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Binds the values of the conditions of {@literal criteria} to the parameters named by
+	 * {@link SqlGenerator#getConditionParameter(int)}. The values of {@link Criteria.Operator#IN} conditions get bound
+	 * with one bind parameter per value, so they must not exceed {@link Dialect#getMaxInListSize()}.
+	 */
+	private MapSqlParameterSource createConditionParameterSource(RelationalPersistentEntity<?> persistentEntity,
+			Criteria criteria) {
+
+		MapSqlParameterSource parameters = new MapSqlParameterSource();
+
+		int index = 0;
+		for (Criteria.Condition condition : criteria.getConditions()) {
+
+			String parameterName = SqlGenerator.getConditionParameter(index++);
+			Object value = condition.getValue();
+
+			if (value == null) {
+				continue;
+			}
+
+			RelationalPersistentProperty property = persistentEntity.getRequiredPersistentProperty(condition.getProperty());
+			ClassTypeInformation<?> columnType = ClassTypeInformation.from(property.getColumnType());
+
+			if (condition.getOperator() == Criteria.Operator.IN) {
+
+				int maxInListSize = getDialect().getMaxInListSize();
+				Assert.isTrue(((List<?>) value).size() <= maxInListSize,
+						() -> String.format("The condition on %s must not have more than %d values.", condition.getProperty(),
+								maxInListSize));
+
+				List<Object> values = new ArrayList<>();
+				((List<?>) value).forEach(v -> values.add(converter.writeValue(v, columnType)));
+				parameters.addValue(parameterName, padInLists ? InListSyntax.inList(getDialect()).pad(values) : values);
+			} else {
+				parameters.addValue(parameterName, converter.writeValue(value, columnType),
+						JdbcUtil.sqlTypeFor(property.getColumnType()));
+			}
+		}
+
+		return parameters;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <S> RelationalPersistentEntity<S> getRequiredPersistentEntity(Class<S> domainType) {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
@@ -365,4 +936,43 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private SqlGenerator sql(Class<?> domainType) {
 		return sqlGeneratorSource.getSqlGenerator(domainType);
 	}
+
+	/**
+	 * Serves {@link #findAllByProperty(Object, RelationalPersistentProperty)} from previously loaded entities for the
+	 * prefetched properties and delegates everything else.
+	 */
+	private static class PrefetchingDataAccessStrategy extends DelegatingDataAccessStrategy {
+
+		private final Map<RelationalPersistentProperty, Map<Object, Iterable<?>>> prefetched;
+
+		PrefetchingDataAccessStrategy(DataAccessStrategy delegate,
+				Map<RelationalPersistentProperty, Map<Object, Iterable<?>>> prefetched) {
+
+			this.prefetched = prefetched;
+			setDelegate(delegate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.core.DelegatingDataAccessStrategy#findAllByProperty(java.lang.Object, org.springframework.data.relational.core.mapping.RelationalPersistentProperty)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Iterable<T> findAllByProperty(Object rootId, RelationalPersistentProperty property) {
+
+			Map<Object, Iterable<?>> byRootId = prefetched.get(property);
+
+			if (byRootId == null) {
+				return super.findAllByProperty(rootId, property);
+			}
+
+			Iterable<?> result = byRootId.get(rootId);
+
+			if (result == null) {
+				return property.isMap() ? (Iterable<T>) new MapEntries<>(Collections.emptyMap()) : Collections.emptyList();
+			}
+
+			return (Iterable<T>) result;
+		}
+	}
 }
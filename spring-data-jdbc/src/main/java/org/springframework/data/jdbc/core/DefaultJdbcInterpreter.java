@@ -21,16 +21,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbAction.Delete;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAll;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAllRoot;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteListTail;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteRoot;
 import org.springframework.data.relational.core.conversion.DbAction.Insert;
 import org.springframework.data.relational.core.conversion.DbAction.InsertRoot;
 import org.springframework.data.relational.core.conversion.DbAction.Merge;
 import org.springframework.data.relational.core.conversion.DbAction.Update;
+import org.springframework.data.relational.core.conversion.DbAction.UpdateListElement;
 import org.springframework.data.relational.core.conversion.DbAction.UpdateRoot;
 import org.springframework.data.relational.core.conversion.Interpreter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -89,7 +92,24 @@ class DefaultJdbcInterpreter implements Interpreter {
 	 */
 	@Override
 	public <T> void interpret(UpdateRoot<T> update) {
-		accessStrategy.update(update.getEntity(), update.getEntityType());
+
+		boolean updated = accessStrategy.update(update.getEntity(), update.getEntityType());
+
+		if (!updated && context.getRequiredPersistentEntity(update.getEntityType()).hasVersionProperty()) {
+			throw new OptimisticLockingFailureException(String.format(
+					"Optimistic lock exception on saving entity of type %s: it got changed or deleted concurrently.",
+					update.getEntityType().getName()));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.UpdateListElement)
+	 */
+	@Override
+	public <T> void interpret(UpdateListElement<T> update) {
+		accessStrategy.updateListElement(update.getEntity(), update.getRootId(), update.getPropertyPath(),
+				update.getIndex());
 	}
 
 	/*
@@ -123,6 +143,15 @@ class DefaultJdbcInterpreter implements Interpreter {
 		accessStrategy.delete(delete.getRootId(), delete.getEntityType());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteListTail)
+	 */
+	@Override
+	public <T> void interpret(DeleteListTail<T> delete) {
+		accessStrategy.deleteListTail(delete.getRootId(), delete.getPropertyPath(), delete.getSize());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteAll)
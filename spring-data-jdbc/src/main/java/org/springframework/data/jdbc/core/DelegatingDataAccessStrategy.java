@@ -15,10 +15,15 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -49,6 +54,34 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.update(instance, domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateListElement(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public <T> boolean updateListElement(T instance, Object rootId,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath, int index) {
+		return delegate.updateListElement(instance, rootId, propertyPath, index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#increment(java.lang.Object, java.lang.Class, org.springframework.data.relational.core.mapping.RelationalPersistentProperty, java.lang.Number)
+	 */
+	@Override
+	public <T> Object increment(Object id, Class<T> domainType, RelationalPersistentProperty property, Number delta) {
+		return delegate.increment(id, domainType, property, delta);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.relational.core.query.Update)
+	 */
+	@Override
+	public <T> long updateAll(Class<T> domainType, Criteria criteria, Update update) {
+		return delegate.updateAll(domainType, criteria, update);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
@@ -58,6 +91,16 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.delete(rootId, propertyPath);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteListTail(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public void deleteListTail(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+			int size) {
+		delegate.deleteListTail(rootId, propertyPath, size);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -85,6 +128,24 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.deleteAll(propertyPath);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public <T> long deleteAll(Class<T> domainType, Criteria criteria) {
+		return delegate.deleteAll(domainType, criteria);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(org.springframework.data.mapping.PersistentPropertyPath, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Criteria criteria) {
+		delegate.deleteAll(propertyPath, criteria);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
@@ -94,6 +155,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.count(domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public long count(Class<?> domainType, Criteria criteria) {
+		return delegate.count(domainType, criteria);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -124,6 +194,36 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAllById(ids, domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllForUpdateSkipLocked(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort,
+			int limit) {
+		return delegate.findAllForUpdateSkipLocked(domainType, criteria, sort, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset,
+			int limit) {
+		return delegate.findAll(domainType, criteria, sort, offset, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllProperties(java.lang.Class, java.util.List, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit) {
+		return delegate.findAllProperties(domainType, properties, criteria, sort, offset, limit);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllByProperty(java.lang.Object, org.springframework.data.relational.core.mapping.RelationalPersistentProperty)
@@ -145,6 +245,24 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.existsById(id, domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#exists(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public boolean exists(Class<?> domainType, Criteria criteria) {
+		return delegate.exists(domainType, criteria);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#prepare(java.lang.Class)
+	 */
+	@Override
+	public void prepare(Class<?> domainType) {
+		delegate.prepare(domainType);
+	}
+
 	/**
 	 * Must be called exactly once before calling any of the other methods.
 	 *
@@ -17,12 +17,17 @@ package org.springframework.data.jdbc.core;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -33,7 +38,8 @@ import org.springframework.util.Assert;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
- * trigger additional SQL statements in order to load other members of the same aggregate.
+ * trigger additional SQL statements in order to load other members of the same aggregate. What gets read for an entity
+ * is determined once per entity and reused for all rows, so instances should be reused as well.
  *
  * @author Jens Schauder
  * @author Oliver Gierke
@@ -51,14 +57,76 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final DataAccessStrategy accessStrategy;
 	private final RelationalPersistentProperty idProperty;
 
+	// the properties of an entity not set via its persistence constructor, by entity
+	private final Map<RelationalPersistentEntity<?>, List<RelationalPersistentProperty>> propertiesToPopulate;
+
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, RelationalMappingContext context,
 			RelationalConverter converter, DataAccessStrategy accessStrategy) {
+		this(entity, context, converter, accessStrategy, new ConcurrentHashMap<>());
+	}
+
+	private EntityRowMapper(RelationalPersistentEntity<T> entity, RelationalMappingContext context,
+			RelationalConverter converter, DataAccessStrategy accessStrategy,
+			Map<RelationalPersistentEntity<?>, List<RelationalPersistentProperty>> propertiesToPopulate) {
 
 		this.entity = entity;
 		this.converter = converter;
 		this.context = context;
 		this.accessStrategy = accessStrategy;
 		this.idProperty = entity.getIdProperty();
+		this.propertiesToPopulate = propertiesToPopulate;
+	}
+
+	/**
+	 * Creates a {@link EntityRowMapper} loading referenced entities using a different {@link DataAccessStrategy}, sharing
+	 * what got determined about the entities so far.
+	 *
+	 * @param accessStrategy must not be {@code null}.
+	 * @return a new {@link EntityRowMapper}. Guaranteed to be not {@code null}.
+	 */
+	EntityRowMapper<T> withAccessStrategy(DataAccessStrategy accessStrategy) {
+		return new EntityRowMapper<>(entity, context, converter, accessStrategy, propertiesToPopulate);
+	}
+
+	/**
+	 * Determines what to read for the entity and for all embedded and one-to-one referenced entities read from the same
+	 * row up front instead of on first use.
+	 *
+	 * @throws MappingException if a persistence constructor has a parameter that doesn't match a property.
+	 */
+	void prepare() {
+		prepare(entity);
+	}
+
+	private void prepare(RelationalPersistentEntity<?> entity) {
+
+		if (propertiesToPopulate.containsKey(entity)) {
+			return;
+		}
+
+		PreferredConstructor<?, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+
+		if (persistenceConstructor != null) {
+
+			for (Parameter<Object, RelationalPersistentProperty> parameter : persistenceConstructor.getParameters()) {
+
+				String parameterName = parameter.getName();
+
+				if (parameterName == null || entity.getPersistentProperty(parameterName) == null) {
+					throw new MappingException(String.format("Constructor parameter %s of %s doesn't match any property.",
+							parameterName, entity.getType().getName()));
+				}
+			}
+		}
+
+		getPropertiesToPopulate(entity);
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (property.isEntity() && !property.isCollectionLike() && !property.isMap()) {
+				prepare(context.getRequiredPersistentEntity(property.getActualType()));
+			}
+		}
 	}
 
 	/*
@@ -90,14 +158,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 
 		Object id = idProperty == null ? null : readFrom(resultSet, idProperty, "");
 
-		PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
-
-		for (RelationalPersistentProperty property : entity) {
-
-			if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
-				continue;
-			}
-
+		for (RelationalPersistentProperty property : getPropertiesToPopulate(entity)) {
 			propertyAccessor.setProperty(property, readOrLoadProperty(resultSet, id, property, ""));
 		}
 
@@ -111,6 +172,9 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 			return accessStrategy.findAllByProperty(id, property);
 		} else if (property.isMap() && id != null) {
 			return ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(accessStrategy.findAllByProperty(id, property));
+		} else if ((property.isCollectionLike() || property.isMap()) && property.isEntity()) {
+			// without an id there is no way to find the referenced entities.
+			return null;
 		} else {
 			return readFrom(resultSet, property, prefix);
 		}
@@ -127,8 +191,12 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private Object readFrom(ResultSet resultSet, RelationalPersistentProperty property, String prefix) {
 
+		if (property.isEmbedded()) {
+			return readEmbeddedEntityFrom(resultSet, property, prefix);
+		}
+
 		if (property.isEntity()) {
-			return readEntityFrom(resultSet, property);
+			return readEntityFrom(resultSet, property, prefix);
 		}
 
 		Object value = getObjectFromResultSet(resultSet, prefix + property.getColumnName());
@@ -136,10 +204,17 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 
 	}
 
+	/**
+	 * Reads an entity referenced by a one-to-one relationship from the current row. The columns of such an entity are
+	 * prefixed by the path of property names leading to it, each followed by {@literal _}. Entities referenced by the
+	 * entity read get read recursively in the same way.
+	 *
+	 * @param prefix the prefix of the entity owning {@literal property}. Empty for the aggregate root.
+	 */
 	@Nullable
-	private <S> S readEntityFrom(ResultSet rs, RelationalPersistentProperty property) {
+	private <S> S readEntityFrom(ResultSet rs, RelationalPersistentProperty property, String prefix) {
 
-		String prefix = property.getName() + "_";
+		String entityPrefix = prefix + property.getName() + "_";
 
 		@SuppressWarnings("unchecked")
 		RelationalPersistentEntity<S> entity = (RelationalPersistentEntity<S>) context
@@ -150,25 +225,93 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		Object idValue = null;
 
 		if (idProperty != null) {
-			idValue = readFrom(rs, idProperty, prefix);
+			idValue = readFrom(rs, idProperty, entityPrefix);
 		}
 
 		if ((idProperty != null //
 				? idValue //
-				: getObjectFromResultSet(rs, prefix + property.getReverseColumnName()) //
+				: getObjectFromResultSet(rs, entityPrefix + property.getReverseColumnName()) //
 		) == null) {
 			return null;
 		}
 
-		S instance = createInstance(entity, rs, idValue, prefix);
+		S instance = createInstance(entity, rs, idValue, entityPrefix);
+
+		PersistentPropertyAccessor<S> accessor = converter.getPropertyAccessor(entity, instance);
+
+		for (RelationalPersistentProperty p : getPropertiesToPopulate(entity)) {
+			accessor.setProperty(p, readOrLoadProperty(rs, idValue, p, entityPrefix));
+		}
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * Reads an embedded value object from the columns of the current row. If all of these columns are {@code null} the
+	 * embedded value object is considered to be {@code null} as well.
+	 */
+	@Nullable
+	private <S> S readEmbeddedEntityFrom(ResultSet rs, RelationalPersistentProperty property, String prefix) {
+
+		String embeddedPrefix = prefix + property.getEmbeddedPrefix();
+
+		@SuppressWarnings("unchecked")
+		RelationalPersistentEntity<S> entity = (RelationalPersistentEntity<S>) context
+				.getRequiredPersistentEntity(property.getActualType());
+
+		if (!hasNonNullValue(rs, entity, embeddedPrefix)) {
+			return null;
+		}
+
+		S instance = createInstance(entity, rs, null, embeddedPrefix);
 
 		PersistentPropertyAccessor<S> accessor = converter.getPropertyAccessor(entity, instance);
 
+		for (RelationalPersistentProperty p : getPropertiesToPopulate(entity)) {
+			accessor.setProperty(p, readFrom(rs, p, embeddedPrefix));
+		}
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * @return the properties of {@literal entity} that don't get set via its persistence constructor. Determined once
+	 *         per entity, instead of checking every property against the constructor for every row.
+	 */
+	private List<RelationalPersistentProperty> getPropertiesToPopulate(RelationalPersistentEntity<?> entity) {
+
+		return propertiesToPopulate.computeIfAbsent(entity, e -> {
+
+			PreferredConstructor<?, RelationalPersistentProperty> persistenceConstructor = e.getPersistenceConstructor();
+			List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+			for (RelationalPersistentProperty property : e) {
+
+				if (persistenceConstructor == null || !persistenceConstructor.isConstructorParameter(property)) {
+					properties.add(property);
+				}
+			}
+
+			return Collections.unmodifiableList(properties);
+		});
+	}
+
+	private boolean hasNonNullValue(ResultSet rs, RelationalPersistentEntity<?> entity, String prefix) {
+
 		for (RelationalPersistentProperty p : entity) {
-			accessor.setProperty(p, readFrom(rs, p, prefix));
+
+			if (p.isEmbedded()) {
+
+				RelationalPersistentEntity<?> embeddedEntity = context.getRequiredPersistentEntity(p.getActualType());
+				if (hasNonNullValue(rs, embeddedEntity, prefix + p.getEmbeddedPrefix())) {
+					return true;
+				}
+			} else if (!p.isEntity() && getObjectFromResultSet(rs, prefix + p.getColumnName()) != null) {
+				return true;
+			}
 		}
 
-		return instance;
+		return false;
 	}
 
 	@Nullable
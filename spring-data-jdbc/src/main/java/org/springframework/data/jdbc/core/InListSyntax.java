@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.jdbc.core.dialect.Dialect;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * The syntax for matching a column against a list of values, like the ids of aggregates to load. Databases supporting
+ * arrays get the values as a single array parameter, resulting in the same statement for any number of values. Others
+ * get one bind parameter per value, in chunks small enough for the limits of the database.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class InListSyntax {
+
+	private final Dialect dialect;
+	private final boolean array;
+
+	/**
+	 * @param dialect the {@link Dialect} of the database. Must not be {@code null}.
+	 * @param sqlType the SQL type of the values as defined in {@link java.sql.Types}.
+	 * @return a single array parameter if the dialect supports it and the type is known, an {@code IN} list otherwise.
+	 */
+	static InListSyntax of(Dialect dialect, int sqlType) {
+		return new InListSyntax(dialect, dialect.supportsArrayParameters() && sqlType != JdbcUtils.TYPE_UNKNOWN);
+	}
+
+	/**
+	 * @param dialect the {@link Dialect} of the database. Must not be {@code null}.
+	 * @return an {@code IN} list with one bind parameter per value.
+	 */
+	static InListSyntax inList(Dialect dialect) {
+		return new InListSyntax(dialect, false);
+	}
+
+	/**
+	 * Renders the condition.
+	 *
+	 * @param column the possibly qualified column to match.
+	 * @param parameterName the name of the parameter holding the values.
+	 * @return a SQL condition. Guaranteed to be not {@code null}.
+	 */
+	String render(String column, String parameterName) {
+
+		return array //
+				? dialect.inArray(column, parameterName) //
+				: String.format("%s IN (:%s)", column, parameterName);
+	}
+
+	/**
+	 * @param values the values to bind. Must not be {@code null} nor exceed the maximum number of values.
+	 * @param sqlType the SQL type of the values as defined in {@link java.sql.Types}.
+	 * @return the value of the parameter named in the condition. Guaranteed to be not {@code null}.
+	 */
+	Object bind(List<?> values, int sqlType) {
+
+		if (!array) {
+			return values;
+		}
+
+		return new AbstractSqlTypeValue() {
+
+			@Override
+			protected Object createTypeValue(Connection connection, int ignoredSqlType, String typeName)
+					throws SQLException {
+				return connection.createArrayOf(JDBCType.valueOf(sqlType).getName(), values.toArray());
+			}
+		};
+	}
+
+	/**
+	 * Splits the values into chunks, each of which can be bound in a single statement.
+	 *
+	 * @param values the values to split. Must not be {@code null}.
+	 * @return the chunks. Empty if there are no values.
+	 */
+	<T> List<List<T>> chunk(List<T> values) {
+
+		int maxValues = getMaxValues();
+
+		if (values.size() <= maxValues) {
+			return values.isEmpty() ? Collections.emptyList() : Collections.singletonList(values);
+		}
+
+		List<List<T>> chunks = new ArrayList<>();
+
+		for (int start = 0; start < values.size(); start += maxValues) {
+			chunks.add(values.subList(start, Math.min(start + maxValues, values.size())));
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Pads a list of values bound as one parameter per value to the next power of two, by repeating the last value. This
+	 * limits the number of distinct statements after expanding the parameters to one per power of two, which keeps them
+	 * in the statement and plan caches of driver and database. Lists exceeding the maximum number of values of the
+	 * dialect get padded up to that maximum only. Values bound as a single array don't get padded.
+	 *
+	 * @param values the values to pad. Must not be {@code null}.
+	 * @return the padded values. Guaranteed to be not {@code null}.
+	 */
+	<T> List<T> pad(List<T> values) {
+
+		if (array || values.isEmpty()) {
+			return values;
+		}
+
+		int paddedSize = 1;
+		while (paddedSize < values.size()) {
+			paddedSize <<= 1;
+		}
+		paddedSize = Math.max(Math.min(paddedSize, getMaxValues()), values.size());
+
+		List<T> padded = new ArrayList<>(paddedSize);
+		padded.addAll(values);
+		while (padded.size() < paddedSize) {
+			padded.add(values.get(values.size() - 1));
+		}
+
+		return padded;
+	}
+
+	private int getMaxValues() {
+		return array ? Integer.MAX_VALUE : dialect.getMaxInListSize();
+	}
+}
@@ -37,6 +37,10 @@ class IterableOfEntryToMapConverter implements ConditionalConverter, Converter<I
 	@Override
 	public Map<?, ?> convert(Iterable<?> source) {
 
+		if (source instanceof MapEntries) {
+			return ((MapEntries<?, ?>) source).getMap();
+		}
+
 		Map result = new HashMap();
 
 		source.forEach(element -> {
@@ -15,6 +15,12 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.lang.Nullable;
 
 /**
@@ -33,6 +39,49 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T save(T instance);
 
+	/**
+	 * Atomically adds {@code delta} to a numeric property of an aggregate root without loading the aggregate. The
+	 * database performs the addition in a single update statement, so concurrent increments don't get lost. Negative
+	 * values for {@code delta} decrement the property. Since the aggregate doesn't get loaded or saved, no events get
+	 * published.
+	 * <p>
+	 * A {@link org.springframework.data.annotation.Version} property of the aggregate root gets incremented by the same
+	 * statement, so concurrent saves of instances loaded before the increment fail with an
+	 * {@link org.springframework.dao.OptimisticLockingFailureException}.
+	 * <p>
+	 * If the {@link org.springframework.data.jdbc.core.dialect.Dialect} supports returning values from updates, the new
+	 * value gets returned by the update statement itself. Otherwise it gets read by a separate query right after the
+	 * update. It is only guaranteed to be the value written by this update while the updated row stays locked, so this
+	 * requires an active transaction.
+	 *
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param propertyName the name of a simple numeric property of the aggregate root, which is neither its id nor its
+	 *          version. Must not be {@code null}.
+	 * @param delta the value to add. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the value of the property after the update or {@code null} if there is no aggregate root with the given
+	 *         id.
+	 * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active and the
+	 *           database can't return values from updates.
+	 */
+	@Nullable
+	<T> Number increment(Object id, Class<T> domainType, String propertyName, Number delta);
+
+	/**
+	 * Assigns new values to simple properties of all aggregate roots matching the {@code criteria} using a single update
+	 * statement, without loading the aggregates. Instead of events for each aggregate, a single
+	 * {@link org.springframework.data.relational.core.mapping.event.AfterBulkChangeEvent} gets published. A
+	 * {@link org.springframework.data.annotation.Version} property gets incremented, unless it gets assigned explicitly.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots to update. Must not be {@code null}.
+	 * @param update the new values. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the number of updated aggregate roots.
+	 */
+	<T> long updateAll(Class<T> domainType, Criteria criteria, Update update);
+
 	/**
 	 * Deletes a single Aggregate including all entities contained in that aggregate.
 	 *
@@ -58,6 +107,19 @@ public interface JdbcAggregateOperations {
 	 */
 	void deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all aggregates with a root matching the {@code criteria}, without loading them. Referenced entities get
+	 * deleted with one statement per table, selecting the rows via their aggregate root. Instead of events for each
+	 * aggregate, a single {@link org.springframework.data.relational.core.mapping.event.AfterBulkChangeEvent} gets
+	 * published.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots to delete. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the number of deleted aggregates.
+	 */
+	<T> long deleteAll(Class<T> domainType, Criteria criteria);
+
 	/**
 	 * Counts the number of aggregates of a given type.
 	 *
@@ -66,6 +128,15 @@ public interface JdbcAggregateOperations {
 	 */
 	long count(Class<?> domainType);
 
+	/**
+	 * Counts the aggregates with a root matching the {@code criteria}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots to count. Must not be {@code null}.
+	 * @return the number of matching aggregates.
+	 */
+	long count(Class<?> domainType, Criteria criteria);
+
 	/**
 	 * Load an aggregate from the database.
 	 *
@@ -87,6 +158,26 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType);
 
+	/**
+	 * Loads at most {@code limit} aggregates with a root matching the {@code criteria}, locking the rows of their
+	 * aggregate roots until the end of the current transaction and skipping rows locked by other transactions. This
+	 * allows many consumers to take work from a queue table concurrently without waiting for each other. It uses
+	 * {@code FOR UPDATE SKIP LOCKED} or the equivalent of the database. On databases not able to skip locked rows, like
+	 * HSQLDB or MySQL before 8.0, consumers wait for locked rows instead. Entities referenced via collections or maps by
+	 * the aggregate roots get loaded with a single query per property.
+	 * <p>
+	 * Must be called within a transaction, otherwise the locks would get released right away.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots. May be {@code null} to consider all aggregate roots.
+	 * @param sort the order in which aggregate roots get selected, e.g. the order of creation. Must not be {@code null}.
+	 * @param limit the maximum number of aggregates to load. Must be greater than zero.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the loaded aggregates in the order given by {@code sort}. Guaranteed to be not {@code null}.
+	 * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active.
+	 */
+	<T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort, int limit);
+
 	/**
 	 * Load all aggregates of a given type.
 	 *
@@ -96,6 +187,35 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Loads the aggregates with a root matching the {@code criteria}. Entities referenced via collections or maps by the
+	 * aggregate roots get loaded with a single query per property instead of one query per aggregate.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots. May be {@code null} to load all aggregates.
+	 * @param sort the order of the aggregates. Must not be {@code null}.
+	 * @param offset the number of matching aggregates to skip, e.g. the offset of a page.
+	 * @param limit the maximum number of aggregates to load. {@literal 0} loads all matching aggregates.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the loaded aggregates in the order given by {@code sort}. Guaranteed to be not {@code null}.
+	 */
+	<T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset, int limit);
+
+	/**
+	 * Loads the values of some simple properties of the aggregate roots matching the {@code criteria}, selecting only the
+	 * columns needed, e.g. for a projection. No events get published since no aggregates get loaded.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param properties the names of the simple properties to load. Must not be {@code null} or empty.
+	 * @param criteria selects the aggregate roots. May be {@code null} to consider all aggregate roots.
+	 * @param sort the order of the aggregate roots. Must not be {@code null}.
+	 * @param offset the number of matching aggregate roots to skip.
+	 * @param limit the maximum number of aggregate roots to load. {@literal 0} loads all matching aggregate roots.
+	 * @return for each aggregate root the property values by property name. Guaranteed to be not {@code null}.
+	 */
+	Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit);
+
 	/**
 	 * Checks if an aggregate identified by type and id exists in the database.
 	 *
@@ -105,4 +225,13 @@ public interface JdbcAggregateOperations {
 	 * @return whether the aggregate exists.
 	 */
 	<T> boolean existsById(Object id, Class<T> domainType);
+
+	/**
+	 * Checks if an aggregate with a root matching the {@code criteria} exists in the database.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param criteria selects the aggregate roots. Must not be {@code null}.
+	 * @return whether a matching aggregate exists.
+	 */
+	boolean exists(Class<?> domainType, Criteria criteria);
 }
@@ -15,18 +15,34 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
+import org.springframework.data.relational.core.conversion.AggregateFingerprint;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.data.relational.core.conversion.Interpreter;
+import org.springframework.data.relational.core.conversion.PersistedLists;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.event.AfterBulkChangeEvent;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
 import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
@@ -34,8 +50,15 @@ import org.springframework.data.relational.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.relational.core.mapping.event.Identifier;
 import org.springframework.data.relational.core.mapping.event.Identifier.Specified;
+import org.springframework.data.relational.core.mapping.event.SaveSkippedEvent;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link JdbcAggregateOperations} implementation, storing aggregates in and obtaining them from a JDBC data store.
@@ -55,6 +78,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	private final DataAccessStrategy accessStrategy;
 
+	private int streamingChunkSize = 0;
+	private boolean skipUnchangedSaves = false;
+	private boolean synchronizeListsByPosition = false;
+
+	// tracked per loaded instance, independent of equals and hashCode of the aggregate root
+	private final WeakIdentityMap<Object, AggregateFingerprint> fingerprints = new WeakIdentityMap<>();
+	private final WeakIdentityMap<Object, PersistedLists> persistedLists = new WeakIdentityMap<>();
+
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationEventPublisher},
 	 * {@link RelationalMappingContext} and {@link DataAccessStrategy}.
@@ -81,11 +112,93 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.interpreter = new DefaultJdbcInterpreter(context, accessStrategy);
 	}
 
+	/**
+	 * Prepares everything needed for saving and loading aggregates with the given root type up front instead of on first
+	 * use: the plan for writing the aggregate, the SQL statements and the row mappers.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @throws org.springframework.data.mapping.MappingException when the aggregate can't be mapped to the database.
+	 * @see DataAccessStrategy#prepare(Class)
+	 */
+	public void prepare(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		jdbcEntityWriter.prepare(domainType);
+		accessStrategy.prepare(domainType);
+	}
+
+	/**
+	 * Configures saving aggregates in streaming mode. In streaming mode the {@link DbAction}s for saving an aggregate
+	 * don't get collected before they are executed, but get executed in chunks of at most {@code streamingChunkSize}
+	 * actions while they get created. This keeps the memory required for saving aggregates with very large collections
+	 * bounded. The {@link AggregateChange} published with {@link BeforeSaveEvent} and {@link AfterSaveEvent} does not
+	 * contain any actions in streaming mode.
+	 *
+	 * @param streamingChunkSize the maximum number of actions to create before executing them. {@literal 0} disables
+	 *          streaming mode, which is the default.
+	 */
+	public void setStreamingChunkSize(int streamingChunkSize) {
+
+		Assert.isTrue(streamingChunkSize >= 0, "The streaming chunk size must not be negative!");
+
+		this.streamingChunkSize = streamingChunkSize;
+	}
+
+	/**
+	 * Configures skipping saves of aggregates that did not change since they got loaded. When enabled, a fingerprint of
+	 * every aggregate instance loaded by this template gets taken after the {@link AfterLoadEvent} got published. Saving
+	 * that same instance without any change to its persistent state doesn't touch the database. Instead of
+	 * {@link BeforeSaveEvent} and {@link AfterSaveEvent} a {@link SaveSkippedEvent} gets published. Aggregates containing
+	 * values of mutable types the fingerprint can't copy always get saved, see {@link AggregateFingerprint}.
+	 * <p>
+	 * Since changes made to the database by other means than this template can't be detected, this should only be
+	 * enabled when all changes to the affected aggregates get performed by this template. Fingerprints get discarded in
+	 * the same situations as the recorded lists described in {@link #setSynchronizeListsByPosition(boolean)}.
+	 *
+	 * @param skipUnchangedSaves {@literal true} to skip saving unchanged aggregates. The default is {@literal false}.
+	 */
+	public void setSkipUnchangedSaves(boolean skipUnchangedSaves) {
+
+		this.skipUnchangedSaves = skipUnchangedSaves;
+
+		if (!skipUnchangedSaves) {
+			fingerprints.clear();
+		}
+	}
+
+	/**
+	 * Configures synchronizing {@link java.util.List}s position by position. When enabled, the state of the lists of
+	 * every aggregate instance loaded by this template gets recorded. When such an aggregate gets saved the first time after it got
+	 * loaded, its lists don't get deleted and inserted as a whole. Instead appended elements get inserted, changed
+	 * elements get updated using the index stored in the key column and removed trailing elements get deleted. Thus
+	 * appending to a list only inserts the new elements. This applies to lists directly referenced by the aggregate root
+	 * with elements that have neither an id nor reference further entities.
+	 * <p>
+	 * Since changes made to the database by other means than this template can't be detected, this should only be
+	 * enabled when all changes to the affected aggregates get performed by this template. Deleting aggregates or changing
+	 * them in bulk discards the recorded state of the affected aggregates. If an aggregate got loaded within a
+	 * transaction that doesn't commit, its recorded state gets discarded as well, since it might contain changes that got
+	 * rolled back.
+	 *
+	 * @param synchronizeListsByPosition {@literal true} to synchronize lists position by position. The default is
+	 *          {@literal false}.
+	 */
+	public void setSynchronizeListsByPosition(boolean synchronizeListsByPosition) {
+
+		this.synchronizeListsByPosition = synchronizeListsByPosition;
+
+		if (!synchronizeListsByPosition) {
+			persistedLists.clear();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#save(java.lang.Object)
 	 */
 	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <T> T save(T instance) {
 
 		Assert.notNull(instance, "Aggregate instance must not be null!");
@@ -93,7 +206,19 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
 		IdentifierAccessor identifierAccessor = persistentEntity.getIdentifierAccessor(instance);
 
-		AggregateChange<T> change = createChange(instance);
+		if (skipUnchangedSaves && isUnchanged(instance)) {
+
+			publisher.publishEvent(new SaveSkippedEvent( //
+					Identifier.of(identifierAccessor.getRequiredIdentifier()), //
+					instance, //
+					new AggregateChange(Kind.SAVE, instance.getClass(), instance) //
+			));
+
+			return instance;
+		}
+
+		// after saving, the recorded lists no longer reflect the state in the database
+		AggregateChange<T> change = createChange(instance, persistedLists.remove(instance));
 
 		publisher.publishEvent(new BeforeSaveEvent( //
 				Identifier.ofNullable(identifierAccessor.getIdentifier()), //
@@ -101,7 +226,27 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 				change //
 		));
 
-		change.executeWith(interpreter, context, converter);
+		// determined before executing the change, since the version decides whether the aggregate is new
+		Number version = persistentEntity.hasVersionProperty() ? getNextVersion(persistentEntity, instance) : null;
+
+		try {
+
+			if (streamingChunkSize > 0) {
+				change.executeStreamingWith(interpreter, context, converter, jdbcEntityWriter, streamingChunkSize);
+			} else {
+				change.executeWith(interpreter, context, converter);
+			}
+		} catch (DbActionExecutionException e) {
+
+			if (e.getCause() instanceof OptimisticLockingFailureException) {
+				throw (OptimisticLockingFailureException) e.getCause();
+			}
+			throw e;
+		}
+
+		if (version != null) {
+			change.setEntity(withVersion(persistentEntity, change.getEntity(), version));
+		}
 
 		Object identifier = persistentEntity.getIdentifierAccessor(change.getEntity()).getIdentifier();
 
@@ -116,6 +261,48 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return (T) change.getEntity();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#increment(java.lang.Object, java.lang.Class, java.lang.String, java.lang.Number)
+	 */
+	@Override
+	public <T> Number increment(Object id, Class<T> domainType, String propertyName, Number delta) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(propertyName, "Property name must not be null!");
+		Assert.notNull(delta, "Delta must not be null!");
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+		RelationalPersistentProperty property = persistentEntity.getRequiredPersistentProperty(propertyName);
+
+		Assert.isTrue(!property.isEntity() && !persistentEntity.isIdProperty(property) && !property.isVersionProperty()
+				&& Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(property.getType())),
+				() -> String.format("%s is not a simple numeric property of %s!", propertyName, domainType.getName()));
+
+		return (Number) accessStrategy.increment(id, domainType, property, delta);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#updateAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.relational.core.query.Update)
+	 */
+	@Override
+	public <T> long updateAll(Class<T> domainType, Criteria criteria, Update update) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(criteria, "Criteria must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		long updated = accessStrategy.updateAll(domainType, criteria, update);
+
+		forgetLoaded(domainType);
+
+		publisher.publishEvent(new AfterBulkChangeEvent(new AggregateChange<>(Kind.SAVE, domainType, null), criteria,
+				updated));
+
+		return updated;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#count(java.lang.Class)
@@ -125,6 +312,19 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return accessStrategy.count(domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#count(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public long count(Class<?> domainType, Criteria criteria) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(criteria, "Criteria must not be null!");
+
+		return accessStrategy.count(domainType, criteria);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findById(java.lang.Object, java.lang.Class)
@@ -160,6 +360,52 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return all;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset,
+			int limit) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(limit >= 0, "Limit must not be negative!");
+
+		Iterable<T> all = accessStrategy.findAll(domainType, criteria, sort, offset, limit);
+		publishAfterLoad(all);
+		return all;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAllProperties(java.lang.Class, java.util.List, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notEmpty(properties, "Properties must not be empty!");
+		Assert.notNull(sort, "Sort must not be null!");
+
+		return accessStrategy.findAllProperties(domainType, properties, criteria, sort, offset, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#exists(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public boolean exists(Class<?> domainType, Criteria criteria) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(criteria, "Criteria must not be null!");
+
+		return accessStrategy.exists(domainType, criteria);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAllById(java.lang.Iterable, java.lang.Class)
@@ -172,6 +418,30 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return allById;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAllForUpdateSkipLocked(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort,
+			int limit) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		// without a transaction the locks get released right away, so other consumers would take the same work
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalTransactionStateException(String.format(
+					"Loading %s for update requires an active transaction, since the locks get released when it ends!",
+					domainType.getName()));
+		}
+
+		Iterable<T> locked = accessStrategy.findAllForUpdateSkipLocked(domainType, criteria, sort, limit);
+		publishAfterLoad(locked);
+		return locked;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#delete(java.lang.Object, java.lang.Class)
@@ -202,13 +472,44 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	public void deleteAll(Class<?> domainType) {
 
 		AggregateChange<?> change = createDeletingChange(domainType);
+		forgetLoaded(domainType);
 		change.executeWith(interpreter, context, converter);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#deleteAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public <T> long deleteAll(Class<T> domainType, Criteria criteria) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(criteria, "Criteria must not be null!");
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> paths = new ArrayList<>();
+		context.findPersistentPropertyPaths(domainType, p -> p.isEntity() && !p.isEmbedded()).forEach(paths::add);
+
+		// referenced entities get deleted bottom up, while their aggregate roots still match the criteria
+		Collections.reverse(paths);
+		paths.forEach(path -> accessStrategy.deleteAll(path, criteria));
+
+		long deleted = accessStrategy.deleteAll(domainType, criteria);
+
+		forgetLoaded(domainType);
+
+		publisher.publishEvent(new AfterBulkChangeEvent(new AggregateChange<>(Kind.DELETE, domainType, null), criteria,
+				deleted));
+
+		return deleted;
+	}
+
 	private void deleteTree(Object id, @Nullable Object entity, Class<?> domainType) {
 
 		AggregateChange<?> change = createDeletingChange(id, entity, domainType);
 
+		// the deleted aggregate might still be referenced and get saved again later
+		forgetLoaded(domainType, id);
+
 		Specified specifiedId = Identifier.of(id);
 		Optional<Object> optionalEntity = Optional.ofNullable(entity);
 		publisher.publishEvent(new BeforeDeleteEvent(specifiedId, optionalEntity, change));
@@ -219,10 +520,16 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private <T> AggregateChange<T> createChange(T instance) {
+	private <T> AggregateChange<T> createChange(T instance, @Nullable PersistedLists lists) {
 
 		AggregateChange<T> aggregateChange = new AggregateChange(Kind.SAVE, instance.getClass(), instance);
-		jdbcEntityWriter.write(instance, aggregateChange);
+		aggregateChange.setPersistedLists(lists);
+
+		// in streaming mode the actions get created while the change gets executed
+		if (streamingChunkSize == 0) {
+			jdbcEntityWriter.write(instance, aggregateChange);
+		}
+
 		return aggregateChange;
 	}
 
@@ -253,6 +560,136 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	}
 
 	private <T> void publishAfterLoad(Object id, T entity) {
+
 		publisher.publishEvent(new AfterLoadEvent(Identifier.of(id), entity));
+
+		if (skipUnchangedSaves || synchronizeListsByPosition) {
+
+			RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entity.getClass());
+			Object aggregate = getLoadedGroup(persistentEntity.getType(),
+					persistentEntity.getIdentifierAccessor(entity).getIdentifier());
+
+			if (skipUnchangedSaves) {
+				fingerprints.put(entity, aggregate, AggregateFingerprint.of(entity, context));
+			}
+
+			if (synchronizeListsByPosition) {
+				persistedLists.put(entity, aggregate, PersistedLists.of(entity, context));
+			}
+
+			forgetOnRollback(entity);
+		}
+	}
+
+	/**
+	 * Aggregates loaded within a transaction might reflect changes of that transaction. If it doesn't get committed,
+	 * what got recorded about them doesn't match the database.
+	 */
+	@SuppressWarnings("unchecked")
+	private void forgetOnRollback(Object entity) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		List<Object> loadedInTransaction = (List<Object>) TransactionSynchronizationManager.getResource(this);
+
+		if (loadedInTransaction == null) {
+
+			List<Object> loaded = new ArrayList<>();
+			TransactionSynchronizationManager.bindResource(this, loaded);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					TransactionSynchronizationManager.unbindResourceIfPossible(JdbcAggregateTemplate.this);
+
+					if (status != STATUS_COMMITTED) {
+						loaded.forEach(JdbcAggregateTemplate.this::forget);
+					}
+				}
+			});
+
+			loadedInTransaction = loaded;
+		}
+
+		loadedInTransaction.add(entity);
+	}
+
+	private void forgetLoaded(Class<?> domainType) {
+
+		fingerprints.removeIf(domainType::isInstance);
+		persistedLists.removeIf(domainType::isInstance);
+	}
+
+	private void forgetLoaded(Class<?> domainType, Object id) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(persistentEntity.getRequiredIdProperty().getType());
+		ConversionService conversionService = converter.getConversionService();
+		Object typedId = !idType.isInstance(id) && conversionService.canConvert(id.getClass(), idType) //
+				? conversionService.convert(id, idType) //
+				: id;
+
+		Object aggregate = getLoadedGroup(persistentEntity.getType(), typedId);
+
+		fingerprints.removeGroup(aggregate);
+		persistedLists.removeGroup(aggregate);
+	}
+
+	/**
+	 * Instances loaded for the same aggregate root share a group in {@link #fingerprints} and {@link #persistedLists}, so
+	 * deleting the aggregate doesn't need to look at the instances of all other aggregates.
+	 */
+	private static Object getLoadedGroup(Class<?> domainType, @Nullable Object id) {
+		return Arrays.asList(domainType, id);
+	}
+
+	private void forget(Object loaded) {
+
+		fingerprints.remove(loaded);
+		persistedLists.remove(loaded);
+	}
+
+	/**
+	 * @return the version the aggregate root has in the database after it got saved.
+	 */
+	private static Number getNextVersion(RelationalPersistentEntity<?> persistentEntity, Object instance) {
+
+		RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
+
+		return persistentEntity.isNew(instance) //
+				? VersionUtil.initialVersion(versionProperty) //
+				: VersionUtil.nextVersion(versionProperty,
+						persistentEntity.getPropertyAccessor(instance).getProperty(versionProperty));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T withVersion(RelationalPersistentEntity<?> persistentEntity, T instance, Number version) {
+
+		PersistentPropertyAccessor<T> accessor = converter
+				.getPropertyAccessor((RelationalPersistentEntity<T>) persistentEntity, instance);
+		accessor.setProperty(persistentEntity.getRequiredVersionProperty(), version);
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * Checks if the aggregate is unchanged since it got loaded. The fingerprint of a changed aggregate gets discarded,
+	 * since after saving it no longer reflects the state in the database.
+	 */
+	private boolean isUnchanged(Object instance) {
+
+		AggregateFingerprint fingerprint = fingerprints.get(instance);
+
+		if (fingerprint == null || !fingerprint.equals(AggregateFingerprint.of(instance, context))) {
+
+			fingerprints.remove(instance);
+			return false;
+		}
+
+		return true;
 	}
 }
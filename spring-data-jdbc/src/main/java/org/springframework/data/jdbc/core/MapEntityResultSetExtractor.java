@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2018 the original author or authors.
+ * Copyright 2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,17 +20,15 @@ import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.lang.NonNull;
 
 /**
- * A {@link RowMapper} that maps a row to a {@link Map.Entry} so an {@link Iterable} of those can be converted to a
- * {@link Map} using an {@link IterableOfEntryToMapConverter}. Creation of the {@literal value} part of the resulting
- * {@link Map.Entry} is delegated to a {@link RowMapper} provided in the constructor.
- *
- * @author Jens Schauder
+ * A {@link ResultSetExtractor} that builds a {@link Map} directly from a {@link ResultSet}, using the value of the key
+ * column as map key. Creation of the map values is delegated to a {@link RowMapper} provided in the constructor. This
+ * avoids creating an intermediate {@link Map.Entry} per row and an intermediate {@link java.util.List} of those.
  */
-class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
+class MapEntityResultSetExtractor<T> implements ResultSetExtractor<MapEntries<Object, T>> {
 
 	private final RowMapper<T> delegate;
 	private final String keyColumn;
@@ -39,15 +37,26 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	 * @param delegate rowmapper used as a delegate for obtaining the map values.
 	 * @param keyColumn the name of the key column.
 	 */
-	MapEntityRowMapper(RowMapper<T> delegate, String keyColumn) {
+	MapEntityResultSetExtractor(RowMapper<T> delegate, String keyColumn) {
 
 		this.delegate = delegate;
 		this.keyColumn = keyColumn;
 	}
 
-	@NonNull
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.ResultSetExtractor#extractData(java.sql.ResultSet)
+	 */
 	@Override
-	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
-		return new HashMap.SimpleEntry<>(rs.getObject(keyColumn), delegate.mapRow(rs, rowNum));
+	public MapEntries<Object, T> extractData(ResultSet rs) throws SQLException {
+
+		Map<Object, T> result = new HashMap<>();
+
+		int rowNum = 0;
+		while (rs.next()) {
+			result.put(rs.getObject(keyColumn), delegate.mapRow(rs, rowNum++));
+		}
+
+		return new MapEntries<>(result);
 	}
 }
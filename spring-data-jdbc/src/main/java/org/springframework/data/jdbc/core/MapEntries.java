@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An {@link Iterable} of {@link Map.Entry} backed by a {@link Map}. It allows {@link DataAccessStrategy} implementations
+ * to return the values of a {@link Map} valued property as required by
+ * {@link DataAccessStrategy#findAllByProperty(Object, org.springframework.data.relational.core.mapping.RelationalPersistentProperty)}
+ * while still giving the {@link IterableOfEntryToMapConverter} the chance to use the backing {@link Map} as is instead
+ * of copying it.
+ */
+class MapEntries<K, V> implements Iterable<Map.Entry<K, V>> {
+
+	private final Map<K, V> map;
+
+	MapEntries(Map<K, V> map) {
+		this.map = map;
+	}
+
+	/**
+	 * @return the backing {@link Map}. Guaranteed to be not {@code null}.
+	 */
+	Map<K, V> getMap() {
+		return map;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<Map.Entry<K, V>> iterator() {
+		return map.entrySet().iterator();
+	}
+}
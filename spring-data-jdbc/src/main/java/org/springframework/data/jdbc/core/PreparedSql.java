@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.relational.core.sql.RenderedSql;
+import org.springframework.data.relational.core.sql.SqlRenderer;
+import org.springframework.data.relational.core.sql.Statement;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * A generated SQL statement with positional parameters, to be executed directly on
+ * {@link org.springframework.jdbc.core.JdbcOperations}. Since the parameters of generated statements are known when
+ * they get rendered, neither parsing the SQL for named parameters nor substituting them is necessary on execution,
+ * which {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} does for every call. Parameters
+ * with values consisting of multiple elements, like {@code IN} lists, aren't supported.
+ */
+class PreparedSql {
+
+	private final List<String> parameterNames;
+	private final PreparedStatementCreatorFactory factory;
+
+	/**
+	 * @param statement the statement to render. Must not be {@code null}.
+	 * @param returnGeneratedKeys whether the statement is an insert generating keys.
+	 */
+	PreparedSql(Statement statement, boolean returnGeneratedKeys) {
+
+		RenderedSql rendered = SqlRenderer.positional().render(statement);
+
+		this.parameterNames = rendered.getParameterNames();
+		this.factory = new PreparedStatementCreatorFactory(rendered.getSql(), parameterNames.stream() //
+				.map(name -> new SqlParameter(name, JdbcUtils.TYPE_UNKNOWN)) //
+				.collect(Collectors.toList()));
+		this.factory.setReturnGeneratedKeys(returnGeneratedKeys);
+	}
+
+	/**
+	 * @return the SQL with a {@code ?} per parameter. Guaranteed to be not {@code null}.
+	 */
+	String getSql() {
+		return factory.getSql();
+	}
+
+	/**
+	 * @return the names of the parameters in the order of their bind markers. Guaranteed to be not {@code null}.
+	 */
+	List<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * @param parameters the values of the parameters by name, including their SQL types if known. Must not be
+	 *          {@code null}.
+	 * @return a {@link PreparedStatementCreator} binding the values by position. Guaranteed to be not {@code null}.
+	 * @throws IllegalArgumentException if no value is supplied for one of the parameters.
+	 */
+	PreparedStatementCreator bind(SqlParameterSource parameters) {
+		return factory.newPreparedStatementCreator(getArguments(parameters));
+	}
+
+	/**
+	 * @param parameters the values of the parameters by name, including their SQL types if known. Must not be
+	 *          {@code null}.
+	 * @return the values in the order of the bind markers. Values of known SQL type are wrapped in
+	 *         {@link SqlParameterValue}s. Guaranteed to be not {@code null}.
+	 */
+	Object[] getArguments(SqlParameterSource parameters) {
+
+		Object[] arguments = new Object[parameterNames.size()];
+
+		for (int i = 0; i < arguments.length; i++) {
+
+			String name = parameterNames.get(i);
+			Object value = parameters.getValue(name);
+			int sqlType = parameters.getSqlType(name);
+
+			arguments[i] = sqlType == JdbcUtils.TYPE_UNKNOWN //
+					? value //
+					: new SqlParameterValue(sqlType, parameters.getTypeName(name), value);
+		}
+
+		return arguments;
+	}
+}
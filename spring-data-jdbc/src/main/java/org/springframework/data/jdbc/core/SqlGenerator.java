@@ -16,21 +16,42 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.dialect.Dialect;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
-import org.springframework.data.util.Lazy;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.BindMarker;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.Join;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SqlRenderer;
+import org.springframework.data.relational.core.sql.Statement;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -43,22 +64,46 @@ import org.springframework.util.Assert;
  */
 class SqlGenerator {
 
+	/**
+	 * Name of the parameter holding the version an entity with a {@link org.springframework.data.annotation.Version}
+	 * property is expected to have in the database when it gets updated.
+	 */
+	static final String EXPECTED_VERSION_PARAMETER = "___expectedVersion";
+
+	/**
+	 * Names of the parameters holding the maximum number of rows and the number of rows to skip of limited selects.
+	 */
+	static final String LIMIT_PARAMETER = "___limit";
+	static final String OFFSET_PARAMETER = "___offset";
+
+	private static final SqlRenderer RENDERER = SqlRenderer.named();
+
 	private final RelationalPersistentEntity<?> entity;
 	private final RelationalMappingContext context;
+	private final Table table;
 	private final List<String> columnNames = new ArrayList<>();
 	private final List<String> nonIdColumnNames = new ArrayList<>();
 
-	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSelectSql);
-	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
-	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
+	private final Cached<Select> findOne = new Cached<>(this::createFindOneSelect);
+	private final Cached<String> findAllSql = new Cached<>(this::createFindAllSql);
+
+	private final Cached<String> countSql = new Cached<>(this::createCountSql);
+
+	private final Cached<Update> update = new Cached<>(this::createUpdate);
+
+	private final Cached<Delete> deleteById = new Cached<>(this::createDeleteById);
+	private final Cached<String> deleteByListSql = new Cached<>(this::createDeleteByListSql);
+
+	private final Cached<PreparedSql> preparedFindOne = new Cached<>(() -> new PreparedSql(findOne.get(), false));
+	private final Cached<PreparedSql> preparedUpdate = new Cached<>(() -> new PreparedSql(update.get(), false));
+	private final Cached<PreparedSql> preparedDeleteById = new Cached<>(() -> new PreparedSql(deleteById.get(), false));
 
-	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
-	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
+	// statements for criteria differing only in their values are identical, so they get rendered once per shape
+	private final Map<List<Object>, String> criteriaSql = new ConcurrentHashMap<>();
 
-	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
+	// statements executed with positional parameters, by their kind and the arguments they got generated for
+	private final Map<List<Object>, PreparedSql> preparedSql = new ConcurrentHashMap<>();
 
-	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteSql);
-	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
 	private final SqlGeneratorSource sqlGeneratorSource;
 
 	SqlGenerator(RelationalMappingContext context, RelationalPersistentEntity<?> entity,
@@ -66,6 +111,7 @@ class SqlGenerator {
 
 		this.context = context;
 		this.entity = entity;
+		this.table = Table.create(entity.getTableName());
 		this.sqlGeneratorSource = sqlGeneratorSource;
 		initColumnNames();
 	}
@@ -73,6 +119,17 @@ class SqlGenerator {
 	private void initColumnNames() {
 
 		entity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) p -> {
+
+			// embedded value objects are stored in the table of the owning entity
+			if (p.isEmbedded()) {
+
+				getEmbeddedColumnNameStream(p, "").forEach(columnName -> {
+					columnNames.add(columnName);
+					nonIdColumnNames.add(columnName);
+				});
+				return;
+			}
+
 			// the referencing column of referenced entity is expected to be on the other side of the relation
 			if (!p.isEntity()) {
 				columnNames.add(p.getColumnName());
@@ -83,14 +140,42 @@ class SqlGenerator {
 		});
 	}
 
+	/**
+	 * Returns the names of all columns backing the properties of an embedded value object, including the ones of nested
+	 * embedded value objects.
+	 *
+	 * @param property the embedded property. Must not be {@code null}.
+	 * @param prefix the prefix of the embedded value object containing the property, if any. Must not be {@code null}.
+	 * @return the column names. Guaranteed to be not {@code null}.
+	 */
+	private Stream<String> getEmbeddedColumnNameStream(RelationalPersistentProperty property, String prefix) {
+
+		RelationalPersistentEntity<?> embeddedEntity = context.getRequiredPersistentEntity(property.getActualType());
+		String embeddedPrefix = prefix + property.getEmbeddedPrefix();
+
+		return StreamUtils.createStreamFromIterator(embeddedEntity.iterator()) //
+				.flatMap(p -> {
+
+					if (p.isEmbedded()) {
+						return getEmbeddedColumnNameStream(p, embeddedPrefix);
+					}
+
+					return p.isEntity() ? Stream.empty() : Stream.of(embeddedPrefix + p.getColumnName());
+				});
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entitty, including those for one-to-one relationhships.
-	 * Results are filtered using an {@code IN}-clause on the id column.
+	 * Results are filtered using a condition matching the id column against the list of values in the parameter
+	 * {@code ids}.
 	 *
+	 * @param syntax the syntax of the condition.
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
-	String getFindAllInList() {
-		return findAllInListSql.get();
+	String getFindAllInList(InListSyntax syntax) {
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("findAllInList", syntax), key -> render(
+				createSelect().where(Condition.just(syntax.render(entity.getTableName() + "." + entity.getIdColumn(), "ids")))));
 	}
 
 	/**
@@ -119,30 +204,127 @@ class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
 
-		String baseSelect = (keyColumn != null) //
-				? createSelectBuilder().column(cb -> cb.tableAlias(entity.getTableName()).column(keyColumn).as(keyColumn))
-						.build()
-				: getFindAll();
+		return criteriaSql.computeIfAbsent(Arrays.asList("findAllByProperty", columnName, keyColumn, ordered),
+				key -> render(createFindAllByProperty(columnName, keyColumn, ordered)));
+	}
 
-		String orderBy = ordered ? " ORDER BY " + keyColumn : "";
+	/**
+	 * Returns {@link #getFindAllByProperty(String, String, boolean)} with positional parameters.
+	 */
+	PreparedSql getPreparedFindAllByProperty(String columnName, @Nullable String keyColumn, boolean ordered) {
 
-		return String.format("%s WHERE %s = :%s%s", baseSelect, columnName, columnName, orderBy);
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		return preparedSql.computeIfAbsent(Arrays.asList("findAllByProperty", columnName, keyColumn, ordered),
+				key -> new PreparedSql(createFindAllByProperty(columnName, keyColumn, ordered), false));
 	}
 
-	String getExists() {
-		return existsSql.get();
+	/**
+	 * Returns a query selecting the id of the aggregate root with the id given in the parameter {@code id}, limited to a
+	 * single row. The maximum number of rows is expected in the parameter {@link #LIMIT_PARAMETER}.
+	 *
+	 * @param dialect the {@link Dialect} to limit the query with.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getExists(Dialect dialect) {
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("exists", dialect),
+				key -> dialect.limit(render(Select.from(table).column(getIdColumn()).where(isIdentifiedBy("id"))), false,
+						LIMIT_PARAMETER, null));
 	}
 
 	String getFindOne() {
-		return findOneSql.get();
+		return render(findOne.get());
+	}
+
+	/**
+	 * Returns {@link #getFindOne()} with positional parameters.
+	 */
+	PreparedSql getPreparedFindOne() {
+		return preparedFindOne.get();
 	}
 
 	String getInsert(Set<String> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return render(createInsert(additionalColumns));
+	}
+
+	/**
+	 * Returns {@link #getInsert(Set)} with positional parameters, returning generated keys.
+	 */
+	PreparedSql getPreparedInsert(Set<String> additionalColumns) {
+
+		// the columns might be a view of a map that changes later on
+		Set<String> columns = new HashSet<>(additionalColumns);
+
+		return preparedSql.computeIfAbsent(Arrays.asList("insert", columns),
+				key -> new PreparedSql(createInsert(columns), true));
+	}
+
+	/**
+	 * Returns a query selecting all entities referenced via a property by any of a list of entities, including the back
+	 * reference to the referencing entity. The ids of the referencing entities are expected in the parameter named like
+	 * the column of the back reference.
+	 *
+	 * @param columnName name of the column of the FK back to the referencing entity.
+	 * @param keyColumn if the property is of type {@link Map} or {@link List} this column contains the key.
+	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn. If this is {@code true}, the
+	 *          keyColumn must not be {@code null}.
+	 * @param syntax the syntax of the condition on the back reference.
+	 * @return a SQL String.
+	 */
+	String getFindAllByPropertyIn(String columnName, @Nullable String keyColumn, boolean ordered,
+			InListSyntax syntax) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("findAllByPropertyIn", columnName, keyColumn, ordered, syntax),
+				key -> {
+
+					Select select = createSelect().column(table.column(columnName).as(columnName))
+							.where(Condition.just(syntax.render(columnName, columnName)));
+
+					if (keyColumn != null) {
+						select = select.column(table.column(keyColumn).as(keyColumn));
+					}
+
+					return render(ordered ? select.orderBy(orderByKey(keyColumn)) : select);
+				});
 	}
 
 	String getUpdate() {
-		return updateSql.get();
+		return render(update.get());
+	}
+
+	/**
+	 * Returns {@link #getUpdate()} with positional parameters.
+	 */
+	PreparedSql getPreparedUpdate() {
+		return preparedUpdate.get();
+	}
+
+	/**
+	 * Returns an update statement adding {@code :delta} to the value of the given column of the row identified by
+	 * {@code :id}. A version column gets incremented as well, just like {@link #getUpdateAll} does.
+	 *
+	 * @param columnName the column to increment. Must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getIncrement(String columnName) {
+		return criteriaSql.computeIfAbsent(Arrays.asList("increment", columnName), key -> render(createIncrement(columnName)));
+	}
+
+	/**
+	 * Returns a query selecting the value of the given column of the row identified by {@code :id}.
+	 *
+	 * @param columnName the column to select. Must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindColumnById(String columnName) {
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("findColumnById", columnName),
+				key -> render(Select.from(table).column(Column.create(columnName)).where(isIdentifiedBy("id"))));
 	}
 
 	String getCount() {
@@ -150,84 +332,281 @@ class SqlGenerator {
 	}
 
 	String getDeleteById() {
-		return deleteByIdSql.get();
+		return render(deleteById.get());
+	}
+
+	/**
+	 * Returns {@link #getDeleteById()} with positional parameters.
+	 */
+	PreparedSql getPreparedDeleteById() {
+		return preparedDeleteById.get();
 	}
 
 	String getDeleteByList() {
 		return deleteByListSql.get();
 	}
 
-	private String createFindOneSelectSql() {
+	/**
+	 * Returns a query for selecting all simple properties of the aggregate roots matching the {@code criteria}, including
+	 * those for one-to-one relationships, in the order given by {@code sort}. The values of the conditions are expected
+	 * in the parameters named by {@link #getConditionParameter(int)}.
+	 *
+	 * @param criteria may be {@code null} to select all aggregate roots.
+	 * @param sort must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindAll(@Nullable Criteria criteria, Sort sort) {
 
-		return createSelectBuilder() //
-				.where(wb -> wb.tableAlias(entity.getTableName()).column(entity.getIdColumn()).eq().variable("id")) //
-				.build();
+		return criteriaSql.computeIfAbsent(criteriaKey("findAll", criteria, sort),
+				key -> render(createSelect().where(createCondition(criteria, table)).orderBy(createOrderBy(sort, table))));
 	}
 
-	private SelectBuilder createSelectBuilder() {
+	/**
+	 * Returns a query selecting the ids of the aggregate roots matching the {@code criteria}, in the order given by
+	 * {@code sort}.
+	 *
+	 * @param criteria may be {@code null} to select all aggregate roots.
+	 * @param sort must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindIds(@Nullable Criteria criteria, Sort sort) {
 
-		SelectBuilder builder = new SelectBuilder(entity.getTableName());
-		addColumnsForSimpleProperties(builder);
-		addColumnsAndJoinsForOneToOneReferences(builder);
+		return criteriaSql.computeIfAbsent(criteriaKey("findIds", criteria, sort),
+				key -> render(Select.from(table).column(getIdColumn()) //
+						.where(createCondition(criteria, null)) //
+						.orderBy(createOrderBy(sort, null))));
+	}
+
+	/**
+	 * Returns {@link #getFindAll(Criteria, Sort)} limited to a range of rows. The maximum number of rows and the number
+	 * of rows to skip are expected in the parameters {@link #LIMIT_PARAMETER} and {@link #OFFSET_PARAMETER}.
+	 *
+	 * @param dialect the {@link Dialect} to limit the query with.
+	 * @param withOffset whether rows get skipped.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindAll(@Nullable Criteria criteria, Sort sort, Dialect dialect, boolean withOffset) {
+		return limit(criteriaKey("findAll", criteria, sort), getFindAll(criteria, sort), sort, dialect, withOffset);
+	}
 
-		return builder;
+	/**
+	 * Returns {@link #getFindIds(Criteria, Sort)} limited to a range of rows. The maximum number of rows and the number
+	 * of rows to skip are expected in the parameters {@link #LIMIT_PARAMETER} and {@link #OFFSET_PARAMETER}.
+	 *
+	 * @param dialect the {@link Dialect} to limit the query with.
+	 * @param withOffset whether rows get skipped.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindIds(@Nullable Criteria criteria, Sort sort, Dialect dialect, boolean withOffset) {
+		return limit(criteriaKey("findIds", criteria, sort), getFindIds(criteria, sort), sort, dialect, withOffset);
 	}
 
 	/**
-	 * Adds the columns to the provided {@link SelectBuilder} representing simplem properties, including those from
-	 * one-to-one relationships.
+	 * Returns a query selecting only the columns of the given simple properties of the aggregate roots matching the
+	 * {@code criteria}, in the order given by {@code sort}. Neither one-to-one relationships get joined nor referenced
+	 * entities get loaded.
 	 *
-	 * @param builder The {@link SelectBuilder} to be modified.
+	 * @param properties the names of simple properties of the aggregate root. Must not be {@code null} or empty.
+	 * @param criteria may be {@code null} to select all aggregate roots.
+	 * @param sort must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
-	private void addColumnsAndJoinsForOneToOneReferences(SelectBuilder builder) {
+	String getFindProperties(List<String> properties, @Nullable Criteria criteria, Sort sort) {
 
-		for (RelationalPersistentProperty property : entity) {
-			if (!property.isEntity() //
-					|| Collection.class.isAssignableFrom(property.getType()) //
-					|| Map.class.isAssignableFrom(property.getType()) //
-			) {
+		Assert.notEmpty(properties, "Properties must not be empty!");
+
+		List<Object> key = Arrays.asList(properties, criteriaKey("findProperties", criteria, sort));
+
+		return criteriaSql.computeIfAbsent(key, k -> {
+
+			List<Column> columns = properties.stream() //
+					.map(property -> Column.create(getSimpleProperty(property).getColumnName())) //
+					.collect(Collectors.toList());
+
+			return render(Select.from(table).columns(columns) //
+					.where(createCondition(criteria, null)) //
+					.orderBy(createOrderBy(sort, null)));
+		});
+	}
+
+	/**
+	 * Returns {@link #getFindProperties(List, Criteria, Sort)} limited to a range of rows. The maximum number of rows and
+	 * the number of rows to skip are expected in the parameters {@link #LIMIT_PARAMETER} and {@link #OFFSET_PARAMETER}.
+	 *
+	 * @param dialect the {@link Dialect} to limit the query with.
+	 * @param withOffset whether rows get skipped.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindProperties(List<String> properties, @Nullable Criteria criteria, Sort sort, Dialect dialect,
+			boolean withOffset) {
+
+		return limit(Arrays.asList(properties, criteriaKey("findProperties", criteria, sort)),
+				getFindProperties(properties, criteria, sort), sort, dialect, withOffset);
+	}
+
+	/**
+	 * Returns a query counting the aggregate roots matching the {@code criteria}.
+	 *
+	 * @param criteria must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getCount(Criteria criteria) {
+
+		return criteriaSql.computeIfAbsent(criteriaKey("count", criteria, Sort.unsorted()),
+				key -> render(createCount().where(createCondition(criteria, null))));
+	}
+
+	/**
+	 * Generates all statements cached by this generator that apply to an aggregate root, so they don't get generated on
+	 * first use.
+	 */
+	void prepare() {
+
+		getPreparedFindOne();
+		getFindAll();
+		getCount();
+		getPreparedUpdate();
+		getPreparedDeleteById();
+		getDeleteByList();
+	}
+
+	private Select createFindOneSelect() {
+		return createSelect().where(table.column(entity.getIdColumn()).isEqualTo(BindMarker.named("id")));
+	}
+
+	private Select createFindAllByProperty(String columnName, @Nullable String keyColumn, boolean ordered) {
+
+		Select select = createSelect().where(Column.create(columnName).isEqualTo(BindMarker.named(columnName)));
+
+		if (keyColumn != null) {
+			select = select.column(table.column(keyColumn).as(keyColumn));
+		}
+
+		return ordered ? select.orderBy(orderByKey(keyColumn)) : select;
+	}
+
+	private Select createSelect() {
+
+		List<Column> columns = new ArrayList<>();
+		List<Join> joins = new ArrayList<>();
+		Set<String> columnAliases = new HashSet<>();
+
+		addColumnsForSimpleProperties(columns, columnAliases);
+		addColumnsAndJoinsForOneToOneReferences(columns, joins, columnAliases, entity, table, "");
+
+		Select select = Select.from(table).columns(columns);
+
+		for (Join join : joins) {
+			select = select.join(join);
+		}
+
+		return select;
+	}
+
+	/**
+	 * Adds the joins and columns representing one-to-one relationships, including the one-to-one relationships of the
+	 * referenced entities. The join alias of a referenced entity is the path of property names leading to it, separated
+	 * by {@literal _}. The column aliases of its properties are the join alias followed by {@literal _} and the column
+	 * name.
+	 *
+	 * @param columns the columns of the select list. Gets modified.
+	 * @param joins the joins of the select. Gets modified.
+	 * @param columnAliases the column aliases used so far. Used to detect colliding aliases.
+	 * @param parentEntity the entity whose one-to-one references are to be joined.
+	 * @param parentTable the table of {@literal parentEntity}, possibly aliased.
+	 * @param aliasPrefix prefix for join aliases of references of {@literal parentEntity}.
+	 */
+	private void addColumnsAndJoinsForOneToOneReferences(List<Column> columns, List<Join> joins,
+			Set<String> columnAliases, RelationalPersistentEntity<?> parentEntity, Table parentTable, String aliasPrefix) {
+
+		for (RelationalPersistentProperty property : parentEntity) {
+
+			if (!isOneToOneReference(property)) {
 				continue;
 			}
 
 			RelationalPersistentEntity<?> refEntity = context.getRequiredPersistentEntity(property.getActualType());
-			String joinAlias = property.getName();
-			builder.join(jb -> jb.leftOuter().table(refEntity.getTableName()).as(joinAlias) //
-					.where(property.getReverseColumnName()).eq().column(entity.getTableName(), entity.getIdColumn()));
+			String joinAlias = aliasPrefix + property.getName();
+			Table joinTable = Table.create(refEntity.getTableName()).as(joinAlias);
+
+			joins.add(Join.leftOuter(joinTable, joinTable.column(property.getReverseColumnName())
+					.isEqualTo(parentTable.column(parentEntity.getIdColumn()))));
 
 			for (RelationalPersistentProperty refProperty : refEntity) {
-				builder.column( //
-						cb -> cb.tableAlias(joinAlias) //
-								.column(refProperty.getColumnName()) //
-								.as(joinAlias + "_" + refProperty.getColumnName()) //
-				);
+
+				if (refProperty.isEmbedded()) {
+
+					getEmbeddedColumnNameStream(refProperty, "").forEach(
+							columnName -> addColumn(columns, columnAliases, joinTable, columnName, joinAlias + "_" + columnName));
+					continue;
+				}
+
+				if (refProperty.isEntity()) {
+					continue;
+				}
+
+				addColumn(columns, columnAliases, joinTable, refProperty.getColumnName(),
+						joinAlias + "_" + refProperty.getColumnName());
 			}
 
 			// if the referenced property doesn't have an id, include the back reference in the select list.
 			// this enables determining if the referenced entity is present or null.
 			if (!refEntity.hasIdProperty()) {
 
-				builder.column( //
-						cb -> cb.tableAlias(joinAlias) //
-								.column(property.getReverseColumnName()) //
-								.as(joinAlias + "_" + property.getReverseColumnName()) //
-				);
+				addColumn(columns, columnAliases, joinTable, property.getReverseColumnName(),
+						joinAlias + "_" + property.getReverseColumnName());
+
+				// without an id there is nothing further references could point to.
+				continue;
 			}
+
+			addColumnsAndJoinsForOneToOneReferences(columns, joins, columnAliases, refEntity, joinTable, joinAlias + "_");
 		}
 	}
 
-	private void addColumnsForSimpleProperties(SelectBuilder builder) {
+	/**
+	 * Adds the columns representing simple properties, including those of embedded value objects.
+	 *
+	 * @param columns the columns of the select list. Gets modified.
+	 * @param columnAliases the column aliases used so far. Used to detect colliding aliases.
+	 */
+	private void addColumnsForSimpleProperties(List<Column> columns, Set<String> columnAliases) {
 
 		for (RelationalPersistentProperty property : entity) {
 
+			if (property.isEmbedded()) {
+
+				getEmbeddedColumnNameStream(property, "")
+						.forEach(columnName -> addColumn(columns, columnAliases, table, columnName, columnName));
+				continue;
+			}
+
 			if (property.isEntity()) {
 				continue;
 			}
 
-			builder.column(cb -> cb //
-					.tableAlias(entity.getTableName()) //
-					.column(property.getColumnName()) //
-					.as(property.getColumnName()));
+			addColumn(columns, columnAliases, table, property.getColumnName(), property.getColumnName());
+		}
+	}
+
+	private static void addColumn(List<Column> columns, Set<String> columnAliases, Table table, String column,
+			String alias) {
+
+		if (!columnAliases.add(alias)) {
+			throw new MappingException(String.format(
+					"Column alias %s for column %s.%s is not unique. Consider using a different column or property name.", alias,
+					table.getReferenceName(), column));
 		}
+
+		columns.add(table.column(column).as(alias));
+	}
+
+	private static boolean isOneToOneReference(RelationalPersistentProperty property) {
+
+		return property.isEntity() //
+				&& !property.isEmbedded() //
+				&& !Collection.class.isAssignableFrom(property.getType()) //
+				&& !Map.class.isAssignableFrom(property.getType());
 	}
 
 	private Stream<String> getColumnNameStream(String prefix) {
@@ -246,89 +625,384 @@ class SqlGenerator {
 	}
 
 	private String createFindAllSql() {
-		return createSelectBuilder().build();
+		return render(createSelect());
 	}
 
-	private String createFindAllInListSql() {
-
-		return createSelectBuilder() //
-				.where(wb -> wb.tableAlias(entity.getTableName()).column(entity.getIdColumn()).in().variable("ids")) //
-				.build();
+	private String createCountSql() {
+		return render(createCount());
 	}
 
-	private String createExistsSql() {
-		return String.format("SELECT COUNT(*) FROM %s WHERE %s = :id", entity.getTableName(), entity.getIdColumn());
+	private Select createCount() {
+		return Select.from(table).column(Expression.just("COUNT(*)"));
 	}
 
-	private String createCountSql() {
-		return String.format("select count(*) from %s", entity.getTableName());
+	private Insert createInsert(Set<String> additionalColumns) {
+
+		LinkedHashSet<String> columnNamesForInsert = new LinkedHashSet<>(nonIdColumnNames);
+		columnNamesForInsert.addAll(additionalColumns);
+
+		Insert insert = Insert.into(table);
+
+		for (String columnName : columnNamesForInsert) {
+			insert = insert.value(Column.create(columnName), BindMarker.named(columnName));
+		}
+
+		return insert;
 	}
 
-	private String createInsertSql(Set<String> additionalColumns) {
+	private Update createUpdate() {
 
-		String insertTemplate = "INSERT INTO %s (%s) VALUES (%s)";
+		Update update = Update.table(table);
 
-		LinkedHashSet<String> columnNamesForInsert = new LinkedHashSet<>(nonIdColumnNames);
-		columnNamesForInsert.addAll(additionalColumns);
+		for (String columnName : columnNames) {
 
-		String tableColumns = String.join(", ", columnNamesForInsert);
+			if (columnName.equals(entity.getIdColumn())) {
+				continue;
+			}
+
+			update = update.set(Column.create(columnName), BindMarker.named(columnName));
+		}
 
-		String parameterNames = columnNamesForInsert.stream()//
-				.map(n -> String.format(":%s", n))//
-				.collect(Collectors.joining(", "));
+		update = update.where(isIdentifiedBy(entity.getIdColumn()));
+
+		if (entity.hasVersionProperty()) {
+			update = update.where(Column.create(entity.getRequiredVersionProperty().getColumnName())
+					.isEqualTo(BindMarker.named(EXPECTED_VERSION_PARAMETER)));
+		}
 
-		return String.format(insertTemplate, entity.getTableName(), tableColumns, parameterNames);
+		return update;
 	}
 
-	private String createUpdateSql() {
+	private Update createIncrement(String columnName) {
 
-		String updateTemplate = "UPDATE %s SET %s WHERE %s = :%s";
+		Column column = Column.create(columnName);
+		Update update = Update.table(table).set(column, column.plus(BindMarker.named("delta")));
 
-		String setClause = columnNames.stream() //
-				.filter(s -> !s.equals(entity.getIdColumn())) //
-				.map(n -> String.format("%s = :%s", n, n)) //
-				.collect(Collectors.joining(", "));
+		if (entity.hasVersionProperty()) {
 
-		return String.format(updateTemplate, entity.getTableName(), setClause, entity.getIdColumn(), entity.getIdColumn());
+			Column version = Column.create(entity.getRequiredVersionProperty().getColumnName());
+			update = update.set(version, version.plus(Expression.just("1")));
+		}
+
+		return update.where(isIdentifiedBy("id"));
 	}
 
-	private String createDeleteSql() {
-		return String.format("DELETE FROM %s WHERE %s = :id", entity.getTableName(), entity.getIdColumn());
+	private Delete createDeleteById() {
+		return Delete.from(table).where(isIdentifiedBy("id"));
 	}
 
 	String createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		if (path == null) {
-			return String.format("DELETE FROM %s", entity.getTableName());
+			return render(Delete.from(table));
 		}
 
-		RelationalPersistentEntity<?> entityToDelete = context
-				.getRequiredPersistentEntity(path.getRequiredLeafProperty().getActualType());
-
 		RelationalPersistentProperty property = path.getBaseProperty();
 
-		String innerMostCondition = String.format("%s IS NOT NULL", property.getReverseColumnName());
-
-		String condition = cascadeConditions(innerMostCondition, getSubPath(path));
-
-		return String.format("DELETE FROM %s WHERE %s", entityToDelete.getTableName(), condition);
+		return render(createDeleteByPath(path, Column.create(property.getReverseColumnName()).isNotNull()));
 	}
 
 	private String createDeleteByListSql() {
-		return String.format("DELETE FROM %s WHERE %s IN (:ids)", entity.getTableName(), entity.getIdColumn());
+		return render(Delete.from(table).where(getIdColumn().in(BindMarker.named("ids"))));
 	}
 
 	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return render(createDeleteByRootId(path));
+	}
+
+	/**
+	 * Returns {@link #createDeleteByPath(PersistentPropertyPath)} with positional parameters.
+	 */
+	PreparedSql getPreparedDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		return preparedSql.computeIfAbsent(Arrays.asList("deleteByPath", path.toDotPath()),
+				key -> new PreparedSql(createDeleteByRootId(path), false));
+	}
+
+	private Delete createDeleteByRootId(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		RelationalPersistentProperty property = path.getBaseProperty();
+
+		return createDeleteByPath(path,
+				Column.create(property.getReverseColumnName()).isEqualTo(BindMarker.named("rootId")));
+	}
+
+	/**
+	 * Creates a delete statement for the entities referenced via {@code path}, whose back references to the aggregate
+	 * root match the {@code innerMostCondition}.
+	 */
+	private Delete createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path,
+			Condition innerMostCondition) {
 
 		RelationalPersistentEntity<?> entityToDelete = context
 				.getRequiredPersistentEntity(path.getRequiredLeafProperty().getActualType());
-		RelationalPersistentProperty property = path.getBaseProperty();
 
-		String innerMostCondition = String.format("%s = :rootId", property.getReverseColumnName());
+		Condition condition = cascadeConditions(innerMostCondition, getSubPath(path));
+
+		return Delete.from(Table.create(entityToDelete.getTableName())).where(condition);
+	}
+
+	/**
+	 * Returns an update statement for a single element of a list directly referenced by the aggregate root. The element
+	 * is identified by the reverse column and the key column, which are used as parameter names.
+	 */
+	String getUpdateListElement(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("updateListElement", path.toDotPath()),
+				key -> render(createUpdateListElement(path)));
+	}
+
+	private Update createUpdateListElement(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		RelationalPersistentProperty property = path.getRequiredLeafProperty();
+		SqlGenerator elementSql = sqlGeneratorSource.getSqlGenerator(property.getActualType());
+
+		Update update = Update.table(elementSql.table);
 
-		String condition = cascadeConditions(innerMostCondition, getSubPath(path));
+		for (String columnName : elementSql.nonIdColumnNames) {
+			update = update.set(Column.create(columnName), BindMarker.named(columnName));
+		}
 
-		return String.format("DELETE FROM %s WHERE %s", entityToDelete.getTableName(), condition);
+		return update //
+				.where(Column.create(property.getReverseColumnName())
+						.isEqualTo(BindMarker.named(property.getReverseColumnName()))) //
+				.where(Column.create(property.getKeyColumn()).isEqualTo(BindMarker.named(property.getKeyColumn())));
+	}
+
+	/**
+	 * Returns a delete statement for the elements of a list directly referenced by the aggregate root with an index of at
+	 * least {@code :size}.
+	 */
+	String getDeleteListTail(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("deleteListTail", path.toDotPath()), key -> {
+
+			RelationalPersistentProperty property = path.getRequiredLeafProperty();
+			RelationalPersistentEntity<?> elementEntity = context.getRequiredPersistentEntity(property.getActualType());
+
+			return render(Delete.from(Table.create(elementEntity.getTableName())) //
+					.where(Column.create(property.getReverseColumnName()).isEqualTo(BindMarker.named("rootId"))) //
+					.where(Column.create(property.getKeyColumn()).isGreaterOrEqualTo(BindMarker.named("size"))));
+		});
+	}
+
+	/**
+	 * Returns an update statement assigning new values to the rows of all aggregate roots matching the {@code criteria}.
+	 * The new values are expected in the parameters named by {@link #getAssignmentParameter(int)}, the values of the
+	 * conditions in the ones named by {@link #getConditionParameter(int)}. A version column gets incremented unless it
+	 * gets assigned explicitly.
+	 */
+	String getUpdateAll(org.springframework.data.relational.core.query.Update update, Criteria criteria) {
+
+		List<Object> key = Arrays.asList(new ArrayList<>(update.getAssignments().keySet()),
+				criteriaKey("updateAll", criteria, Sort.unsorted()));
+
+		return criteriaSql.computeIfAbsent(key, k -> render(createUpdateAll(update, criteria)));
+	}
+
+	private Update createUpdateAll(org.springframework.data.relational.core.query.Update update, Criteria criteria) {
+
+		Update statement = Update.table(table);
+
+		int index = 0;
+		for (String property : update.getAssignments().keySet()) {
+
+			RelationalPersistentProperty persistentProperty = getSimpleProperty(property);
+
+			Assert.isTrue(!persistentProperty.isIdProperty(), "The id of an aggregate root must not be updated!");
+
+			statement = statement.set(Column.create(persistentProperty.getColumnName()),
+					BindMarker.named(getAssignmentParameter(index++)));
+		}
+
+		if (entity.hasVersionProperty()
+				&& !update.getAssignments().containsKey(entity.getRequiredVersionProperty().getName())) {
+
+			Column version = Column.create(entity.getRequiredVersionProperty().getColumnName());
+			statement = statement.set(version, version.plus(Expression.just("1")));
+		}
+
+		return statement.where(createCondition(criteria, null));
+	}
+
+	/**
+	 * Returns a delete statement for the rows of all aggregate roots matching the {@code criteria}.
+	 */
+	String getDeleteAll(Criteria criteria) {
+
+		return criteriaSql.computeIfAbsent(criteriaKey("deleteAll", criteria, Sort.unsorted()),
+				key -> render(Delete.from(table).where(createCondition(criteria, null))));
+	}
+
+	/**
+	 * Returns a delete statement for the entities referenced via {@code path} by all aggregate roots matching the
+	 * {@code criteria}.
+	 */
+	String getDeleteAll(PersistentPropertyPath<RelationalPersistentProperty> path, Criteria criteria) {
+
+		List<Object> key = Arrays.asList(path.toDotPath(), criteriaKey("deleteAllByPath", criteria, Sort.unsorted()));
+
+		return criteriaSql.computeIfAbsent(key, k -> {
+
+			RelationalPersistentProperty property = path.getBaseProperty();
+
+			return render(createDeleteByPath(path, Column.create(property.getReverseColumnName())
+					.in(Select.from(table).column(getIdColumn()).where(createCondition(criteria, null)))));
+		});
+	}
+
+	/**
+	 * Returns a query selecting and locking the ids of a limited number of aggregate roots matching the {@code criteria},
+	 * in the order given by {@code sort}, skipping rows locked by other transactions. The maximum number of rows is
+	 * expected in the parameter {@link #LIMIT_PARAMETER}.
+	 *
+	 * @param dialect the {@link Dialect} providing the locking syntax.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String getFindIdsForUpdateSkipLocked(@Nullable Criteria criteria, Sort sort, Dialect dialect) {
+
+		return criteriaSql.computeIfAbsent(
+				Arrays.asList("forUpdateSkipLocked", criteriaKey("findIds", criteria, sort), dialect), key -> {
+
+					Condition condition = createCondition(criteria, null);
+					List<OrderByField> orderBy = createOrderBy(sort, null);
+
+					// the dialect places the locking syntax around and between these clauses
+					String where = condition == null ? "" : " WHERE " + RENDERER.render(condition).getSql();
+					String order = orderBy.isEmpty() ? "" : " ORDER BY " + RENDERER.render(orderBy);
+
+					return dialect.forUpdateSkipLocked(entity.getTableName(), entity.getIdColumn(), where + order,
+							LIMIT_PARAMETER);
+				});
+	}
+
+	static String getConditionParameter(int index) {
+		return "condition" + index;
+	}
+
+	static String getAssignmentParameter(int index) {
+		return "assignment" + index;
+	}
+
+	/**
+	 * @param key the key of the unlimited statement.
+	 * @param select the unlimited statement. It gets rendered before, since the cache must not get modified while
+	 *          computing one of its values.
+	 */
+	private String limit(List<Object> key, String select, Sort sort, Dialect dialect, boolean withOffset) {
+
+		return criteriaSql.computeIfAbsent(Arrays.asList("limit", key, dialect, withOffset),
+				k -> dialect.limit(select, sort.isSorted(), LIMIT_PARAMETER, withOffset ? OFFSET_PARAMETER : null));
+	}
+
+	/**
+	 * @param table the table to qualify the columns with. May be {@code null} for unqualified columns.
+	 * @return the conjunction of the conditions of the {@code criteria}. {@code null} if {@code criteria} is
+	 *         {@code null}.
+	 */
+	@Nullable
+	private Condition createCondition(@Nullable Criteria criteria, @Nullable Table table) {
+
+		if (criteria == null) {
+			return null;
+		}
+
+		Condition result = null;
+
+		int index = 0;
+		for (Criteria.Condition condition : criteria.getConditions()) {
+
+			Column column = column(table, getSimpleProperty(condition.getProperty()).getColumnName());
+			Condition next = createCondition(column, condition.getOperator(),
+					BindMarker.named(getConditionParameter(index++)));
+
+			result = result == null ? next : result.and(next);
+		}
+
+		return result;
+	}
+
+	private List<OrderByField> createOrderBy(Sort sort, @Nullable Table table) {
+
+		return sort.stream() //
+				.map(order -> OrderByField.of(column(table, getSimpleProperty(order.getProperty()).getColumnName()),
+						order.getDirection())) //
+				.collect(Collectors.toList());
+	}
+
+	private static List<OrderByField> orderByKey(@Nullable String keyColumn) {
+
+		Assert.notNull(keyColumn, "Key column must not be null!");
+
+		return Collections.singletonList(OrderByField.of(Column.create(keyColumn), null));
+	}
+
+	private static Column column(@Nullable Table table, String column) {
+		return table == null ? Column.create(column) : table.column(column);
+	}
+
+	private Column getIdColumn() {
+		return Column.create(entity.getIdColumn());
+	}
+
+	private Condition isIdentifiedBy(String parameter) {
+		return getIdColumn().isEqualTo(BindMarker.named(parameter));
+	}
+
+	private static String render(Statement statement) {
+		return RENDERER.render(statement).getSql();
+	}
+
+	/**
+	 * @return a key identifying a statement of the given kind for all {@link Criteria} differing only in their values.
+	 */
+	private static List<Object> criteriaKey(String kind, @Nullable Criteria criteria, Sort sort) {
+
+		List<String> shape = criteria == null //
+				? Collections.emptyList() //
+				: criteria.getConditions().stream() //
+						.map(condition -> condition.getProperty() + " " + condition.getOperator()) //
+						.collect(Collectors.toList());
+
+		return Arrays.asList(kind, shape, sort);
+	}
+
+	private static Condition createCondition(Column column, Criteria.Operator operator, BindMarker parameter) {
+
+		switch (operator) {
+			case EQ:
+				return column.isEqualTo(parameter);
+			case NEQ:
+				return column.isNotEqualTo(parameter);
+			case LT:
+				return column.isLess(parameter);
+			case LTE:
+				return column.isLessOrEqualTo(parameter);
+			case GT:
+				return column.isGreater(parameter);
+			case GTE:
+				return column.isGreaterOrEqualTo(parameter);
+			case IN:
+				return column.in(parameter);
+			case LIKE:
+				return column.like(parameter, Criteria.LIKE_ESCAPE_CHARACTER);
+			case IS_NULL:
+				return column.isNull();
+			case IS_NOT_NULL:
+				return column.isNotNull();
+			default:
+				throw new IllegalArgumentException("Unsupported operator " + operator);
+		}
+	}
+
+	private RelationalPersistentProperty getSimpleProperty(String property) {
+
+		RelationalPersistentProperty persistentProperty = entity.getRequiredPersistentProperty(property);
+
+		Assert.isTrue(!persistentProperty.isEntity(),
+				() -> String.format("%s is not a simple property of %s!", property, entity.getName()));
+
+		return persistentProperty;
 	}
 
 	private PersistentPropertyPath<RelationalPersistentProperty> getSubPath(
@@ -345,7 +1019,8 @@ class SqlGenerator {
 		return path.getExtensionForBaseOf(ancestor);
 	}
 
-	private String cascadeConditions(String innerCondition, PersistentPropertyPath<RelationalPersistentProperty> path) {
+	private Condition cascadeConditions(Condition innerCondition,
+			PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		if (path.getLength() == 0) {
 			return innerCondition;
@@ -355,10 +1030,36 @@ class SqlGenerator {
 				.getRequiredPersistentEntity(path.getBaseProperty().getOwner().getTypeInformation());
 		RelationalPersistentProperty property = path.getRequiredLeafProperty();
 
-		return String.format("%s IN (SELECT %s FROM %s WHERE %s)", //
-				property.getReverseColumnName(), //
-				entity.getIdColumn(), //
-				entity.getTableName(), innerCondition //
-		);
+		return Column.create(property.getReverseColumnName()).in(Select.from(Table.create(entity.getTableName())) //
+				.column(Column.create(entity.getIdColumn())) //
+				.where(innerCondition));
+	}
+
+	/**
+	 * Lazily computed SQL statement. Since {@link SqlGenerator}s are shared between threads the statement gets published
+	 * through a single {@code volatile} field. Concurrent first access might compute the statement more than once, but
+	 * all callers see a completely initialized, immutable statement.
+	 */
+	private static class Cached<T> {
+
+		private final Supplier<T> supplier;
+		private volatile T value;
+
+		Cached(Supplier<T> supplier) {
+			this.supplier = supplier;
+		}
+
+		T get() {
+
+			T result = value;
+
+			if (result == null) {
+
+				result = supplier.get();
+				value = result;
+			}
+
+			return result;
+		}
 	}
 }
@@ -17,27 +17,38 @@ package org.springframework.data.jdbc.core;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
  * Provides {@link SqlGenerator}s per domain type. Instances get cached, so when asked multiple times for the same
  * domain type, the same generator will get returned.
+ * <p>
+ * Safe for concurrent use. Lookups of already cached generators don't lock. Generators are created outside of the
+ * cache's locks, so creating a generator may request generators for other domain types. When multiple threads race
+ * for the same domain type, all of them get the instance that was cached first.
  *
  * @author Jens Schauder
  */
 @RequiredArgsConstructor
 public class SqlGeneratorSource {
 
-	private final Map<Class, SqlGenerator> sqlGeneratorCache = new HashMap<>();
+	private final ConcurrentMap<Class<?>, SqlGenerator> sqlGeneratorCache = new ConcurrentHashMap<>();
 	private final RelationalMappingContext context;
 
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return sqlGeneratorCache.computeIfAbsent(domainType,
-				t -> new SqlGenerator(context, context.getRequiredPersistentEntity(t), this));
+		SqlGenerator sqlGenerator = sqlGeneratorCache.get(domainType);
 
+		if (sqlGenerator != null) {
+			return sqlGenerator;
+		}
+
+		SqlGenerator created = new SqlGenerator(context, context.getRequiredPersistentEntity(domainType), this);
+		SqlGenerator existing = sqlGeneratorCache.putIfAbsent(domainType, created);
+
+		return existing == null ? created : existing;
 	}
 }
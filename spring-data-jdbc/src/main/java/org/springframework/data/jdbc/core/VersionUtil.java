@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import lombok.experimental.UtilityClass;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+/**
+ * Determines the values of {@link org.springframework.data.annotation.Version} properties used for optimistic locking.
+ * A newly inserted entity gets version {@code 0}, or {@code 1} for primitive versions since {@code 0} marks a primitive
+ * version as new. Each update increments the version by one.
+ */
+@UtilityClass
+class VersionUtil {
+
+	/**
+	 * @param versionProperty the version property. Must not be {@code null}.
+	 * @return the version of a newly inserted entity, of the type of the property.
+	 */
+	static Number initialVersion(RelationalPersistentProperty versionProperty) {
+		return convert(versionProperty, versionProperty.getType().isPrimitive() ? 1L : 0L);
+	}
+
+	/**
+	 * @param versionProperty the version property. Must not be {@code null}.
+	 * @param version the current version. May be {@code null}.
+	 * @return the version of an entity after it got updated, of the type of the property.
+	 */
+	static Number nextVersion(RelationalPersistentProperty versionProperty, @Nullable Object version) {
+
+		return version == null //
+				? initialVersion(versionProperty) //
+				: convert(versionProperty, ((Number) version).longValue() + 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Number convert(RelationalPersistentProperty versionProperty, long version) {
+
+		Class<? extends Number> type = (Class<? extends Number>) ClassUtils
+				.resolvePrimitiveIfNecessary(versionProperty.getType());
+
+		return NumberUtils.convertNumberToTargetClass(version, type);
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A map that is safe for concurrent use, compares its keys by identity and references them weakly, so entries vanish
+ * once their key got garbage collected. It is used to attach state to loaded aggregates, whose {@code equals} and
+ * {@code hashCode} might be based on their mutable state.
+ * <p>
+ * Entries can be put into a group, e.g. all instances loaded for the same aggregate, and removed by that group without
+ * inspecting the other entries.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+final class WeakIdentityMap<K, V> {
+
+	private final ConcurrentMap<Key<K>, V> entries = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Object, Set<Key<K>>> groups = new ConcurrentHashMap<>();
+	private final ReferenceQueue<K> collectedKeys = new ReferenceQueue<>();
+
+	/**
+	 * @param key must not be {@code null}.
+	 * @return the value stored for exactly this key instance. {@code null} if there is none.
+	 */
+	@Nullable
+	V get(K key) {
+
+		expungeCollectedKeys();
+
+		return entries.get(new Key<>(key, null, null));
+	}
+
+	/**
+	 * @param key must not be {@code null}.
+	 * @param value must not be {@code null}.
+	 */
+	void put(K key, V value) {
+
+		expungeCollectedKeys();
+
+		entries.put(new Key<>(key, null, collectedKeys), value);
+	}
+
+	/**
+	 * Stores the value and adds the key to the given group, see {@link #removeGroup(Object)}. A key should always be put
+	 * into the same group.
+	 *
+	 * @param key must not be {@code null}.
+	 * @param group must not be {@code null}.
+	 * @param value must not be {@code null}.
+	 */
+	void put(K key, Object group, V value) {
+
+		expungeCollectedKeys();
+
+		Key<K> reference = new Key<>(key, group, collectedKeys);
+
+		groups.compute(group, (g, keys) -> {
+
+			Set<Key<K>> members = keys == null ? new HashSet<>() : keys;
+			members.add(reference);
+			return members;
+		});
+		entries.put(reference, value);
+	}
+
+	/**
+	 * @param key must not be {@code null}.
+	 * @return the value that was stored for exactly this key instance. {@code null} if there was none.
+	 */
+	@Nullable
+	V remove(K key) {
+
+		expungeCollectedKeys();
+
+		return entries.remove(new Key<>(key, null, null));
+	}
+
+	/**
+	 * Removes the entries of all keys put into the given group.
+	 *
+	 * @param group must not be {@code null}.
+	 */
+	void removeGroup(Object group) {
+
+		expungeCollectedKeys();
+
+		Set<Key<K>> keys = groups.remove(group);
+
+		if (keys != null) {
+			keys.forEach(entries::remove);
+		}
+	}
+
+	/**
+	 * Removes all entries with keys matching the predicate.
+	 *
+	 * @param predicate must not be {@code null}.
+	 */
+	void removeIf(Predicate<? super K> predicate) {
+
+		expungeCollectedKeys();
+
+		entries.keySet().removeIf(key -> {
+
+			K referent = key.get();
+			return referent != null && predicate.test(referent);
+		});
+	}
+
+	void clear() {
+
+		entries.clear();
+		groups.clear();
+		expungeCollectedKeys();
+	}
+
+	int size() {
+
+		expungeCollectedKeys();
+
+		return entries.size();
+	}
+
+	private void expungeCollectedKeys() {
+
+		Reference<? extends K> collected;
+		while ((collected = collectedKeys.poll()) != null) {
+
+			entries.remove(collected);
+			removeFromGroup((Key<?>) collected);
+		}
+	}
+
+	private void removeFromGroup(Key<?> key) {
+
+		if (key.group != null) {
+			groups.computeIfPresent(key.group, (group, keys) -> {
+
+				keys.remove(key);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+	}
+
+	/**
+	 * A weak reference to a key, equal to other references to the same instance. References that got cleared are only
+	 * equal to themselves.
+	 */
+	private static final class Key<K> extends WeakReference<K> {
+
+		private final int hash;
+		private final @Nullable Object group;
+
+		Key(K referent, @Nullable Object group, @Nullable ReferenceQueue<K> queue) {
+
+			super(referent, queue);
+
+			this.hash = System.identityHashCode(referent);
+			this.group = group;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Object referent = get();
+			return referent != null && referent == ((Key<?>) o).get();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
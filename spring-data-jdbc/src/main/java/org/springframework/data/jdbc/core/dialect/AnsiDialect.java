@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Dialect} using the syntax of the SQL standard, for databases without a more specific dialect. Selects get
+ * limited using {@code OFFSET ... FETCH FIRST}.
+ */
+public class AnsiDialect implements Dialect {
+
+	public static final AnsiDialect INSTANCE = new AnsiDialect();
+
+	protected AnsiDialect() {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#limit(java.lang.String, boolean, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String limit(String select, boolean ordered, String limitParameter, @Nullable String offsetParameter) {
+
+		String offset = offsetParameter == null ? "" : " OFFSET :" + offsetParameter + " ROWS";
+
+		return String.format("%s%s FETCH FIRST :%s ROWS ONLY", select, offset, limitParameter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#forUpdateSkipLocked(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String forUpdateSkipLocked(String tableName, String idColumn, String conditionAndOrder, String limitParameter) {
+		return String.format("SELECT %s FROM %s%s FETCH FIRST :%s ROWS ONLY FOR UPDATE SKIP LOCKED", idColumn, tableName,
+				conditionAndOrder, limitParameter);
+	}
+}
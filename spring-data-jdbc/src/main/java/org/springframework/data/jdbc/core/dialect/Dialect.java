@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The SQL syntax specific to a database, for the parts of statements that differ between databases. The
+ * implementations for common databases get detected by {@link DialectResolver}.
+ */
+public interface Dialect {
+
+	/**
+	 * Limits a select to a range of rows. The number of rows and the rows to skip are expected in named parameters, so
+	 * the statement is the same for all pages.
+	 *
+	 * @param select the select to limit. Must not be {@code null}.
+	 * @param ordered whether the select ends with an {@code ORDER BY} clause.
+	 * @param limitParameter the name of the parameter holding the maximum number of rows. Must not be {@code null}.
+	 * @param offsetParameter the name of the parameter holding the number of rows to skip. May be {@code null} to skip
+	 *          no rows.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String limit(String select, boolean ordered, String limitParameter, @Nullable String offsetParameter);
+
+	/**
+	 * Renders a query selecting the id column of a limited number of rows, locking them and skipping rows already locked
+	 * by other transactions. Databases that can't skip locked rows should lock them anyway. Just like for
+	 * {@link #limit(String, boolean, String, String)}, the number of rows is expected in a named parameter, so the
+	 * statement is the same for all limits.
+	 *
+	 * @param tableName the table to select from.
+	 * @param idColumn the id column to select.
+	 * @param conditionAndOrder the {@code WHERE} and {@code ORDER BY} clauses, each starting with a blank. May be empty.
+	 * @param limitParameter the name of the parameter holding the maximum number of rows. Must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 */
+	String forUpdateSkipLocked(String tableName, String idColumn, String conditionAndOrder, String limitParameter);
+
+	/**
+	 * @return whether a list of values can get bound as a single {@link java.sql.Array} parameter to conditions
+	 *         rendered by {@link #inArray(String, String)}.
+	 */
+	default boolean supportsArrayParameters() {
+		return false;
+	}
+
+	/**
+	 * Renders a condition matching a column against the elements of an array parameter.
+	 *
+	 * @param column the possibly qualified column to match.
+	 * @param parameterName the name of the parameter holding the array.
+	 * @return a SQL condition. Guaranteed to be not {@code null}.
+	 * @throws UnsupportedOperationException if the database doesn't support array parameters.
+	 */
+	default String inArray(String column, String parameterName) {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support array parameters.");
+	}
+
+	/**
+	 * @return whether update statements can return values of the updated rows, see {@link #returning(String, String)}.
+	 */
+	default boolean supportsReturning() {
+		return false;
+	}
+
+	/**
+	 * Extends an update statement, so executing it as a query returns the new value of a column for each updated row.
+	 * This saves a separate query, which might see changes made by others in the meantime.
+	 *
+	 * @param update the update statement. Must not be {@code null}.
+	 * @param column the column to return. Must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @throws UnsupportedOperationException if the database doesn't support returning values from updates.
+	 */
+	default String returning(String update, String column) {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support returning values.");
+	}
+
+	/**
+	 * @return the maximum number of values in an {@code IN} list with one bind parameter per value.
+	 */
+	default int getMaxInListSize() {
+		return 1000;
+	}
+}
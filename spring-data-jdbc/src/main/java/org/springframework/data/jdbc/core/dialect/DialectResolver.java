@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Detects the {@link Dialect} of a database from its {@link DatabaseMetaData}.
+ */
+public final class DialectResolver {
+
+	private DialectResolver() {}
+
+	/**
+	 * @param metaData the meta data of a connection to the database. Must not be {@code null}.
+	 * @return the {@link Dialect} of the database. Guaranteed to be not {@code null}.
+	 * @throws SQLException if the meta data can't be accessed.
+	 */
+	public static Dialect getDialect(DatabaseMetaData metaData) throws SQLException {
+
+		return getDialect(metaData.getDatabaseProductName(), metaData.getDatabaseMajorVersion(),
+				metaData.getDatabaseMinorVersion());
+	}
+
+	/**
+	 * Assumes a current version of the database.
+	 *
+	 * @param databaseProductName as reported by {@link DatabaseMetaData#getDatabaseProductName()}. Must not be
+	 *          {@code null}.
+	 * @return the {@link Dialect} of the database. Unknown databases get the {@link AnsiDialect}.
+	 */
+	public static Dialect getDialect(String databaseProductName) {
+		return getDialect(databaseProductName, Integer.MAX_VALUE, 0);
+	}
+
+	/**
+	 * @param databaseProductName as reported by {@link DatabaseMetaData#getDatabaseProductName()}. Must not be
+	 *          {@code null}.
+	 * @param majorVersion as reported by {@link DatabaseMetaData#getDatabaseMajorVersion()}.
+	 * @param minorVersion as reported by {@link DatabaseMetaData#getDatabaseMinorVersion()}.
+	 * @return the {@link Dialect} of the database. Unknown databases get the {@link AnsiDialect}.
+	 */
+	public static Dialect getDialect(String databaseProductName, int majorVersion, int minorVersion) {
+
+		if (databaseProductName.startsWith("HSQL")) {
+			return HsqlDbDialect.INSTANCE;
+		}
+
+		if (databaseProductName.startsWith("H2")) {
+			return H2Dialect.INSTANCE;
+		}
+
+		if (databaseProductName.startsWith("PostgreSQL")) {
+			return PostgresDialect.INSTANCE;
+		}
+
+		// SKIP LOCKED is supported from MySQL 8.0 and MariaDB 10.6 on
+		if (databaseProductName.startsWith("MySQL")) {
+			return majorVersion >= 8 ? MySqlDialect.INSTANCE : MySqlDialect.WITHOUT_SKIP_LOCKED;
+		}
+
+		if (databaseProductName.startsWith("MariaDB")) {
+			return majorVersion > 10 || majorVersion == 10 && minorVersion >= 6 //
+					? MySqlDialect.INSTANCE //
+					: MySqlDialect.WITHOUT_SKIP_LOCKED;
+		}
+
+		if (databaseProductName.startsWith("Microsoft SQL Server")) {
+			return SqlServerDialect.INSTANCE;
+		}
+
+		return AnsiDialect.INSTANCE;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+/**
+ * {@link Dialect} for H2. Locked rows can't get skipped, so they block instead.
+ */
+public class H2Dialect extends LimitOffsetDialect {
+
+	public static final H2Dialect INSTANCE = new H2Dialect();
+
+	protected H2Dialect() {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.LimitOffsetDialect#forUpdateSkipLocked(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String forUpdateSkipLocked(String tableName, String idColumn, String conditionAndOrder, String limitParameter) {
+		return String.format("SELECT %s FROM %s%s LIMIT :%s FOR UPDATE", idColumn, tableName, conditionAndOrder,
+				limitParameter);
+	}
+}
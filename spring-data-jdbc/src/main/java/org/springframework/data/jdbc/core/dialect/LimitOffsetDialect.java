@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Base class for databases limiting selects with {@code LIMIT} and {@code OFFSET} and supporting
+ * {@code FOR UPDATE SKIP LOCKED}.
+ */
+public abstract class LimitOffsetDialect implements Dialect {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#limit(java.lang.String, boolean, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String limit(String select, boolean ordered, String limitParameter, @Nullable String offsetParameter) {
+
+		String offset = offsetParameter == null ? "" : " OFFSET :" + offsetParameter;
+
+		return String.format("%s LIMIT :%s%s", select, limitParameter, offset);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#forUpdateSkipLocked(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String forUpdateSkipLocked(String tableName, String idColumn, String conditionAndOrder, String limitParameter) {
+		return String.format("SELECT %s FROM %s%s LIMIT :%s FOR UPDATE SKIP LOCKED", idColumn, tableName,
+				conditionAndOrder, limitParameter);
+	}
+}
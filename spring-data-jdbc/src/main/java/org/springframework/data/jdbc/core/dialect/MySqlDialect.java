@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+/**
+ * {@link Dialect} for MySQL and MariaDB. Locked rows get skipped from MySQL 8.0 and MariaDB 10.6 on. Older versions
+ * reject {@code SKIP LOCKED}, so locked rows block instead.
+ */
+public class MySqlDialect extends LimitOffsetDialect {
+
+	/**
+	 * The {@link MySqlDialect} for MySQL 8.0 and MariaDB 10.6 or later.
+	 */
+	public static final MySqlDialect INSTANCE = new MySqlDialect(true);
+
+	/**
+	 * The {@link MySqlDialect} for versions of MySQL and MariaDB that can't skip locked rows.
+	 */
+	public static final MySqlDialect WITHOUT_SKIP_LOCKED = new MySqlDialect(false);
+
+	private final boolean skipLocked;
+
+	protected MySqlDialect(boolean skipLocked) {
+		this.skipLocked = skipLocked;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.LimitOffsetDialect#forUpdateSkipLocked(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String forUpdateSkipLocked(String tableName, String idColumn, String conditionAndOrder, String limitParameter) {
+
+		if (skipLocked) {
+			return super.forUpdateSkipLocked(tableName, idColumn, conditionAndOrder, limitParameter);
+		}
+
+		return String.format("SELECT %s FROM %s%s LIMIT :%s FOR UPDATE", idColumn, tableName, conditionAndOrder,
+				limitParameter);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+/**
+ * {@link Dialect} for PostgreSQL. Lists of values get bound as a single array, matched using {@code = ANY}. Updates
+ * return values using {@code RETURNING}.
+ */
+public class PostgresDialect extends LimitOffsetDialect {
+
+	public static final PostgresDialect INSTANCE = new PostgresDialect();
+
+	protected PostgresDialect() {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#supportsArrayParameters()
+	 */
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#inArray(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String inArray(String column, String parameterName) {
+		return String.format("%s = ANY(:%s)", column, parameterName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#supportsReturning()
+	 */
+	@Override
+	public boolean supportsReturning() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#returning(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String returning(String update, String column) {
+		return update + " RETURNING " + column;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Dialect} for Microsoft SQL Server 2012 and later. Selects get limited using {@code OFFSET ... FETCH}, which
+ * requires an {@code ORDER BY} clause, and locked rows get skipped using the table hints {@code UPDLOCK} and
+ * {@code READPAST}.
+ */
+public class SqlServerDialect implements Dialect {
+
+	public static final SqlServerDialect INSTANCE = new SqlServerDialect();
+
+	protected SqlServerDialect() {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#limit(java.lang.String, boolean, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String limit(String select, boolean ordered, String limitParameter, @Nullable String offsetParameter) {
+
+		String orderBy = ordered ? "" : " ORDER BY (SELECT NULL)";
+		String offset = offsetParameter == null ? "0" : ":" + offsetParameter;
+
+		return String.format("%s%s OFFSET %s ROWS FETCH NEXT :%s ROWS ONLY", select, orderBy, offset, limitParameter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.dialect.Dialect#forUpdateSkipLocked(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String forUpdateSkipLocked(String tableName, String idColumn, String conditionAndOrder, String limitParameter) {
+		return String.format("SELECT TOP (:%s) %s FROM %s WITH (UPDLOCK, READPAST, ROWLOCK)%s", limitParameter, idColumn,
+				tableName, conditionAndOrder);
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * Database specific SQL syntax.
+ */
+@NonNullApi
+package org.springframework.data.jdbc.core.dialect;
+
+import org.springframework.lang.NonNullApi;
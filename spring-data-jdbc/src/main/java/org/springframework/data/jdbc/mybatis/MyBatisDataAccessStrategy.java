@@ -18,10 +18,13 @@ package org.springframework.data.jdbc.mybatis;
 import static java.util.Arrays.*;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.CascadingDataAccessStrategy;
 import org.springframework.data.jdbc.core.DataAccessStrategy;
 import org.springframework.data.jdbc.core.DefaultDataAccessStrategy;
@@ -32,7 +35,10 @@ import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -147,6 +153,52 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, instance, domainType, Collections.emptyMap())) != 0;
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateListElement(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public <T> boolean updateListElement(T instance, Object rootId,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath, int index) {
+
+		RelationalPersistentProperty listProperty = propertyPath.getRequiredLeafProperty();
+
+		Map<String, Object> additionalValues = new HashMap<>();
+		additionalValues.put(listProperty.getReverseColumnName(), rootId);
+		additionalValues.put(listProperty.getKeyColumn(), index);
+
+		return sqlSession().update(
+				namespace(propertyPath.getBaseProperty().getOwner().getType()) + ".updateListElement-"
+						+ toDashPath(propertyPath),
+				new MyBatisContext(rootId, instance, instance.getClass(), additionalValues)) != 0;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#increment(java.lang.Object, java.lang.Class, org.springframework.data.relational.core.mapping.RelationalPersistentProperty, java.lang.Number)
+	 */
+	@Override
+	public <T> Object increment(Object id, Class<T> domainType, RelationalPersistentProperty property, Number delta) {
+
+		return sqlSession().selectOne(namespace(domainType) + ".increment-" + property.getName(),
+				new MyBatisContext(id, null, domainType, Collections.singletonMap("delta", delta)));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.relational.core.query.Update)
+	 */
+	@Override
+	public <T> long updateAll(Class<T> domainType, Criteria criteria, Update update) {
+
+		Map<String, Object> additionalValues = new HashMap<>();
+		additionalValues.put("criteria", criteria);
+		additionalValues.put("update", update);
+
+		return sqlSession().update(namespace(domainType) + ".updateAll",
+				new MyBatisContext(null, null, domainType, additionalValues));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -171,6 +223,21 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 						Collections.emptyMap()));
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteListTail(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath, int)
+	 */
+	@Override
+	public void deleteListTail(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+			int size) {
+
+		sqlSession().delete(
+				namespace(propertyPath.getBaseProperty().getOwner().getType()) + ".deleteListTail-"
+						+ toDashPath(propertyPath),
+				new MyBatisContext(rootId, null, propertyPath.getRequiredLeafProperty().getActualType(),
+						Collections.singletonMap("size", size)));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -200,6 +267,35 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public <T> long deleteAll(Class<T> domainType, Criteria criteria) {
+
+		return sqlSession().delete( //
+				namespace(domainType) + ".deleteAllMatching", //
+				new MyBatisContext(null, null, domainType, Collections.singletonMap("criteria", criteria)) //
+		);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(org.springframework.data.mapping.PersistentPropertyPath, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Criteria criteria) {
+
+		Class<?> baseType = propertyPath.getBaseProperty().getOwner().getType();
+		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
+
+		sqlSession().delete( //
+				namespace(baseType) + ".deleteAllMatching-" + toDashPath(propertyPath), //
+				new MyBatisContext(null, null, leafType, Collections.singletonMap("criteria", criteria)) //
+		);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -230,6 +326,60 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(ids, null, domainType, Collections.emptyMap()));
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllForUpdateSkipLocked(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAllForUpdateSkipLocked(Class<T> domainType, @Nullable Criteria criteria, Sort sort,
+			int limit) {
+
+		Map<String, Object> additionalValues = new HashMap<>();
+		additionalValues.put("criteria", criteria);
+		additionalValues.put("sort", sort);
+		additionalValues.put("limit", limit);
+
+		return sqlSession().selectList(namespace(domainType) + ".findAllForUpdateSkipLocked",
+				new MyBatisContext(null, null, domainType, additionalValues));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, @Nullable Criteria criteria, Sort sort, long offset,
+			int limit) {
+
+		Map<String, Object> additionalValues = new HashMap<>();
+		additionalValues.put("criteria", criteria);
+		additionalValues.put("sort", sort);
+		additionalValues.put("offset", offset);
+		additionalValues.put("limit", limit);
+
+		return sqlSession().selectList(namespace(domainType) + ".findAllMatching",
+				new MyBatisContext(null, null, domainType, additionalValues));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllProperties(java.lang.Class, java.util.List, org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort, long, int)
+	 */
+	@Override
+	public Iterable<Map<String, Object>> findAllProperties(Class<?> domainType, List<String> properties,
+			@Nullable Criteria criteria, Sort sort, long offset, int limit) {
+
+		Map<String, Object> additionalValues = new HashMap<>();
+		additionalValues.put("properties", properties);
+		additionalValues.put("criteria", criteria);
+		additionalValues.put("sort", sort);
+		additionalValues.put("offset", offset);
+		additionalValues.put("limit", limit);
+
+		return sqlSession().selectList(namespace(domainType) + ".findAllProperties",
+				new MyBatisContext(null, null, domainType, additionalValues));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllByProperty(java.lang.Object, org.springframework.data.relational.core.mapping.RelationalPersistentProperty)
@@ -251,6 +401,16 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(id, null, domainType, Collections.emptyMap()));
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#exists(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public boolean exists(Class<?> domainType, Criteria criteria) {
+		return sqlSession().selectOne(namespace(domainType) + ".existsMatching",
+				new MyBatisContext(null, null, domainType, Collections.singletonMap("criteria", criteria)));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
@@ -261,6 +421,16 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, null, domainType, Collections.emptyMap()));
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class, org.springframework.data.relational.core.query.Criteria)
+	 */
+	@Override
+	public long count(Class<?> domainType, Criteria criteria) {
+		return sqlSession().selectOne(namespace(domainType) + ".countMatching",
+				new MyBatisContext(null, null, domainType, Collections.singletonMap("criteria", criteria)));
+	}
+
 	private String namespace(Class<?> domainType) {
 		return this.namespaceStrategy.getNamespace(domainType);
 	}
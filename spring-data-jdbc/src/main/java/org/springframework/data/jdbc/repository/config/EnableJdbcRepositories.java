@@ -112,4 +112,11 @@ public @interface EnableJdbcRepositories {
 	 * discovered through this annotation. Defaults to {@code defaultDataAccessStrategy} if existed.
 	 */
 	String dataAccessStrategyRef() default "";
+
+	/**
+	 * Configures whether the SQL statements, row mappers and write plans of the aggregates managed by the repositories get
+	 * prepared eagerly when the repositories get created. This moves the work from the first use of a repository to
+	 * application startup and makes mapping errors fail the startup. Defaults to {@literal false}.
+	 */
+	boolean initializeEagerly() default false;
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Turns an {@link Example} into a {@link Criteria} on the simple properties of the aggregate root. Since the resulting
+ * statement only depends on the properties and matchers used, probes with the same shape share a single rendered
+ * statement. Referenced entities, embedded value objects, {@link ExampleMatcher.MatchMode#ANY}, case insensitive and
+ * regular expression matching are not supported. Probes must leave references to other entities and embedded value
+ * objects {@code null}, or empty for collections and maps, unless they are ignored by the {@link ExampleMatcher}.
+ */
+@UtilityClass
+class ExampleCriteria {
+
+	/**
+	 * @param example the {@link Example} to convert. Must not be {@code null}.
+	 * @param entity the aggregate root the probe belongs to. Must not be {@code null}.
+	 * @return the {@link Criteria}. {@code null} if the example matches all aggregate roots.
+	 * @throws IllegalArgumentException for unsupported matchers and for probes with values for referenced entities or
+	 *           embedded value objects.
+	 */
+	@Nullable
+	static Criteria of(Example<?> example, PersistentEntity<?, ?> entity) {
+
+		ExampleMatcher matcher = example.getMatcher();
+		ExampleMatcherAccessor matcherAccessor = new ExampleMatcherAccessor(matcher);
+
+		if (matcher.isAnyMatching()) {
+			throw new IllegalArgumentException("Examples matching any of the properties are not supported.");
+		}
+
+		PersistentPropertyAccessor<?> probe = entity.getPropertyAccessor(example.getProbe());
+		Criteria criteria = null;
+
+		for (Object element : entity) {
+
+			RelationalPersistentProperty property = (RelationalPersistentProperty) element;
+			String path = property.getName();
+
+			if (matcherAccessor.isIgnoredPath(path)) {
+				continue;
+			}
+
+			Optional<Object> value = matcherAccessor.getValueTransformerForPath(path)
+					.apply(Optional.ofNullable(probe.getProperty(property)));
+
+			if (property.isEntity() || property.isEmbedded()) {
+
+				if (constrains(value)) {
+					throw new IllegalArgumentException(String.format("Matching the referenced entity or embedded value object %s "
+							+ "is not supported. Ignore it using ExampleMatcher.withIgnorePaths(…).", path));
+				}
+
+				continue;
+			}
+
+			if (!value.isPresent()) {
+
+				if (matcherAccessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+					criteria = step(criteria, path).isNull();
+				}
+
+				continue;
+			}
+
+			criteria = value.get() instanceof String //
+					? matchString(step(criteria, path), (String) value.get(), matcherAccessor, path) //
+					: step(criteria, path).is(value.get());
+		}
+
+		return criteria;
+	}
+
+	/**
+	 * {@code null} as well as empty collections and maps are how probes usually leave references to other entities unset.
+	 */
+	private static boolean constrains(Optional<Object> value) {
+
+		return value.filter(it -> !(it instanceof Collection && ((Collection<?>) it).isEmpty()))
+				.filter(it -> !(it instanceof Map && ((Map<?, ?>) it).isEmpty())) //
+				.isPresent();
+	}
+
+	private static Criteria matchString(Criteria.CriteriaStep step, String value, ExampleMatcherAccessor matcherAccessor,
+			String path) {
+
+		if (matcherAccessor.isIgnoreCaseForPath(path)) {
+			throw new IllegalArgumentException(String.format("Case insensitive matching of %s is not supported.", path));
+		}
+
+		switch (matcherAccessor.getStringMatcherForPath(path)) {
+			case DEFAULT:
+			case EXACT:
+				return step.is(value);
+			case STARTING:
+				return step.like(Criteria.escapeLike(value) + "%");
+			case ENDING:
+				return step.like("%" + Criteria.escapeLike(value));
+			case CONTAINING:
+				return step.like("%" + Criteria.escapeLike(value) + "%");
+			default:
+				throw new IllegalArgumentException(String.format("Matching %s with %s is not supported.", path,
+						matcherAccessor.getStringMatcherForPath(path)));
+		}
+	}
+
+	private static Criteria.CriteriaStep step(@Nullable Criteria criteria, String property) {
+		return criteria == null ? Criteria.where(property) : criteria.and(property);
+	}
+}
@@ -20,6 +20,7 @@ import java.lang.reflect.Method;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.DataAccessStrategy;
 import org.springframework.data.jdbc.core.EntityRowMapper;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
@@ -32,10 +33,14 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
- * {@link QueryLookupStrategy} for JDBC repositories. Currently only supports annotated queries.
+ * {@link QueryLookupStrategy} for JDBC repositories. Uses the query of the
+ * {@link org.springframework.data.jdbc.repository.query.Query} annotation if present and derives a query from the
+ * method name otherwise, unless the lookup strategy is {@link QueryLookupStrategy.Key#USE_DECLARED_QUERY}.
  *
  * @author Jens Schauder
  * @author Kazuki Shimizu
@@ -51,6 +56,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	private final DataAccessStrategy accessStrategy;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final NamedParameterJdbcOperations operations;
+	private final JdbcAggregateOperations aggregateOperations;
+	private final boolean deriveQueries;
 
 	/**
 	 * Creates a new {@link JdbcQueryLookupStrategy} for the given {@link RelationalMappingContext},
@@ -61,16 +68,20 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	 * @param converter must not be {@literal null}.
 	 * @param accessStrategy must not be {@literal null}.
 	 * @param queryMappingConfiguration must not be {@literal null}.
+	 * @param aggregateOperations used for executing derived queries. Must not be {@literal null}.
+	 * @param key the configured lookup strategy. May be {@literal null} for the default.
 	 */
 	JdbcQueryLookupStrategy(ApplicationEventPublisher publisher, RelationalMappingContext context,
 			RelationalConverter converter, DataAccessStrategy accessStrategy,
-			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations) {
+			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+			JdbcAggregateOperations aggregateOperations, @Nullable QueryLookupStrategy.Key key) {
 
 		Assert.notNull(publisher, "Publisher must not be null!");
 		Assert.notNull(context, "RelationalMappingContext must not be null!");
 		Assert.notNull(converter, "RelationalConverter must not be null!");
 		Assert.notNull(accessStrategy, "DataAccessStrategy must not be null!");
 		Assert.notNull(queryMappingConfiguration, "RowMapperMap must not be null!");
+		Assert.notNull(aggregateOperations, "JdbcAggregateOperations must not be null!");
 
 		this.publisher = publisher;
 		this.context = context;
@@ -78,6 +89,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		this.accessStrategy = accessStrategy;
 		this.queryMappingConfiguration = queryMappingConfiguration;
 		this.operations = operations;
+		this.aggregateOperations = aggregateOperations;
+		this.deriveQueries = key != QueryLookupStrategy.Key.USE_DECLARED_QUERY;
 	}
 
 	/*
@@ -90,6 +103,10 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 		JdbcQueryMethod queryMethod = new JdbcQueryMethod(method, repositoryMetadata, projectionFactory);
 
+		if (deriveQueries && StringUtils.isEmpty(queryMethod.getAnnotatedQuery())) {
+			return new PartTreeJdbcQuery(context, queryMethod, aggregateOperations, projectionFactory);
+		}
+
 		RowMapper<?> mapper = queryMethod.isModifyingQuery() ? null : createMapper(queryMethod);
 
 		return new JdbcRepositoryQuery(publisher, context, queryMethod, operations, mapper);
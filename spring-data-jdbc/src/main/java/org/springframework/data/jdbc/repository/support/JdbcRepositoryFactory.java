@@ -16,7 +16,10 @@
 package org.springframework.data.jdbc.repository.support;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.DataAccessStrategy;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
@@ -46,13 +49,17 @@ import org.springframework.util.Assert;
  */
 public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
+	private static final Log LOG = LogFactory.getLog(JdbcRepositoryFactory.class);
+
 	private final RelationalMappingContext context;
 	private final RelationalConverter converter;
 	private final ApplicationEventPublisher publisher;
 	private final DataAccessStrategy accessStrategy;
 	private final NamedParameterJdbcOperations operations;
+	private final JdbcAggregateTemplate template;
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
+	private boolean initializeEagerly = false;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -77,6 +84,9 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.converter = converter;
 		this.accessStrategy = dataAccessStrategy;
 		this.operations = operations;
+
+		// repositories and their derived queries share the template, so both see the same tracked aggregates
+		this.template = new JdbcAggregateTemplate(publisher, context, converter, dataAccessStrategy);
 	}
 
 	/**
@@ -90,6 +100,18 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * Configures whether the write plan, SQL statements and row mappers of the aggregate should get prepared when a
+	 * repository gets created instead of on first use. Mapping errors then surface as an exception on repository
+	 * creation.
+	 *
+	 * @param initializeEagerly {@literal true} to prepare the aggregate eagerly.
+	 * @see JdbcAggregateTemplate#prepare(Class)
+	 */
+	public void setInitializeEagerly(boolean initializeEagerly) {
+		this.initializeEagerly = initializeEagerly;
+	}
+
 	/**
 	 * @param rowMapperMap must not be {@literal null} consider {@link RowMapperMap#EMPTY} instead.
 	 * @deprecated use {@link #setQueryMappingConfiguration(QueryMappingConfiguration)} instead
@@ -115,11 +137,25 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
 
-		JdbcAggregateTemplate template = new JdbcAggregateTemplate(publisher, context, converter, accessStrategy);
+		if (initializeEagerly) {
+			prepare(repositoryInformation.getDomainType());
+		}
 
 		return new SimpleJdbcRepository<>(template, context.getPersistentEntity(repositoryInformation.getDomainType()));
 	}
 
+	private void prepare(Class<?> domainType) {
+
+		long start = System.nanoTime();
+
+		template.prepare(domainType);
+
+		if (LOG.isInfoEnabled()) {
+			LOG.info(String.format("Prepared aggregate %s in %d ms.", domainType.getName(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
@@ -145,6 +181,6 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		}
 
 		return Optional.of(new JdbcQueryLookupStrategy(publisher, context, converter, accessStrategy,
-				queryMappingConfiguration, operations));
+				queryMappingConfiguration, operations, template, key));
 	}
 }
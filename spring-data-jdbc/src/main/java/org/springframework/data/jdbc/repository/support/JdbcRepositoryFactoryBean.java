@@ -52,6 +52,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private DataAccessStrategy dataAccessStrategy;
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private NamedParameterJdbcOperations operations;
+	private boolean initializeEagerly = false;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -83,6 +84,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		JdbcRepositoryFactory jdbcRepositoryFactory = new JdbcRepositoryFactory(dataAccessStrategy, mappingContext,
 				converter, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
+		jdbcRepositoryFactory.setInitializeEagerly(initializeEagerly);
 
 		return jdbcRepositoryFactory;
 	}
@@ -126,6 +128,15 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.operations = operations;
 	}
 
+	/**
+	 * @param initializeEagerly whether SQL statements and mapping information should get prepared when the repository gets
+	 *          created instead of on first use.
+	 * @see JdbcRepositoryFactory#setInitializeEagerly(boolean)
+	 */
+	public void setInitializeEagerly(boolean initializeEagerly) {
+		this.initializeEagerly = initializeEagerly;
+	}
+
 	@Autowired
 	public void setConverter(RelationalConverter converter) {
 		this.converter = converter;
@@ -0,0 +1,444 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.repository.query.DtoInstantiatingConverter;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A query derived from the name of a repository method, like {@code findByStatusAndCreatedAtAfter},
+ * {@code countByStatus}, {@code existsByName}, {@code deleteByStatus} or {@code findTop10ByStatusOrderByCreatedAt}. The
+ * method name gets parsed and validated against the mapping of the aggregate root when the repository gets created.
+ * The conditions become a {@link Criteria} on the simple properties of the aggregate root.
+ * <p>
+ * Methods returning a DTO or a closed interface projection, that only uses simple properties of the aggregate root,
+ * select just the columns of these properties. Other projections get created from the loaded aggregates.
+ */
+class PartTreeJdbcQuery implements RepositoryQuery {
+
+	private static final Set<Part.Type> SUPPORTED_TYPES = EnumSet.of(Part.Type.SIMPLE_PROPERTY,
+			Part.Type.NEGATING_SIMPLE_PROPERTY, Part.Type.LESS_THAN, Part.Type.LESS_THAN_EQUAL, Part.Type.GREATER_THAN,
+			Part.Type.GREATER_THAN_EQUAL, Part.Type.BEFORE, Part.Type.AFTER, Part.Type.BETWEEN, Part.Type.IS_NULL,
+			Part.Type.IS_NOT_NULL, Part.Type.IN, Part.Type.TRUE, Part.Type.FALSE, Part.Type.LIKE, Part.Type.STARTING_WITH,
+			Part.Type.ENDING_WITH, Part.Type.CONTAINING);
+
+	private final RelationalMappingContext context;
+	private final QueryMethod queryMethod;
+	private final JdbcAggregateOperations operations;
+	private final ProjectionFactory projectionFactory;
+	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final RelationalPersistentEntity<?> entity;
+	private final Class<?> domainType;
+	private final PartTree tree;
+	private final List<Part> parts = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link PartTreeJdbcQuery} for the given {@link QueryMethod}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param projectionFactory must not be {@literal null}.
+	 * @throws IllegalArgumentException if the method name can't be turned into a query.
+	 */
+	PartTreeJdbcQuery(RelationalMappingContext context, QueryMethod queryMethod, JdbcAggregateOperations operations,
+			ProjectionFactory projectionFactory) {
+
+		Assert.notNull(context, "Context must not be null!");
+		Assert.notNull(queryMethod, "Query method must not be null!");
+		Assert.notNull(operations, "JdbcAggregateOperations must not be null!");
+		Assert.notNull(projectionFactory, "ProjectionFactory must not be null!");
+
+		this.context = context;
+		this.queryMethod = queryMethod;
+		this.operations = operations;
+		this.projectionFactory = projectionFactory;
+		this.domainType = queryMethod.getEntityInformation().getJavaType();
+		this.entity = context.getRequiredPersistentEntity(domainType);
+		this.tree = new PartTree(queryMethod.getName(), domainType);
+
+		validate(entity);
+
+		tree.forEach(orPart -> orPart.forEach(parts::add));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+	 */
+	@Override
+	@Nullable
+	public Object execute(Object[] parameters) {
+
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+
+		if (matchesNothing(accessor)) {
+			return tree.isDelete() || tree.isCountProjection() ? convertCount(0) : executeEmpty();
+		}
+
+		Criteria criteria = createCriteria(accessor);
+
+		if (tree.isDelete()) {
+
+			Assert.state(criteria != null, "A derived delete query needs at least one condition.");
+
+			return convertCount(operations.deleteAll(domainType, criteria));
+		}
+
+		if (tree.isCountProjection()) {
+			return convertCount(criteria == null ? operations.count(domainType) : operations.count(domainType, criteria));
+		}
+
+		if (tree.isExistsProjection()) {
+			return criteria == null ? operations.count(domainType) > 0 : operations.exists(domainType, criteria);
+		}
+
+		return executeFind(criteria, tree.getSort().and(accessor.getSort()),
+				queryMethod.getResultProcessor().withDynamicProjection(accessor));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+	 */
+	@Override
+	public QueryMethod getQueryMethod() {
+		return queryMethod;
+	}
+
+	@Nullable
+	private Object executeFind(@Nullable Criteria criteria, Sort sort, ResultProcessor processor) {
+
+		// for single results a second result gets loaded to detect ambiguous results
+		int limit = isCollectionQuery() ? getMaxResults() : tree.isLimiting() ? 1 : 2;
+
+		ReturnedType returnedType = processor.getReturnedType();
+		List<String> projectedProperties = getProjectedProperties(returnedType);
+
+		List<?> loaded = projectedProperties == null //
+				? toList(operations.findAll(domainType, criteria, sort, 0, limit)) //
+				: toList(operations.findAllProperties(domainType, projectedProperties, criteria, sort, 0, limit));
+
+		Converter<Object, Object> converter = returnedType.isProjecting() && !returnedType.getReturnedType().isInterface() //
+				? new DtoInstantiatingConverter(returnedType.getReturnedType(), context, instantiators) //
+				: source -> source;
+
+		List<Object> result = loaded.stream() //
+				.map(source -> processor.processResult(source, converter)) //
+				.collect(Collectors.toList());
+
+		if (isCollectionQuery()) {
+			return result;
+		}
+
+		if (result.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, result.size());
+		}
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	/**
+	 * @return the simple properties of the aggregate root needed by a projection. {@code null} if the aggregates need to
+	 *         get loaded, because there is no projection or it uses other properties.
+	 */
+	@Nullable
+	private List<String> getProjectedProperties(ReturnedType returnedType) {
+
+		if (!returnedType.isProjecting()) {
+			return null;
+		}
+
+		Class<?> type = returnedType.getReturnedType();
+		List<String> properties = new ArrayList<>();
+
+		if (type.isInterface()) {
+
+			ProjectionInformation information = projectionFactory.getProjectionInformation(type);
+
+			if (!information.isClosed()) {
+				return null;
+			}
+
+			information.getInputProperties().stream() //
+					.map(PropertyDescriptor::getName) //
+					.distinct() //
+					.forEach(properties::add);
+		} else {
+			context.getRequiredPersistentEntity(type)
+					.doWithProperties((PropertyHandler<RelationalPersistentProperty>) p -> properties.add(p.getName()));
+		}
+
+		for (String property : properties) {
+
+			RelationalPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+
+			if (persistentProperty == null || persistentProperty.isEntity()) {
+				return null;
+			}
+		}
+
+		return properties.isEmpty() ? null : properties;
+	}
+
+	@Nullable
+	private Object executeEmpty() {
+
+		if (tree.isExistsProjection()) {
+			return false;
+		}
+
+		return isCollectionQuery() ? new ArrayList<>() : null;
+	}
+
+	@Nullable
+	private Criteria createCriteria(ParametersParameterAccessor accessor) {
+
+		Iterator<Object> arguments = accessor.iterator();
+		Criteria criteria = null;
+
+		for (Part part : parts) {
+
+			String property = part.getProperty().getSegment();
+
+			switch (part.getType()) {
+				case SIMPLE_PROPERTY:
+					Object value = arguments.next();
+					criteria = value == null ? step(criteria, property).isNull() : step(criteria, property).is(value);
+					break;
+				case NEGATING_SIMPLE_PROPERTY:
+					Object negated = arguments.next();
+					criteria = negated == null ? step(criteria, property).isNotNull() : step(criteria, property).not(negated);
+					break;
+				case LESS_THAN:
+				case BEFORE:
+					criteria = step(criteria, property).lessThan(arguments.next());
+					break;
+				case LESS_THAN_EQUAL:
+					criteria = step(criteria, property).lessThanOrEquals(arguments.next());
+					break;
+				case GREATER_THAN:
+				case AFTER:
+					criteria = step(criteria, property).greaterThan(arguments.next());
+					break;
+				case GREATER_THAN_EQUAL:
+					criteria = step(criteria, property).greaterThanOrEquals(arguments.next());
+					break;
+				case BETWEEN:
+					criteria = step(criteria, property).greaterThanOrEquals(arguments.next());
+					criteria = criteria.and(property).lessThanOrEquals(arguments.next());
+					break;
+				case IS_NULL:
+					criteria = step(criteria, property).isNull();
+					break;
+				case IS_NOT_NULL:
+					criteria = step(criteria, property).isNotNull();
+					break;
+				case IN:
+					criteria = step(criteria, property).in(toCollection(arguments.next()));
+					break;
+				case TRUE:
+					criteria = step(criteria, property).is(true);
+					break;
+				case FALSE:
+					criteria = step(criteria, property).is(false);
+					break;
+				case LIKE:
+					criteria = step(criteria, property).like(String.valueOf(arguments.next()));
+					break;
+				case STARTING_WITH:
+					criteria = step(criteria, property) //
+							.like(Criteria.escapeLike(String.valueOf(arguments.next())) + "%");
+					break;
+				case ENDING_WITH:
+					criteria = step(criteria, property) //
+							.like("%" + Criteria.escapeLike(String.valueOf(arguments.next())));
+					break;
+				case CONTAINING:
+					criteria = step(criteria, property) //
+							.like("%" + Criteria.escapeLike(String.valueOf(arguments.next())) + "%");
+					break;
+				default:
+					throw new IllegalStateException("Unsupported part type " + part.getType());
+			}
+		}
+
+		return criteria;
+	}
+
+	/**
+	 * An {@code IN} condition with an empty collection can't match any row, but isn't valid SQL either.
+	 */
+	private boolean matchesNothing(ParametersParameterAccessor accessor) {
+
+		Iterator<Object> arguments = accessor.iterator();
+
+		for (Part part : parts) {
+			for (int i = 0; i < part.getNumberOfArguments(); i++) {
+
+				Object argument = arguments.next();
+
+				if (part.getType() == Part.Type.IN && argument != null && toCollection(argument).isEmpty()) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private void validate(RelationalPersistentEntity<?> entity) {
+
+		if (tree.stream().count() > 1) {
+			throw invalid("Conditions combined with Or are not supported.");
+		}
+
+		for (Part part : tree.getParts()) {
+
+			if (!SUPPORTED_TYPES.contains(part.getType())) {
+				throw invalid(String.format("%s conditions are not supported.", part.getType()));
+			}
+
+			if (part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER) {
+				throw invalid("IgnoreCase is not supported.");
+			}
+
+			if (part.getProperty().hasNext()) {
+				throw invalid(String.format("Only simple properties of the aggregate root are supported, but got %s.",
+						part.getProperty().toDotPath()));
+			}
+
+			validateSimpleProperty(entity, part.getProperty().getSegment());
+		}
+
+		tree.getSort().forEach(order -> validateSimpleProperty(entity, order.getProperty()));
+
+		if (queryMethod.getParameters().hasPageableParameter()) {
+			throw invalid("Pageable parameters are not supported.");
+		}
+
+		if (tree.isDelete()) {
+
+			if (!tree.getParts().iterator().hasNext()) {
+				throw invalid("A derived delete query needs at least one condition.");
+			}
+
+			Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+			if (returnType != Void.class && !Number.class.isAssignableFrom(returnType)) {
+				throw invalid("A derived delete query must return void or the number of deleted aggregates.");
+			}
+		}
+	}
+
+	private void validateSimpleProperty(RelationalPersistentEntity<?> entity, String property) {
+
+		RelationalPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+
+		if (persistentProperty == null || persistentProperty.isEntity()) {
+			throw invalid(String.format("%s is not a simple property of %s.", property, entity.getName()));
+		}
+	}
+
+	private IllegalArgumentException invalid(String reason) {
+		return new IllegalArgumentException(
+				String.format("Failed to create query for method %s! %s", queryMethod.getName(), reason));
+	}
+
+	private boolean isCollectionQuery() {
+		return queryMethod.isCollectionQuery() || queryMethod.isStreamQuery();
+	}
+
+	private int getMaxResults() {
+
+		Integer maxResults = tree.getMaxResults();
+
+		return maxResults == null ? 0 : maxResults;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Object convertCount(long count) {
+
+		Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+
+		if (returnType == Void.class) {
+			return null;
+		}
+
+		return Number.class.isAssignableFrom(returnType) //
+				? NumberUtils.convertNumberToTargetClass(count, (Class<Number>) returnType) //
+				: count;
+	}
+
+	private static Criteria.CriteriaStep step(@Nullable Criteria criteria, String property) {
+		return criteria == null ? Criteria.where(property) : criteria.and(property);
+	}
+
+	private static Collection<?> toCollection(Object argument) {
+
+		if (argument instanceof Collection) {
+			return (Collection<?>) argument;
+		}
+
+		return ObjectUtils.isArray(argument) //
+				? CollectionUtils.arrayToList(argument) //
+				: CollectionUtils.arrayToList(new Object[] { argument });
+	}
+
+	private static List<?> toList(Iterable<?> iterable) {
+
+		if (iterable instanceof List) {
+			return (List<?>) iterable;
+		}
+
+		List<Object> list = new ArrayList<>();
+		iterable.forEach(list::add);
+		return list;
+	}
+}
@@ -18,12 +18,23 @@ package org.springframework.data.jdbc.repository.support;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.data.util.Streamable;
 
 /**
@@ -31,7 +42,7 @@ import org.springframework.data.util.Streamable;
  * @author Oliver Gierke
  */
 @RequiredArgsConstructor
-public class SimpleJdbcRepository<T, ID> implements CrudRepository<T, ID> {
+public class SimpleJdbcRepository<T, ID> implements CrudRepository<T, ID>, QueryByExampleExecutor<T> {
 
 	private final @NonNull JdbcAggregateOperations entityOperations;
 	private final @NonNull PersistentEntity<T, ?> entity;
@@ -134,4 +145,94 @@ public class SimpleJdbcRepository<T, ID> implements CrudRepository<T, ID> {
 	public void deleteAll() {
 		entityOperations.deleteAll(entity.getType());
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findOne(org.springframework.data.domain.Example)
+	 */
+	@Override
+	public <S extends T> Optional<S> findOne(Example<S> example) {
+
+		// a second result gets loaded to detect ambiguous examples
+		List<S> result = findAll(example, Sort.unsorted(), 0, 2);
+
+		if (result.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, result.size());
+		}
+
+		return result.stream().findFirst();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findAll(org.springframework.data.domain.Example)
+	 */
+	@Override
+	public <S extends T> Iterable<S> findAll(Example<S> example) {
+		return findAll(example, Sort.unsorted());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findAll(org.springframework.data.domain.Example, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <S extends T> Iterable<S> findAll(Example<S> example, Sort sort) {
+		return findAll(example, sort, 0, 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findAll(org.springframework.data.domain.Example, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(findAll(example, pageable.getSort(), 0, 0));
+		}
+
+		List<S> content = findAll(example, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(example));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#count(org.springframework.data.domain.Example)
+	 */
+	@Override
+	public <S extends T> long count(Example<S> example) {
+
+		Criteria criteria = ExampleCriteria.of(example, entity);
+
+		return criteria == null //
+				? entityOperations.count(entity.getType()) //
+				: entityOperations.count(entity.getType(), criteria);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#exists(org.springframework.data.domain.Example)
+	 */
+	@Override
+	public <S extends T> boolean exists(Example<S> example) {
+
+		Criteria criteria = ExampleCriteria.of(example, entity);
+
+		return criteria == null //
+				? entityOperations.count(entity.getType()) > 0 //
+				: entityOperations.exists(entity.getType(), criteria);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S extends T> List<S> findAll(Example<S> example, Sort sort, long offset, int limit) {
+
+		Criteria criteria = ExampleCriteria.of(example, entity);
+
+		List<S> result = new ArrayList<>();
+		entityOperations.findAll(entity.getType(), criteria, sort, offset, limit).forEach(it -> result.add((S) it));
+
+		return result;
+	}
 }
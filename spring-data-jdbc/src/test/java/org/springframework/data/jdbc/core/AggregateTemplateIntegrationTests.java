@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -22,6 +23,7 @@ import lombok.Data;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.ClassRule;
@@ -32,17 +34,36 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.testing.DatabaseProfileValueSource;
 import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
+import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.AfterBulkChangeEvent;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.relational.core.mapping.event.SaveSkippedEvent;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.test.annotation.IfProfileValue;
 import org.springframework.test.annotation.ProfileValueSourceConfiguration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -59,6 +80,10 @@ public class AggregateTemplateIntegrationTests {
 	@ClassRule public static final SpringClassRule classRule = new SpringClassRule();
 	@Rule public SpringMethodRule methodRule = new SpringMethodRule();
 	@Autowired JdbcAggregateOperations template;
+	@Autowired ApplicationEventPublisher publisher;
+	@Autowired RelationalMappingContext context;
+	@Autowired RelationalConverter converter;
+	@Autowired DataAccessStrategy dataAccessStrategy;
 
 	LegoSet legoSet = createLegoSet();
 
@@ -318,6 +343,338 @@ public class AggregateTemplateIntegrationTests {
 		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("content");
 	}
 
+	@Test
+	public void saveAndUpdateInStreamingMode() {
+
+		JdbcAggregateTemplate streamingTemplate = new JdbcAggregateTemplate(publisher, context, converter,
+				dataAccessStrategy);
+		streamingTemplate.setStreamingChunkSize(3);
+
+		ListParent entity = new ListParent();
+		entity.name = "name";
+		for (int i = 0; i < 10; i++) {
+
+			ElementNoId element = new ElementNoId();
+			element.content = "content " + i;
+			entity.content.add(element);
+		}
+
+		streamingTemplate.save(entity);
+
+		entity.content.remove(0);
+		streamingTemplate.save(entity);
+
+		ListParent reloaded = template.findById(entity.id, ListParent.class);
+
+		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("content 1", "content 2", "content 3",
+				"content 4", "content 5", "content 6", "content 7", "content 8", "content 9");
+	}
+
+	@Test
+	public void savingAnUnchangedAggregateGetsSkipped() {
+
+		ListParent entity = new ListParent();
+		entity.name = "name";
+		ElementNoId element = new ElementNoId();
+		element.content = "content";
+		entity.content.add(element);
+
+		template.save(entity);
+
+		List<Object> events = new ArrayList<>();
+		JdbcAggregateTemplate skippingTemplate = new JdbcAggregateTemplate(events::add, context, converter,
+				dataAccessStrategy);
+		skippingTemplate.setSkipUnchangedSaves(true);
+
+		ListParent loaded = skippingTemplate.findById(entity.id, ListParent.class);
+		events.clear();
+
+		assertThat(skippingTemplate.save(loaded)).isSameAs(loaded);
+		assertThat(events).extracting(Object::getClass).containsExactly(SaveSkippedEvent.class);
+
+		loaded.content.get(0).content = "changed content";
+		events.clear();
+		skippingTemplate.save(loaded);
+
+		assertThat(events).extracting(Object::getClass).containsExactly(BeforeSaveEvent.class, AfterSaveEvent.class);
+		assertThat(template.findById(entity.id, ListParent.class).content).extracting(e -> e.content)
+				.containsExactly("changed content");
+
+		events.clear();
+		skippingTemplate.save(loaded);
+
+		assertThat(events).describedAs("aggregates don't get skipped after they got saved") //
+				.extracting(Object::getClass).containsExactly(BeforeSaveEvent.class, AfterSaveEvent.class);
+	}
+
+	@Test
+	public void deletingAnAggregateKeepsTheRecordedListsOfOthers() {
+
+		ListParent first = listParent("first", "a");
+		ListParent second = listParent("second", "b");
+		template.save(first);
+		template.save(second);
+
+		List<Object> events = new ArrayList<>();
+		JdbcAggregateTemplate synchronizingTemplate = new JdbcAggregateTemplate(events::add, context, converter,
+				dataAccessStrategy);
+		synchronizingTemplate.setSynchronizeListsByPosition(true);
+
+		ListParent loaded = synchronizingTemplate.findById(second.id, ListParent.class);
+		synchronizingTemplate.deleteById(first.id, ListParent.class);
+
+		loaded.content.get(0).content = "changed";
+		events.clear();
+		synchronizingTemplate.save(loaded);
+
+		assertThat(actionsOfSave(events)).contains(DbAction.UpdateListElement.class).doesNotContain(DbAction.Delete.class);
+	}
+
+	@Test
+	public void deletingAnAggregateForgetsTheRecordedListsOfItsLoadedInstances() {
+
+		ListParent entity = listParent("parent", "a");
+		template.save(entity);
+
+		List<Object> events = new ArrayList<>();
+		JdbcAggregateTemplate synchronizingTemplate = new JdbcAggregateTemplate(events::add, context, converter,
+				dataAccessStrategy);
+		synchronizingTemplate.setSynchronizeListsByPosition(true);
+
+		ListParent loaded = synchronizingTemplate.findById(entity.id, ListParent.class);
+		synchronizingTemplate.deleteById(entity.id, ListParent.class);
+
+		events.clear();
+		synchronizingTemplate.save(loaded);
+
+		assertThat(actionsOfSave(events)).contains(DbAction.Delete.class).doesNotContain(DbAction.UpdateListElement.class);
+	}
+
+	@Test
+	public void listsLoadedInATransactionThatGotRolledBackDoNotGetSynchronizedByPosition() {
+
+		ListParent entity = listParent("parent", "a");
+		template.save(entity);
+
+		List<Object> events = new ArrayList<>();
+		JdbcAggregateTemplate synchronizingTemplate = new JdbcAggregateTemplate(events::add, context, converter,
+				dataAccessStrategy);
+		synchronizingTemplate.setSynchronizeListsByPosition(true);
+
+		ListParent loaded = synchronizingTemplate.findById(entity.id, ListParent.class);
+
+		TestTransaction.end();
+		TestTransaction.start();
+
+		loaded.content.get(0).content = "changed";
+		events.clear();
+		synchronizingTemplate.save(loaded);
+
+		assertThat(actionsOfSave(events)).contains(DbAction.Delete.class).doesNotContain(DbAction.UpdateListElement.class);
+	}
+
+	@Test
+	public void savingAnAggregateWithAValueChangedInPlaceDoesNotGetSkipped() {
+
+		TaggedAggregate entity = new TaggedAggregate();
+		entity.tags = new Tags();
+		entity.tags.values.add("one");
+
+		template.save(entity);
+
+		JdbcAggregateTemplate skippingTemplate = new JdbcAggregateTemplate(publisher, context, converter,
+				dataAccessStrategy);
+		skippingTemplate.setSkipUnchangedSaves(true);
+
+		TaggedAggregate loaded = skippingTemplate.findById(entity.id, TaggedAggregate.class);
+		loaded.tags.values.add("two");
+		skippingTemplate.save(loaded);
+
+		assertThat(template.findById(entity.id, TaggedAggregate.class).tags.values).containsExactly("one", "two");
+	}
+
+	@Test
+	public void listsGetSynchronizedByPosition() {
+
+		ListParent entity = new ListParent();
+		entity.name = "name";
+		for (int i = 0; i < 4; i++) {
+
+			ElementNoId element = new ElementNoId();
+			element.content = "content " + i;
+			entity.content.add(element);
+		}
+
+		template.save(entity);
+
+		JdbcAggregateTemplate synchronizingTemplate = new JdbcAggregateTemplate(publisher, context, converter,
+				dataAccessStrategy);
+		synchronizingTemplate.setSynchronizeListsByPosition(true);
+
+		ListParent loaded = synchronizingTemplate.findById(entity.id, ListParent.class);
+		loaded.content.get(1).content = "changed";
+		ElementNoId appended = new ElementNoId();
+		appended.content = "appended";
+		loaded.content.add(appended);
+		synchronizingTemplate.save(loaded);
+
+		assertThat(template.findById(entity.id, ListParent.class).content).extracting(e -> e.content)
+				.containsExactly("content 0", "changed", "content 2", "content 3", "appended");
+
+		loaded = synchronizingTemplate.findById(entity.id, ListParent.class);
+		loaded.content.subList(2, 5).clear();
+		synchronizingTemplate.save(loaded);
+
+		assertThat(template.findById(entity.id, ListParent.class).content).extracting(e -> e.content)
+				.containsExactly("content 0", "changed");
+	}
+
+	@Test
+	public void incrementUpdatesANumericPropertyWithoutLoadingTheAggregate() {
+
+		Account account = new Account();
+		account.balance = 100;
+		template.save(account);
+
+		assertThat(template.increment(account.id, Account.class, "balance", 25)).isEqualTo(125L);
+		assertThat(template.increment(account.id, Account.class, "balance", -50)).isEqualTo(75L);
+		assertThat(template.findById(account.id, Account.class).balance).isEqualTo(75L);
+
+		assertThat(template.increment(account.id + 1, Account.class, "balance", 1)).isNull();
+	}
+
+	@Test
+	public void incrementIncrementsTheVersion() {
+
+		Account account = new Account();
+		account.balance = 100;
+		template.save(account);
+
+		template.increment(account.id, Account.class, "balance", 25);
+
+		assertThat(template.findById(account.id, Account.class).version).isEqualTo(1L);
+		assertThatThrownBy(() -> template.save(account)).isInstanceOf(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	@IfProfileValue(name = "current.database.is.not.postgres", value = "true") // returns the value from the update
+	public void incrementRequiresATransaction() {
+
+		TestTransaction.end();
+
+		assertThatThrownBy(() -> template.increment(1L, Account.class, "balance", 1))
+				.isInstanceOf(IllegalTransactionStateException.class);
+	}
+
+	@Test
+	public void updatesOfAVersionedAggregateFailOnConcurrentModification() {
+
+		VersionedAggregate aggregate = new VersionedAggregate();
+		aggregate.name = "first";
+		template.save(aggregate);
+
+		assertThat(aggregate.version).isEqualTo(0L);
+
+		VersionedAggregate loaded = template.findById(aggregate.id, VersionedAggregate.class);
+		VersionedAggregate concurrentlyLoaded = template.findById(aggregate.id, VersionedAggregate.class);
+
+		loaded.name = "second";
+		assertThat(template.save(loaded).version).isEqualTo(1L);
+
+		concurrentlyLoaded.name = "third";
+		assertThatThrownBy(() -> template.save(concurrentlyLoaded))
+				.isInstanceOf(OptimisticLockingFailureException.class);
+
+		VersionedAggregate reloaded = template.findById(aggregate.id, VersionedAggregate.class);
+		assertThat(reloaded.name).isEqualTo("second");
+		assertThat(reloaded.version).isEqualTo(1L);
+	}
+
+	@Test
+	public void updateAllAndDeleteAllChangeMatchingAggregatesWithoutLoadingThem() {
+
+		LegoSet other = createLegoSet();
+		other.setName("Millennium Falcon");
+		template.save(legoSet);
+		template.save(other);
+
+		List<Object> events = new ArrayList<>();
+		JdbcAggregateTemplate bulkTemplate = new JdbcAggregateTemplate(events::add, context, converter,
+				dataAccessStrategy);
+
+		assertThat(bulkTemplate.updateAll(LegoSet.class, Criteria.where("name").is("Star Destroyer"),
+				Update.set("name", "Super Star Destroyer"))).isEqualTo(1L);
+		assertThat(template.findById(legoSet.getId(), LegoSet.class).getName()).isEqualTo("Super Star Destroyer");
+
+		assertThat(bulkTemplate.deleteAll(LegoSet.class, Criteria.where("name").in("Super Star Destroyer", "Death Star")))
+				.isEqualTo(1L);
+
+		assertThat(template.findAll(LegoSet.class)).extracting(LegoSet::getName).containsExactly("Millennium Falcon");
+		assertThat(template.findAll(Manual.class)).extracting(Manual::getId).containsExactly(other.getManual().getId());
+
+		assertThat(events).extracting(e -> ((AfterBulkChangeEvent) e).getChange().getKind(),
+				e -> ((AfterBulkChangeEvent) e).getAffectedAggregates()) //
+				.containsExactly(tuple(Kind.SAVE, 1L), tuple(Kind.DELETE, 1L));
+	}
+
+	@Test
+	public void findAllForUpdateSkipLockedLoadsMatchingAggregatesInOrder() {
+
+		for (String name : asList("a", "b", "c")) {
+
+			ListParent entity = new ListParent();
+			entity.name = name;
+			for (int i = 0; i < 2; i++) {
+
+				ElementNoId element = new ElementNoId();
+				element.content = name + i;
+				entity.content.add(element);
+			}
+			template.save(entity);
+		}
+
+		Iterable<ListParent> locked = template.findAllForUpdateSkipLocked(ListParent.class,
+				Criteria.where("name").in("a", "c"), Sort.by(Sort.Direction.DESC, "name"), 5);
+
+		assertThat(locked).extracting(p -> p.name).containsExactly("c", "a");
+		assertThat(locked).flatExtracting(p -> p.content).extracting(e -> e.content).containsExactly("c0", "c1", "a0",
+				"a1");
+
+		assertThat(template.findAllForUpdateSkipLocked(ListParent.class, null, Sort.by("name"), 1))
+				.extracting(p -> p.name).containsExactly("a");
+	}
+
+	@Test
+	public void findAllForUpdateSkipLockedRequiresATransaction() {
+
+		TestTransaction.end();
+
+		assertThatThrownBy(() -> template.findAllForUpdateSkipLocked(ListParent.class, null, Sort.by("name"), 1))
+				.isInstanceOf(IllegalTransactionStateException.class);
+	}
+
+	@Test
+	public void loadsMoreAggregatesByIdThanFitIntoASingleInList() {
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 1100; i++) {
+
+			ListParent entity = new ListParent();
+			entity.name = "parent" + i;
+			ElementNoId element = new ElementNoId();
+			element.content = "element" + i;
+			entity.content.add(element);
+
+			ids.add(template.save(entity).id);
+		}
+
+		assertThat(template.findAllById(ids, ListParent.class)).hasSize(1100);
+		assertThat(template.findAll(ListParent.class, Criteria.where("name").like("parent%"), Sort.by("id"), 0, 0)) //
+				.hasSize(1100) //
+				.allSatisfy(p -> assertThat(p.content).extracting(e -> e.content)
+						.containsExactly(p.name.replace("parent", "element")));
+	}
+
 	private static LegoSet createLegoSet() {
 
 		LegoSet entity = new LegoSet();
@@ -330,6 +687,31 @@ public class AggregateTemplateIntegrationTests {
 		return entity;
 	}
 
+	private static ListParent listParent(String name, String... contents) {
+
+		ListParent parent = new ListParent();
+		parent.name = name;
+
+		for (String content : contents) {
+
+			ElementNoId element = new ElementNoId();
+			element.content = content;
+			parent.content.add(element);
+		}
+
+		return parent;
+	}
+
+	private static List<Class<?>> actionsOfSave(List<Object> events) {
+
+		return events.stream() //
+				.filter(BeforeSaveEvent.class::isInstance) //
+				.<AggregateChange<?>> map(event -> ((BeforeSaveEvent) event).getChange()) //
+				.flatMap(change -> change.getActions().stream()) //
+				.<Class<?>> map(Object::getClass) //
+				.collect(Collectors.toList());
+	}
+
 	@Data
 	static class LegoSet {
 
@@ -376,10 +758,70 @@ public class AggregateTemplateIntegrationTests {
 		private String content;
 	}
 
+	static class Account {
+
+		@Column("id5")
+		@Id private Long id;
+		long balance;
+		@Version Long version;
+	}
+
+	static class VersionedAggregate {
+
+		@Column("id6")
+		@Id private Long id;
+		String name;
+		@Version Long version;
+	}
+
+	static class TaggedAggregate {
+
+		@Column("id7")
+		@Id private Long id;
+		Tags tags;
+	}
+
+	/**
+	 * A mutable value stored in a single column.
+	 */
+	static class Tags {
+		List<String> values = new ArrayList<>();
+	}
+
+	@WritingConverter
+	enum TagsToStringConverter implements Converter<Tags, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(Tags tags) {
+			return String.join(",", tags.values);
+		}
+	}
+
+	@ReadingConverter
+	enum StringToTagsConverter implements Converter<String, Tags> {
+
+		INSTANCE;
+
+		@Override
+		public Tags convert(String source) {
+
+			Tags tags = new Tags();
+			tags.values.addAll(asList(source.split(",")));
+			return tags;
+		}
+	}
+
 	@Configuration
 	@Import(TestConfiguration.class)
 	static class Config {
 
+		@Bean
+		CustomConversions jdbcCustomConversions() {
+			return new JdbcCustomConversions(asList(TagsToStringConverter.INSTANCE, StringToTagsConverter.INSTANCE));
+		}
+
 		@Bean
 		Class<?> testClass() {
 			return AggregateTemplateIntegrationTests.class;
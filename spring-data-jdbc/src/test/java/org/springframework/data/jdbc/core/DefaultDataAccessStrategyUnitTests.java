@@ -16,15 +16,23 @@
 package org.springframework.data.jdbc.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static java.util.Collections.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -32,14 +40,28 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.dialect.HsqlDbDialect;
+import org.springframework.data.jdbc.core.dialect.PostgresDialect;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.IllegalTransactionStateException;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -53,10 +75,15 @@ public class DefaultDataAccessStrategyUnitTests {
 	public static final long ORIGINAL_ID = 4711L;
 
 	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+	JdbcOperations plainJdbcOperations = mock(JdbcOperations.class);
 	RelationalMappingContext context = new JdbcMappingContext();
 	RelationalConverter converter = new BasicRelationalConverter(context, new JdbcCustomConversions());
 	HashMap<String, Object> additionalParameters = new HashMap<>();
-	ArgumentCaptor<SqlParameterSource> paramSourceCaptor = ArgumentCaptor.forClass(SqlParameterSource.class);
+	ArgumentCaptor<PreparedStatementCreator> statementCaptor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+
+	{
+		when(jdbcOperations.getJdbcOperations()).thenReturn(plainJdbcOperations);
+	}
 
 	DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
 			new SqlGeneratorSource(context), //
@@ -71,29 +98,31 @@ public class DefaultDataAccessStrategyUnitTests {
 
 		accessStrategy.insert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, additionalParameters);
 
-		verify(jdbcOperations).update(eq("INSERT INTO dummy_entity (id) VALUES (:id)"), paramSourceCaptor.capture(),
-				any(KeyHolder.class));
+		verify(plainJdbcOperations).update(statementCaptor.capture(), any(KeyHolder.class));
+
+		assertThat(((SqlProvider) statementCaptor.getValue()).getSql())
+				.isEqualTo("INSERT INTO dummy_entity (id) VALUES (?)");
 	}
 
 	@Test // DATAJDBC-146
-	public void additionalParametersGetAddedToStatement() {
-
-		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+	public void additionalParametersGetAddedToStatement() throws SQLException {
 
 		additionalParameters.put("reference", ID_FROM_ADDITIONAL_VALUES);
 
 		accessStrategy.insert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, additionalParameters);
 
-		verify(jdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture(), any(KeyHolder.class));
+		verify(plainJdbcOperations).update(statementCaptor.capture(), any(KeyHolder.class));
 
-		assertThat(sqlCaptor.getValue()) //
-				.containsSequence("INSERT INTO dummy_entity (", "id", ") VALUES (", ":id", ")") //
-				.containsSequence("INSERT INTO dummy_entity (", "reference", ") VALUES (", ":reference", ")");
-		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
+		assertThat(((SqlProvider) statementCaptor.getValue()).getSql()) //
+				.containsSequence("INSERT INTO dummy_entity (", "id", ") VALUES (", "?", ")") //
+				.containsSequence("INSERT INTO dummy_entity (", "reference", ") VALUES (", "?", ")");
+		assertThat(insertedValues(statementCaptor.getValue())) //
+				.containsEntry("id", ORIGINAL_ID) //
+				.containsEntry("reference", ID_FROM_ADDITIONAL_VALUES);
 	}
 
 	@Test // DATAJDBC-235
-	public void considersConfiguredWriteConverter() {
+	public void considersConfiguredWriteConverter() throws SQLException {
 
 		RelationalConverter converter = new BasicRelationalConverter(context,
 				new JdbcCustomConversions(Arrays.asList(BooleanToStringConverter.INSTANCE, StringToBooleanConverter.INSTANCE)));
@@ -104,16 +133,135 @@ public class DefaultDataAccessStrategyUnitTests {
 				converter, //
 				jdbcOperations);
 
-		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
-
 		EntityWithBoolean entity = new EntityWithBoolean(ORIGINAL_ID, true);
 
 		accessStrategy.insert(entity, EntityWithBoolean.class, new HashMap<>());
 
-		verify(jdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture(), any(KeyHolder.class));
+		verify(plainJdbcOperations).update(statementCaptor.capture(), any(KeyHolder.class));
+
+		assertThat(insertedValues(statementCaptor.getValue())) //
+				.containsEntry("id", ORIGINAL_ID) //
+				.containsEntry("flag", "T");
+	}
+
+	@Test
+	public void executesGeneratedStatementsWithPositionalParameters() {
+
+		accessStrategy.findById(ORIGINAL_ID, DummyEntity.class);
+		accessStrategy.delete(ORIGINAL_ID, DummyEntity.class);
+
+		verify(plainJdbcOperations).update(statementCaptor.capture());
+		verify(plainJdbcOperations).query(statementCaptor.capture(), any(RowMapper.class));
+
+		assertThat(statementCaptor.getAllValues()).extracting(statement -> ((SqlProvider) statement).getSql())
+				.containsExactly("DELETE FROM dummy_entity WHERE id = ?", "SELECT dummy_entity.id AS id FROM dummy_entity "
+						+ "WHERE dummy_entity.id = ?");
+	}
+
+	@Test
+	public void prepareGeneratesStatementsWithoutAccessingTheDatabase() {
+
+		accessStrategy.prepare(AggregateWithReferences.class);
+
+		verifyZeroInteractions(jdbcOperations);
+	}
+
+	@Test(expected = MappingException.class)
+	public void prepareFailsForAggregatesThatCanNotBeMapped() {
+
+		accessStrategy.prepare(EntityWithCollidingAlias.class);
+	}
+
+	@Test
+	public void prepareFailsForConstructorParametersNotMatchingAnyProperty() {
+
+		assertThatThrownBy(() -> accessStrategy.prepare(EntityWithUnmatchedConstructorParameter.class)) //
+				.isInstanceOf(MappingException.class) //
+				.hasMessageContaining("identifier");
+	}
+
+	@Test
+	public void incrementReturnsTheNewValueFromTheUpdateIfTheDialectSupportsIt() {
+
+		accessStrategy.setDialect(PostgresDialect.INSTANCE);
+		when(jdbcOperations.queryForList(anyString(), any(SqlParameterSource.class), eq(Object.class)))
+				.thenReturn(singletonList(42L));
+
+		RelationalPersistentProperty balance = context.getRequiredPersistentEntity(Account.class)
+				.getRequiredPersistentProperty("balance");
+
+		assertThat(accessStrategy.increment(ORIGINAL_ID, Account.class, balance, 2)).isEqualTo(42L);
+
+		verify(jdbcOperations).queryForList(
+				eq("UPDATE account SET balance = balance + :delta WHERE id = :id RETURNING balance"),
+				any(SqlParameterSource.class), eq(Object.class));
+		verifyNoMoreInteractions(jdbcOperations);
+	}
+
+	@Test
+	public void incrementWithoutReturningRequiresATransaction() {
+
+		accessStrategy.setDialect(HsqlDbDialect.INSTANCE);
+
+		RelationalPersistentProperty balance = context.getRequiredPersistentEntity(Account.class)
+				.getRequiredPersistentProperty("balance");
+
+		assertThatThrownBy(() -> accessStrategy.increment(ORIGINAL_ID, Account.class, balance, 2))
+				.isInstanceOf(IllegalTransactionStateException.class);
+		verifyZeroInteractions(jdbcOperations);
+	}
+
+	@Test
+	public void rejectsCriteriaWithMoreValuesInAnInConditionThanTheDialectSupports() {
+
+		accessStrategy.setDialect(HsqlDbDialect.INSTANCE);
+
+		List<Long> ids = LongStream.rangeClosed(1, HsqlDbDialect.INSTANCE.getMaxInListSize() + 1).boxed()
+				.collect(Collectors.toList());
+		Criteria criteria = Criteria.where("id").in(ids);
 
-		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
-		assertThat(paramSourceCaptor.getValue().getValue("flag")).isEqualTo("T");
+		assertThatThrownBy(() -> accessStrategy.deleteAll(Account.class, criteria))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> accessStrategy.updateAll(Account.class, criteria, Update.set("balance", 0L)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> accessStrategy.findAll(Account.class, criteria, Sort.unsorted(), 0, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		verifyZeroInteractions(jdbcOperations);
+	}
+
+	@Test
+	public void bindsInConditionsUpToTheMaximumNumberOfValuesOfTheDialect() {
+
+		accessStrategy.setDialect(HsqlDbDialect.INSTANCE);
+
+		List<Long> ids = LongStream.rangeClosed(1, HsqlDbDialect.INSTANCE.getMaxInListSize()).boxed()
+				.collect(Collectors.toList());
+
+		accessStrategy.deleteAll(Account.class, Criteria.where("id").in(ids));
+
+		ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcOperations).update(anyString(), parameters.capture());
+
+		assertThat((List<?>) parameters.getValue().getValue(SqlGenerator.getConditionParameter(0))).hasSize(ids.size());
+	}
+
+	/**
+	 * Binds the values of an insert to a mocked {@link PreparedStatement}, returning them by the columns they get
+	 * inserted into.
+	 */
+	private static Map<String, Object> insertedValues(PreparedStatementCreator insert) throws SQLException {
+
+		String sql = ((SqlProvider) insert).getSql();
+		String[] columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')')).split(", ");
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+		((PreparedStatementSetter) insert).setValues(statement);
+
+		Map<String, Object> values = new HashMap<>();
+		mockingDetails(statement).getInvocations()
+				.forEach(invocation -> values.put(columns[(Integer) invocation.getArgument(0) - 1], invocation.getArgument(1)));
+
+		return values;
 	}
 
 	@RequiredArgsConstructor
@@ -129,6 +277,39 @@ public class DefaultDataAccessStrategyUnitTests {
 		boolean flag;
 	}
 
+	@SuppressWarnings("unused")
+	private static class Account {
+
+		@Id Long id;
+		long balance;
+	}
+
+	@SuppressWarnings("unused")
+	private static class AggregateWithReferences {
+
+		@Id Long id;
+		EntityWithBoolean reference;
+		List<DummyEntity> list;
+		Map<String, DummyEntity> map;
+	}
+
+	@SuppressWarnings("unused")
+	private static class EntityWithUnmatchedConstructorParameter {
+
+		@Id final Long id;
+
+		EntityWithUnmatchedConstructorParameter(Long identifier) {
+			this.id = identifier;
+		}
+	}
+
+	private static class EntityWithCollidingAlias {
+
+		@Id Long id;
+		@Column("reference_id") Long referenceId;
+		EntityWithBoolean reference;
+	}
+
 	@WritingConverter
 	enum BooleanToStringConverter implements Converter<Boolean, String> {
 
@@ -147,6 +147,21 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 24L, "beta");
 	}
 
+	@Test
+	public void nestedOneToOneGetsExtractedFromTheSameRow() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("id", "name", "child_id", "child_name", "child_child_id", "child_child_name"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 24L, "beta", 25L, "gamma");
+		rs.next();
+
+		TwoLevelOneToOne extracted = createRowMapper(TwoLevelOneToOne.class).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.child.id, e -> e.child.name, e -> e.child.child.id, e -> e.child.child.name) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, 24L, "beta", 25L, "gamma");
+	}
+
 	@Test // DATAJDBC-113
 	public void collectionReferenceGetsLoadedWithAdditionalSelect() throws SQLException {
 
@@ -219,6 +234,24 @@ public class EntityRowMapperUnitTests {
 				.isEqualTo(new String[] { "111", "222", "333" });
 	}
 
+	@Test
+	public void mapsConsecutiveRowsWithTheSameMapper() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("one", "two", "three"), //
+				"111", "222", "333", //
+				"aaa", "bbb", "ccc");
+		EntityRowMapper<MixedProperties> rowMapper = createRowMapper(MixedProperties.class);
+
+		rs.next();
+		MixedProperties first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		MixedProperties second = rowMapper.mapRow(rs, 2);
+
+		assertThat(asList(first, second)) //
+				.extracting(e -> e.one, e -> e.two, e -> e.three) //
+				.containsExactly(tuple("111", "222", "333"), tuple("aaa", "bbb", "ccc"));
+	}
+
 	@Test // DATAJDBC-273
 	public void handlesNonSimplePropertyInConstructor() throws SQLException {
 
@@ -387,6 +420,13 @@ public class EntityRowMapperUnitTests {
 		Trivial child;
 	}
 
+	static class TwoLevelOneToOne {
+
+		@Id Long id;
+		String name;
+		OneToOne child;
+	}
+
 	@RequiredArgsConstructor
 	@Wither
 	static class OneToOneImmutable {
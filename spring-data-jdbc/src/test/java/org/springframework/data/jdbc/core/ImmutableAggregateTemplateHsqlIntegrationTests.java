@@ -21,6 +21,10 @@ import static org.assertj.core.api.Assertions.*;
 import lombok.Value;
 import lombok.experimental.Wither;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.assertj.core.api.SoftAssertions;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -33,6 +37,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.testing.TestConfiguration;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.data.relational.core.mapping.AppendOnly;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
@@ -227,6 +232,41 @@ public class ImmutableAggregateTemplateHsqlIntegrationTests {
 		assertThat(manual.content).isEqualTo("new content");
 	}
 
+	@Test
+	public void saveImmutableAggregateWithListAppliesAllGeneratedIds() {
+
+		Album album = new Album(null, "Abbey Road",
+				Arrays.asList(new Track(null, "Come Together"), new Track(null, "Something"), new Track(null, "Oh! Darling")));
+
+		Album saved = template.save(album);
+
+		assertThat(saved.id).isNotNull();
+		assertThat(saved.tracks).extracting(Track::getTitle).containsExactly("Come Together", "Something", "Oh! Darling");
+		assertThat(saved.tracks).extracting(Track::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+		assertThat(template.findById(saved.id, Album.class)).isEqualTo(saved);
+	}
+
+	@Test
+	public void updatingAnAppendOnlyAggregateOnlyInsertsNewElements() {
+
+		Timeline saved = template.save(new Timeline(null, "history",
+				Arrays.asList(new TimelineEvent(null, "created"), new TimelineEvent(null, "renamed"))));
+
+		List<TimelineEvent> events = new ArrayList<>(saved.events);
+		events.add(new TimelineEvent(null, "archived"));
+
+		Timeline updated = template.save(saved.withName("archive").withEvents(events));
+
+		assertThat(updated.events).extracting(TimelineEvent::getDescription).containsExactly("created", "renamed",
+				"archived");
+		assertThat(updated.events.subList(0, 2)).describedAs("existing events don't get inserted again")
+				.isEqualTo(saved.events);
+		assertThat(updated.events.get(2).id).isNotNull();
+
+		assertThat(template.findById(saved.id, Timeline.class)).isEqualTo(updated);
+	}
+
 	private static LegoSet createLegoSet(Manual manual) {
 
 		return new LegoSet(null, "Star Destroyer", manual);
@@ -254,6 +294,41 @@ public class ImmutableAggregateTemplateHsqlIntegrationTests {
 		String content;
 	}
 
+	@Value
+	@Wither
+	static class Album {
+
+		@Id Long id;
+		String name;
+		List<Track> tracks;
+	}
+
+	@Value
+	@Wither
+	static class Track {
+
+		@Id Long id;
+		String title;
+	}
+
+	@Value
+	@Wither
+	@AppendOnly
+	static class Timeline {
+
+		@Id Long id;
+		String name;
+		List<TimelineEvent> events;
+	}
+
+	@Value
+	@Wither
+	static class TimelineEvent {
+
+		@Id Long id;
+		String description;
+	}
+
 	@Configuration
 	@Import(TestConfiguration.class)
 	static class Config {
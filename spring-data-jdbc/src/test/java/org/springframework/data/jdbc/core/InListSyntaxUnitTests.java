@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.springframework.data.jdbc.core.dialect.HsqlDbDialect;
+import org.springframework.data.jdbc.core.dialect.PostgresDialect;
+import org.springframework.data.jdbc.core.dialect.SqlServerDialect;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * Unit tests for {@link InListSyntax}.
+ */
+public class InListSyntaxUnitTests {
+
+	static final InListSyntax IN_LIST = InListSyntax.of(SqlServerDialect.INSTANCE, Types.BIGINT);
+	static final InListSyntax ARRAY = InListSyntax.of(PostgresDialect.INSTANCE, Types.BIGINT);
+
+	@Test
+	public void padsListsToTheNextPowerOfTwoByRepeatingTheLastValue() {
+
+		assertThat(IN_LIST.pad(emptyList())).isEmpty();
+		assertThat(IN_LIST.pad(asList(1))).containsExactly(1);
+		assertThat(IN_LIST.pad(asList(1, 2, 3))).containsExactly(1, 2, 3, 3);
+		assertThat(IN_LIST.pad(asList(1, 2, 3, 4, 5))).containsExactly(1, 2, 3, 4, 5, 5, 5, 5);
+
+		assertThat(IN_LIST.pad(values(600))).hasSize(1000);
+		assertThat(IN_LIST.pad(values(1500))).hasSize(1500);
+		assertThat(ARRAY.pad(asList(1, 2, 3))).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void splitsListsExceedingTheMaximumIntoChunks() {
+
+		assertThat(IN_LIST.chunk(emptyList())).isEmpty();
+		assertThat(IN_LIST.chunk(values(2500))).extracting(List::size).containsExactly(1000, 1000, 500);
+		assertThat(ARRAY.chunk(values(2500))).extracting(List::size).containsExactly(2500);
+	}
+
+	@Test
+	public void usesArraysOnlyForDialectsSupportingThemAndKnownTypes() {
+
+		assertThat(ARRAY.render("id", "ids")).isEqualTo("id = ANY(:ids)");
+		assertThat(InListSyntax.of(HsqlDbDialect.INSTANCE, Types.BIGINT).render("id", "ids"))
+				.isEqualTo("id IN (UNNEST(:ids))");
+		assertThat(InListSyntax.of(PostgresDialect.INSTANCE, JdbcUtils.TYPE_UNKNOWN).render("id", "ids"))
+				.isEqualTo("id IN (:ids)");
+		assertThat(IN_LIST.render("id", "ids")).isEqualTo("id IN (:ids)");
+	}
+
+	private static List<Integer> values(int count) {
+		return IntStream.range(0, count).boxed().collect(Collectors.toList());
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core;
 
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 
 import java.util.AbstractMap.SimpleEntry;
 import java.util.HashMap;
@@ -54,6 +55,15 @@ public class IterableOfEntryToMapConverterUnitTests {
 		softly.assertAll();
 	}
 
+	@Test
+	public void mapEntriesGetConvertedWithoutCopying() {
+
+		Map<Object, Object> map = new HashMap<>();
+		map.put("key", "value");
+
+		assertThat(converter.convert(new MapEntries<>(map))).isSameAs(map);
+	}
+
 	private Object tryToConvert(Object input) {
 
 		try {
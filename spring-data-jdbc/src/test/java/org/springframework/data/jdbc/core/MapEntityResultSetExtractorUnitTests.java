@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MapEntityResultSetExtractor}.
+ */
+public class MapEntityResultSetExtractorUnitTests {
+
+	ResultSet resultSet = mock(ResultSet.class);
+
+	@Test
+	public void extractsMapKeyedByKeyColumn() throws SQLException {
+
+		when(resultSet.next()).thenReturn(true, true, false);
+		when(resultSet.getObject("key")).thenReturn("one", "two");
+
+		MapEntityResultSetExtractor<Integer> extractor = new MapEntityResultSetExtractor<>((rs, rowNum) -> rowNum, "key");
+
+		assertThat(extractor.extractData(resultSet).getMap()) //
+				.containsEntry("one", 0) //
+				.containsEntry("two", 1) //
+				.hasSize(2);
+	}
+
+	@Test
+	public void emptyResultSetResultsInEmptyMap() throws SQLException {
+
+		when(resultSet.next()).thenReturn(false);
+
+		MapEntityResultSetExtractor<Integer> extractor = new MapEntityResultSetExtractor<>((rs, rowNum) -> rowNum, "key");
+
+		assertThat(extractor.extractData(resultSet).getMap()).isEmpty();
+	}
+}
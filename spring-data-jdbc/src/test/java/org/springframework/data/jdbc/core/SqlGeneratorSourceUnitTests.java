@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link SqlGeneratorSource}.
+ */
+public class SqlGeneratorSourceUnitTests {
+
+	static final int THREADS = 16;
+	static final int ROUNDS = 50;
+	static final List<Class<?>> TYPES = Arrays.asList(Root.class, Intermediate.class, Leaf.class);
+
+	@Test
+	public void returnsTheSameGeneratorForTheSameType() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(new JdbcMappingContext());
+
+		assertThat(source.getSqlGenerator(Root.class)).isSameAs(source.getSqlGenerator(Root.class));
+		assertThat(source.getSqlGenerator(Root.class)).isNotSameAs(source.getSqlGenerator(Leaf.class));
+	}
+
+	@Test
+	public void concurrentFirstAccessYieldsASingleConsistentGeneratorPerType() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				assertConsistentUnderConcurrentAccess(executor);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void assertConsistentUnderConcurrentAccess(ExecutorService executor) throws Exception {
+
+		RelationalMappingContext context = new JdbcMappingContext();
+		SqlGeneratorSource source = new SqlGeneratorSource(context);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<List<Object>>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+
+			int offset = i;
+			futures.add(executor.submit(() -> {
+
+				start.await();
+
+				List<Object> results = new ArrayList<>();
+				for (int t = 0; t < TYPES.size(); t++) {
+
+					// every thread starts with a different type to provoke interleaved creation
+					Class<?> type = TYPES.get((t + offset) % TYPES.size());
+					SqlGenerator generator = source.getSqlGenerator(type);
+
+					results.add(type);
+					results.add(generator);
+					results.add(generator.getFindAll());
+					results.add(generator.getFindOne());
+					results.add(generator.getUpdate());
+				}
+				return results;
+			}));
+		}
+
+		start.countDown();
+
+		List<Object> reference = null;
+		for (Future<List<Object>> future : futures) {
+
+			List<Object> results = sortedByType(future.get(10, TimeUnit.SECONDS));
+			if (reference == null) {
+				reference = results;
+			} else {
+				assertThat(results).containsExactlyElementsOf(reference);
+			}
+		}
+
+		for (int t = 0; t < TYPES.size(); t++) {
+			assertThat(reference.get(t * 5 + 1)).isSameAs(source.getSqlGenerator((Class<?>) reference.get(t * 5)));
+		}
+	}
+
+	private static List<Object> sortedByType(List<Object> results) {
+
+		List<Object> sorted = new ArrayList<>();
+		for (Class<?> type : TYPES) {
+
+			int index = results.indexOf(type);
+			sorted.addAll(results.subList(index, index + 5));
+		}
+		return sorted;
+	}
+
+	@SuppressWarnings("unused")
+	static class Root {
+
+		@Id Long id;
+		String name;
+		Intermediate intermediate;
+	}
+
+	@SuppressWarnings("unused")
+	static class Intermediate {
+
+		@Id Long id;
+		String content;
+		Leaf leaf;
+	}
+
+	@SuppressWarnings("unused")
+	static class Leaf {
+
+		@Id Long id;
+		String value;
+	}
+}
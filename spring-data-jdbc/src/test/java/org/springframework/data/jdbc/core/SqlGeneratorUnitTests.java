@@ -15,9 +15,12 @@
  */
 package org.springframework.data.jdbc.core;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.jdbc.core.dialect.DialectResolver.*;
 
+import java.sql.Types;
 import java.util.Map;
 import java.util.Set;
 
@@ -25,15 +28,21 @@ import org.assertj.core.api.SoftAssertions;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtils;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 
 /**
  * Unit tests for the {@link SqlGenerator}.
@@ -98,6 +107,134 @@ public class SqlGeneratorUnitTests {
 				"DELETE FROM second_level_referenced_entity WHERE referenced_entity IN (SELECT x_l1id FROM referenced_entity WHERE dummy_entity = :rootId)");
 	}
 
+	@Test
+	public void updateAllRendersAssignmentsAndConditions() {
+
+		String sql = sqlGenerator.getUpdateAll(Update.set("name", "new"),
+				Criteria.where("name").in("a", "b").and("id").greaterThan(5).and("name").isNotNull());
+
+		assertThat(sql).isEqualTo("UPDATE dummy_entity SET x_name = :assignment0 " //
+				+ "WHERE x_name IN (:condition0) AND id1 > :condition1 AND x_name IS NOT NULL");
+		assertThat(sqlGenerator.getUpdateAll(Update.set("name", "other"),
+				Criteria.where("name").in("c").and("id").greaterThan(7).and("name").isNotNull())).isSameAs(sql);
+		assertThat(sqlGenerator.getUpdateAll(Update.set("name", "other"), Criteria.where("name").is("c")))
+				.isNotEqualTo(sql);
+	}
+
+	@Test
+	public void updateAllIncrementsTheVersion() {
+
+		String sql = createSqlGenerator(VersionedEntity.class).getUpdateAll(Update.set("name", "new"),
+				Criteria.where("name").is("old"));
+
+		assertThat(sql).isEqualTo("UPDATE versioned_entity SET x_name = :assignment0, x_version = x_version + 1 " //
+				+ "WHERE x_name = :condition0");
+	}
+
+	@Test
+	public void deleteAllMatchingCascadesViaTheAggregateRoot() {
+
+		String sql = sqlGenerator.getDeleteAll(getPath("ref.further", DummyEntity.class),
+				Criteria.where("name").is("x"));
+
+		assertThat(sql).isEqualTo("DELETE FROM second_level_referenced_entity WHERE referenced_entity IN " //
+				+ "(SELECT x_l1id FROM referenced_entity WHERE dummy_entity IN " //
+				+ "(SELECT id1 FROM dummy_entity WHERE x_name = :condition0))");
+	}
+
+	@Test
+	public void findIdsForUpdateSkipLockedUsesTheSyntaxOfTheDatabase() {
+
+		Criteria criteria = Criteria.where("name").is("x");
+		Sort sort = Sort.by("name").and(Sort.by(Sort.Direction.DESC, "id"));
+
+		assertThat(sqlGenerator.getFindIdsForUpdateSkipLocked(criteria, sort, getDialect("PostgreSQL")))
+				.isEqualTo("SELECT id1 FROM dummy_entity WHERE x_name = :condition0 ORDER BY x_name ASC, id1 DESC " //
+						+ "LIMIT :___limit FOR UPDATE SKIP LOCKED");
+		assertThat(sqlGenerator.getFindIdsForUpdateSkipLocked(null, sort, getDialect("Microsoft SQL Server")))
+				.isEqualTo("SELECT TOP (:___limit) id1 FROM dummy_entity WITH (UPDLOCK, READPAST, ROWLOCK) " //
+						+ "ORDER BY x_name ASC, id1 DESC");
+	}
+
+	@Test
+	public void findIdsForUpdateSkipLockedDependsOnTheVersionOfMySqlAndMariaDb() {
+
+		assertThat(sqlGenerator.getFindIdsForUpdateSkipLocked(null, Sort.unsorted(), getDialect("MySQL", 8, 0)))
+				.isEqualTo("SELECT id1 FROM dummy_entity LIMIT :___limit FOR UPDATE SKIP LOCKED");
+		assertThat(sqlGenerator.getFindIdsForUpdateSkipLocked(null, Sort.unsorted(), getDialect("MySQL", 5, 7)))
+				.isEqualTo("SELECT id1 FROM dummy_entity LIMIT :___limit FOR UPDATE");
+		assertThat(sqlGenerator.getFindIdsForUpdateSkipLocked(null, Sort.unsorted(), getDialect("MariaDB", 10, 6)))
+				.isEqualTo("SELECT id1 FROM dummy_entity LIMIT :___limit FOR UPDATE SKIP LOCKED");
+		assertThat(sqlGenerator.getFindIdsForUpdateSkipLocked(null, Sort.unsorted(), getDialect("MariaDB", 10, 5)))
+				.isEqualTo("SELECT id1 FROM dummy_entity LIMIT :___limit FOR UPDATE");
+	}
+
+	@Test
+	public void limitedQueriesUseTheSyntaxOfTheDatabase() {
+
+		Criteria criteria = Criteria.where("name").is("x");
+		Sort sort = Sort.by("name");
+
+		assertThat(sqlGenerator.getFindIds(criteria, sort, getDialect("PostgreSQL"), true)).isEqualTo(
+				"SELECT id1 FROM dummy_entity WHERE x_name = :condition0 ORDER BY x_name ASC LIMIT :___limit OFFSET :___offset");
+		assertThat(sqlGenerator.getFindIds(criteria, Sort.unsorted(), getDialect("Microsoft SQL Server"), false))
+				.isEqualTo("SELECT id1 FROM dummy_entity WHERE x_name = :condition0 "
+						+ "ORDER BY (SELECT NULL) OFFSET 0 ROWS FETCH NEXT :___limit ROWS ONLY");
+		assertThat(sqlGenerator.getFindIds(criteria, sort, getDialect("Oracle"), true))
+				.isEqualTo("SELECT id1 FROM dummy_entity WHERE x_name = :condition0 ORDER BY x_name ASC "
+						+ "OFFSET :___offset ROWS FETCH FIRST :___limit ROWS ONLY");
+		assertThat(sqlGenerator.getExists(getDialect("HSQL Database Engine")))
+				.isEqualTo("SELECT id1 FROM dummy_entity WHERE id1 = :id LIMIT :___limit");
+	}
+
+	@Test
+	public void findAllMatchingCriteriaQualifiesColumnsAndGetsRenderedOncePerShape() {
+
+		Sort sort = Sort.by(Sort.Direction.DESC, "name");
+		String sql = sqlGenerator.getFindAll(Criteria.where("name").like("a%").and("id").in(1L, 2L), sort);
+
+		assertThat(sql) //
+				.startsWith("SELECT") //
+				.contains("LEFT OUTER JOIN") //
+				.endsWith("WHERE dummy_entity.x_name LIKE :condition0 ESCAPE '!' AND dummy_entity.id1 IN (:condition1) "
+						+ "ORDER BY dummy_entity.x_name DESC");
+		assertThat(sqlGenerator.getFindAll(Criteria.where("name").like("b%").and("id").in(3L), sort)).isSameAs(sql);
+		assertThat(sqlGenerator.getCount(Criteria.where("name").isNull()))
+				.isEqualTo("SELECT COUNT(*) FROM dummy_entity WHERE x_name IS NULL");
+	}
+
+	@Test
+	public void findPropertiesSelectsOnlyTheirColumnsWithoutJoins() {
+
+		String sql = sqlGenerator.getFindProperties(asList("id", "name"), Criteria.where("name").is("x"),
+				Sort.by("name"));
+
+		assertThat(sql).isEqualTo("SELECT id1, x_name FROM dummy_entity WHERE x_name = :condition0 ORDER BY x_name ASC");
+	}
+
+	@Test
+	public void findAllByPropertyInSelectsTheBackReference() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(ReferencedEntity.class);
+
+		assertThat(sqlGenerator.getFindAllByPropertyIn("back-ref", "key-column", true, InListSyntax.inList(getDialect("MySQL")))) //
+				.startsWith("SELECT") //
+				.contains("referenced_entity.back-ref AS back-ref") //
+				.contains("referenced_entity.key-column AS key-column") //
+				.endsWith("WHERE back-ref IN (:back-ref) ORDER BY key-column");
+	}
+
+	@Test
+	public void findAllInListUsesTheSyntaxOfTheDatabase() {
+
+		assertThat(sqlGenerator.getFindAllInList(InListSyntax.of(getDialect("PostgreSQL"), Types.BIGINT))) //
+				.endsWith("WHERE dummy_entity.id1 = ANY(:ids)");
+		assertThat(sqlGenerator.getFindAllInList(InListSyntax.of(getDialect("HSQL Database Engine"), Types.BIGINT))) //
+				.endsWith("WHERE dummy_entity.id1 IN (UNNEST(:ids))");
+		assertThat(sqlGenerator.getFindAllInList(InListSyntax.of(getDialect("Microsoft SQL Server"), Types.BIGINT))) //
+				.endsWith("WHERE dummy_entity.id1 IN (:ids)");
+	}
+
 	@Test // DATAJDBC-112
 	public void deleteAll() {
 
@@ -106,6 +243,31 @@ public class SqlGeneratorUnitTests {
 		assertThat(sql).isEqualTo("DELETE FROM dummy_entity");
 	}
 
+	@Test
+	public void incrementAddsTheDeltaInTheDatabase() {
+
+		String sql = sqlGenerator.getIncrement("x_name");
+
+		assertThat(sql).isEqualTo("UPDATE dummy_entity SET x_name = x_name + :delta WHERE id1 = :id");
+		assertThat(sqlGenerator.getIncrement("x_name")).isSameAs(sql);
+	}
+
+	@Test
+	public void incrementIncrementsTheVersion() {
+
+		assertThat(createSqlGenerator(VersionedEntity.class).getIncrement("x_name")).isEqualTo(
+				"UPDATE versioned_entity SET x_name = x_name + :delta, x_version = x_version + 1 WHERE x_id = :id");
+	}
+
+	@Test
+	public void updateOfAVersionedEntityChecksTheExpectedVersion() {
+
+		String sql = createSqlGenerator(VersionedEntity.class).getUpdate();
+
+		assertThat(sql).isEqualTo("UPDATE versioned_entity SET x_name = :x_name, x_version = :x_version " //
+				+ "WHERE x_id = :x_id AND x_version = :___expectedVersion");
+	}
+
 	@Test // DATAJDBC-112
 	public void cascadingDeleteAllFirstLevel() {
 
@@ -147,8 +309,10 @@ public class SqlGeneratorUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
 				+ "dummy_entity.x_other AS x_other, " //
-				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, ref.x_further AS ref_x_further " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, " //
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something " //
 				+ "FROM dummy_entity LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
 				+ "WHERE back-ref = :back-ref");
 	}
 
@@ -160,9 +324,11 @@ public class SqlGeneratorUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
 				+ "dummy_entity.x_other AS x_other, " //
-				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, ref.x_further AS ref_x_further, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, " //
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something, " //
 				+ "dummy_entity.key-column AS key-column " //
 				+ "FROM dummy_entity LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
 				+ "WHERE back-ref = :back-ref");
 	}
 
@@ -179,9 +345,11 @@ public class SqlGeneratorUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
 				+ "dummy_entity.x_other AS x_other, " //
-				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, ref.x_further AS ref_x_further, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, " //
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something, " //
 				+ "dummy_entity.key-column AS key-column " //
 				+ "FROM dummy_entity LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
 				+ "WHERE back-ref = :back-ref " + "ORDER BY key-column");
 	}
 
@@ -217,10 +385,64 @@ public class SqlGeneratorUnitTests {
 				"id1 = :id");
 	}
 
+	@Test
+	public void embeddedPropertiesAreSelectedFromTheOwningTable() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithEmbedded.class);
+
+		String findAll = sqlGenerator.getFindAll();
+
+		assertThat(findAll) //
+				.contains("entity_with_embedded.x_home_x_street AS x_home_x_street") //
+				.contains("entity_with_embedded.x_home_geo_x_lat AS x_home_geo_x_lat") //
+				.contains("entity_with_embedded.x_city AS x_city") //
+				.doesNotContain("JOIN");
+	}
+
+	@Test
+	public void embeddedPropertiesAreInsertedAndUpdatedInTheOwningTable() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithEmbedded.class);
+
+		assertThat(sqlGenerator.getInsert(emptySet())).isEqualTo(
+				"INSERT INTO entity_with_embedded (x_home_x_street, x_home_geo_x_lat, x_city) VALUES (:x_home_x_street, :x_home_geo_x_lat, :x_city)");
+		assertThat(sqlGenerator.getUpdate()).isEqualTo(
+				"UPDATE entity_with_embedded SET x_home_x_street = :x_home_x_street, x_home_geo_x_lat = :x_home_geo_x_lat, x_city = :x_city WHERE x_id = :x_id");
+	}
+
+	@Test
+	public void nestedOneToOneReferencesGetJoinedWithPathBasedAliases() {
+
+		String sql = sqlGenerator.getFindOne();
+		String refJoin = "LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1";
+		String furtherJoin = "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id";
+
+		assertThat(sql).contains("ref_further.x_l2id AS ref_further_x_l2id");
+		assertThat(sql).contains("ref_further.x_something AS ref_further_x_something");
+		assertThat(sql).contains(refJoin);
+		assertThat(sql).contains(furtherJoin);
+		// the join of the nested reference needs the alias introduced by the join of its parent
+		assertThat(sql.indexOf(refJoin)).isLessThan(sql.indexOf(furtherJoin));
+	}
+
+	@Test(expected = MappingException.class)
+	public void collidingColumnAliasesAreRejected() {
+
+		createSqlGenerator(EntityWithCollidingAlias.class).getFindAll();
+	}
+
 	private PersistentPropertyPath<RelationalPersistentProperty> getPath(String path, Class<?> base) {
 		return PersistentPropertyPathTestUtils.getPath(context, path, base);
 	}
 
+	@SuppressWarnings("unused")
+	static class VersionedEntity {
+
+		@Id Long id;
+		String name;
+		@Version Long version;
+	}
+
 	@SuppressWarnings("unused")
 	static class DummyEntity {
 
@@ -274,6 +496,39 @@ public class SqlGeneratorUnitTests {
 
 	}
 
+	@SuppressWarnings("unused")
+	static class EntityWithEmbedded {
+
+		@Id Long id;
+		@Embedded(prefix = "x_home_") Address home;
+		@Embedded City city;
+	}
+
+	@SuppressWarnings("unused")
+	static class Address {
+
+		String street;
+		@Embedded(prefix = "geo_") Geo geo;
+	}
+
+	@SuppressWarnings("unused")
+	static class Geo {
+		Double lat;
+	}
+
+	@SuppressWarnings("unused")
+	static class City {
+		String city;
+	}
+
+	@SuppressWarnings("unused")
+	static class EntityWithCollidingAlias {
+
+		@Id Long id;
+		@Column("ref_x_content") String refContent;
+		ReferencedEntity ref;
+	}
+
 	@SuppressWarnings("unused")
 	static class IdOnlyEntity {
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link WeakIdentityMap}.
+ */
+public class WeakIdentityMapUnitTests {
+
+	WeakIdentityMap<List<String>, String> map = new WeakIdentityMap<>();
+
+	@Test
+	public void distinguishesEqualKeys() {
+
+		List<String> first = new ArrayList<>();
+		List<String> second = new ArrayList<>();
+
+		map.put(first, "first");
+		map.put(second, "second");
+
+		assertThat(map.get(first)).isEqualTo("first");
+		assertThat(map.get(second)).isEqualTo("second");
+		assertThat(map.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void findsKeysAfterTheirHashCodeChanged() {
+
+		List<String> key = new ArrayList<>();
+		map.put(key, "value");
+
+		key.add("changes the hash code");
+
+		assertThat(map.remove(key)).isEqualTo("value");
+		assertThat(map.get(key)).isNull();
+	}
+
+	@Test
+	public void removesEntriesMatchingAPredicate() {
+
+		List<String> empty = new ArrayList<>();
+		List<String> nonEmpty = new ArrayList<>();
+		nonEmpty.add("element");
+
+		map.put(empty, "empty");
+		map.put(nonEmpty, "non empty");
+
+		map.removeIf(List::isEmpty);
+
+		assertThat(map.get(empty)).isNull();
+		assertThat(map.get(nonEmpty)).isEqualTo("non empty");
+	}
+
+	@Test
+	public void removesEntriesByGroup() {
+
+		List<String> first = new ArrayList<>();
+		List<String> second = new ArrayList<>();
+		List<String> other = new ArrayList<>();
+
+		map.put(first, "group", "first");
+		map.put(second, "group", "second");
+		map.put(other, "other group", "other");
+
+		map.removeGroup("group");
+
+		assertThat(map.get(first)).isNull();
+		assertThat(map.get(second)).isNull();
+		assertThat(map.get(other)).isEqualTo("other");
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+import lombok.experimental.Wither;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
+import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for entities with {@link Embedded} value objects.
+ */
+@ContextConfiguration
+@Transactional
+public class JdbcRepositoryEmbeddedHsqlIntegrationTests {
+
+	@Configuration
+	@Import(TestConfiguration.class)
+	@EnableJdbcRepositories(considerNestedRepositories = true)
+	static class Config {
+
+		@Bean
+		Class<?> testClass() {
+			return JdbcRepositoryEmbeddedHsqlIntegrationTests.class;
+		}
+	}
+
+	@ClassRule public static final SpringClassRule classRule = new SpringClassRule();
+	@Rule public SpringMethodRule methodRule = new SpringMethodRule();
+
+	@Autowired NamedParameterJdbcTemplate template;
+	@Autowired CustomerRepository repository;
+
+	@Test
+	public void savesAndLoadsEmbeddedValueObjects() {
+
+		Address address = new Address("Main Street", new City("Springfield"));
+		Customer customer = repository.save(new Customer(null, "Alfred", address));
+
+		assertThat(repository.findById(customer.id)).contains(customer);
+		assertThat(JdbcTestUtils.countRowsInTableWhere((JdbcTemplate) template.getJdbcOperations(), "customer",
+				"home_street = 'Main Street' AND home_city_name = 'Springfield'")).isEqualTo(1);
+	}
+
+	@Test
+	public void updatesEmbeddedValueObjects() {
+
+		Customer customer = repository.save(new Customer(null, "Alfred", new Address("Main Street", null)));
+
+		repository.save(customer.withAddress(new Address("Elm Street", new City("Shelbyville"))));
+
+		assertThat(repository.findById(customer.id).get().address)
+				.isEqualTo(new Address("Elm Street", new City("Shelbyville")));
+	}
+
+	@Test
+	public void embeddedValueObjectWithAllColumnsNullIsLoadedAsNull() {
+
+		Customer customer = repository.save(new Customer(null, "Alfred", null));
+
+		assertThat(repository.findById(customer.id).get().address).isNull();
+	}
+
+	interface CustomerRepository extends CrudRepository<Customer, Long> {}
+
+	@Value
+	@Wither
+	static class Customer {
+
+		@Id Long id;
+		String name;
+		@Embedded(prefix = "home_") Address address;
+	}
+
+	@Value
+	static class Address {
+
+		String street;
+		@Embedded(prefix = "city_") City city;
+	}
+
+	@Value
+	static class City {
+		String name;
+	}
+}
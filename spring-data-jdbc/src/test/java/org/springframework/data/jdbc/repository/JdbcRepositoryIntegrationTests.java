@@ -16,10 +16,15 @@
 package org.springframework.data.jdbc.repository;
 
 import static java.util.Arrays.*;
+import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 
 import lombok.Data;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,9 +33,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactory;
 import org.springframework.data.jdbc.testing.TestConfiguration;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
@@ -242,6 +253,97 @@ public class JdbcRepositoryIntegrationTests {
 		assertThat(repository.findById(-1L)).isEmpty();
 	}
 
+	@Test
+	public void derivedQueriesSelectCountCheckAndDeleteByName() {
+
+		DummyEntity first = repository.save(createDummyEntity("alpha"));
+		DummyEntity second = repository.save(createDummyEntity("alpine"));
+		repository.save(createDummyEntity("beta"));
+
+		assertThat(repository.findByName("beta")).extracting(DummyEntity::getName).containsExactly("beta");
+		assertThat(repository.findOneByName("gamma")).isEmpty();
+		assertThat(repository.findTop2ByNameStartingWithOrderByIdPropDesc("al")) //
+				.extracting(DummyEntity::getIdProp) //
+				.containsExactly(second.getIdProp(), first.getIdProp());
+		assertThat(repository.findByIdPropIn(emptyList())).isEmpty();
+		assertThat(repository.countByNameNot("beta")).isEqualTo(2);
+		assertThat(repository.existsByName("alpha")).isTrue();
+		assertThat(repository.existsByName("gamma")).isFalse();
+
+		assertThat(repository.deleteByNameStartingWith("al")).isEqualTo(2);
+		assertThat(repository.findAll()).extracting(DummyEntity::getName).containsExactly("beta");
+	}
+
+	@Test
+	public void derivedQueriesMatchWildcardsInArgumentsLiterally() {
+
+		repository.save(createDummyEntity("a_c 100%"));
+		repository.save(createDummyEntity("abc 1000"));
+		repository.save(createDummyEntity("a!c"));
+
+		assertThat(repository.findTop2ByNameStartingWithOrderByIdPropDesc("a_")) //
+				.extracting(DummyEntity::getName) //
+				.containsExactly("a_c 100%");
+		assertThat(repository.findTop2ByNameStartingWithOrderByIdPropDesc("a!")) //
+				.extracting(DummyEntity::getName) //
+				.containsExactly("a!c");
+		assertThat(repository.deleteByNameStartingWith("abc 100%")).isEqualTo(0);
+	}
+
+	@Test
+	public void queryByExampleFiltersInTheDatabase() {
+
+		repository.save(createDummyEntity("alpha"));
+		DummyEntity alpine = repository.save(createDummyEntity("alpine"));
+		repository.save(createDummyEntity("beta"));
+
+		ExampleMatcher startingWith = ExampleMatcher.matching().withStringMatcher(ExampleMatcher.StringMatcher.STARTING);
+		Example<DummyEntity> example = Example.of(createDummyEntity("al"), startingWith);
+
+		assertThat(repository.findAll(example, Sort.by("name"))) //
+				.extracting(DummyEntity::getName) //
+				.containsExactly("alpha", "alpine");
+		assertThat(repository.count(example)).isEqualTo(2);
+		assertThat(repository.exists(Example.of(createDummyEntity("gamma")))).isFalse();
+		assertThat(repository.findOne(Example.of(createDummyEntity("alpine")))).contains(alpine);
+
+		Page<DummyEntity> page = repository.findAll(example, PageRequest.of(1, 1, Sort.by("name")));
+
+		assertThat(page.getContent()).containsExactly(alpine);
+		assertThat(page.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	public void queryByExampleMatchesWildcardsInTheProbeLiterally() {
+
+		repository.save(createDummyEntity("a_c 100%"));
+		repository.save(createDummyEntity("abc 1000"));
+
+		ExampleMatcher containing = ExampleMatcher.matching().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
+
+		assertThat(repository.findAll(Example.of(createDummyEntity("_c"), containing))) //
+				.extracting(DummyEntity::getName) //
+				.containsExactly("a_c 100%");
+		assertThat(repository.count(Example.of(createDummyEntity("100%"), containing))).isEqualTo(1);
+	}
+
+	@Test
+	public void derivedQueriesReturnInterfaceAndDtoProjections() {
+
+		repository.save(createDummyEntity("alpha"));
+		repository.save(createDummyEntity("beta"));
+
+		assertThat(repository.findProjectedByNameStartingWith("al")).extracting(NameOnly::getName).containsExactly("alpha");
+		assertThat(repository.findDtoByNameStartingWith("be")).extracting(NameDto::getName).containsExactly("beta");
+	}
+
+	private static DummyEntity createDummyEntity(String name) {
+
+		DummyEntity entity = createDummyEntity();
+		entity.setName(name);
+		return entity;
+	}
+
 	private static DummyEntity createDummyEntity() {
 
 		DummyEntity entity = new DummyEntity();
@@ -249,7 +351,37 @@ public class JdbcRepositoryIntegrationTests {
 		return entity;
 	}
 
-	interface DummyEntityRepository extends CrudRepository<DummyEntity, Long> {}
+	interface DummyEntityRepository extends CrudRepository<DummyEntity, Long>, QueryByExampleExecutor<DummyEntity> {
+
+		List<DummyEntity> findByName(String name);
+
+		Optional<DummyEntity> findOneByName(String name);
+
+		List<DummyEntity> findTop2ByNameStartingWithOrderByIdPropDesc(String prefix);
+
+		List<DummyEntity> findByIdPropIn(Collection<Long> ids);
+
+		int countByNameNot(String name);
+
+		boolean existsByName(String name);
+
+		long deleteByNameStartingWith(String prefix);
+
+		List<NameOnly> findProjectedByNameStartingWith(String prefix);
+
+		List<NameDto> findDtoByNameStartingWith(String prefix);
+	}
+
+	interface NameOnly {
+
+		String getName();
+	}
+
+	@Data
+	static class NameDto {
+
+		String name;
+	}
 
 	@Data
 	static class DummyEntity {
@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.ClassRule;
@@ -196,6 +197,28 @@ public class JdbcRepositoryWithCollectionsIntegrationTests {
 		assertThat(count).isEqualTo(0);
 	}
 
+	@Test
+	public void derivedQueryLoadsCollectionsOfAllResults() {
+
+		DummyEntity first = createDummyEntity();
+		first.content.add(createElement("one"));
+		first.content.add(createElement("two"));
+		repository.save(first);
+
+		DummyEntity second = createDummyEntity();
+		second.content.add(createElement("three"));
+		repository.save(second);
+
+		DummyEntity other = createDummyEntity();
+		other.setName("Other Name");
+		other.content.add(createElement("four"));
+		repository.save(other);
+
+		assertThat(repository.findByNameOrderByIdDesc("Entity Name")) //
+				.extracting(e -> e.id, e -> e.content.size()) //
+				.containsExactly(tuple(second.id, 1), tuple(first.id, 2));
+	}
+
 	private Element createElement(String content) {
 
 		Element element = new Element();
@@ -210,7 +233,10 @@ public class JdbcRepositoryWithCollectionsIntegrationTests {
 		return entity;
 	}
 
-	interface DummyEntityRepository extends CrudRepository<DummyEntity, Long> {}
+	interface DummyEntityRepository extends CrudRepository<DummyEntity, Long> {
+
+		List<DummyEntity> findByNameOrderByIdDesc(String name);
+	}
 
 	@Data
 	static class DummyEntity {
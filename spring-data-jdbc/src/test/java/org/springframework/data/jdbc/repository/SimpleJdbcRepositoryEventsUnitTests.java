@@ -18,7 +18,6 @@ package org.springframework.data.jdbc.repository;
 import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -54,8 +53,9 @@ import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.relational.core.mapping.event.Identifier;
 import org.springframework.data.relational.core.mapping.event.RelationalEvent;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
 
 /**
@@ -216,15 +216,18 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 
 			HashMap<String, Object> keys = new HashMap<>();
 			keys.put("id", 4711L);
-			KeyHolder keyHolder = invocation.getArgument(2);
+			KeyHolder keyHolder = invocation.getArgument(1);
 			keyHolder.getKeyList().add(keys);
 
 			return 1;
 		};
 
-		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
-		when(operations.update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class)))
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		when(jdbcOperations.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
 				.thenAnswer(setIdInKeyHolder);
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.getJdbcOperations()).thenReturn(jdbcOperations);
 		return operations;
 	}
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Criteria.Condition;
+import org.springframework.data.relational.core.query.Criteria.Operator;
+
+/**
+ * Unit tests for {@link ExampleCriteria}.
+ */
+public class ExampleCriteriaUnitTests {
+
+	PersistentEntity<?, ?> entity = new JdbcMappingContext().getRequiredPersistentEntity(Order.class);
+
+	@Test
+	public void ignoresUnsetReferencesAndEmbeddedValueObjects() {
+
+		Order probe = new Order();
+		probe.name = "alpha";
+
+		Criteria criteria = ExampleCriteria.of(Example.of(probe), entity);
+
+		assertThat(criteria).isNotNull();
+		assertThat(criteria.getConditions()).containsExactly(new Condition("name", Operator.EQ, "alpha"));
+	}
+
+	@Test
+	public void rejectsProbesWithValuesForReferencedEntities() {
+
+		Order probe = new Order();
+		probe.lines.add(new Line());
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> ExampleCriteria.of(Example.of(probe), entity)) //
+				.withMessageContaining("lines");
+	}
+
+	@Test
+	public void rejectsProbesWithValuesForEmbeddedValueObjects() {
+
+		Order probe = new Order();
+		probe.address = new Address();
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> ExampleCriteria.of(Example.of(probe), entity)) //
+				.withMessageContaining("address");
+	}
+
+	@Test
+	public void acceptsValuesForReferencedEntitiesAndEmbeddedValueObjectsOnIgnoredPaths() {
+
+		Order probe = new Order();
+		probe.lines.add(new Line());
+		probe.address = new Address();
+
+		ExampleMatcher matcher = ExampleMatcher.matching().withIgnorePaths("lines", "address");
+
+		assertThat(ExampleCriteria.of(Example.of(probe, matcher), entity)).isNull();
+	}
+
+	static class Order {
+
+		@Id Long id;
+		String name;
+		List<Line> lines = new ArrayList<>();
+		@Embedded Address address;
+	}
+
+	static class Line {
+		String product;
+	}
+
+	static class Address {
+		String city;
+	}
+}
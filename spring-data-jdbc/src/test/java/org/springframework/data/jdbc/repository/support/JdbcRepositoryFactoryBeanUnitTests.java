@@ -105,6 +105,33 @@ public class JdbcRepositoryFactoryBeanUnitTests {
 		assertThat(ReflectionTestUtils.getField(factoryBean, "queryMappingConfiguration")).isEqualTo(QueryMappingConfiguration.EMPTY);
 	}
 
+	@Test
+	public void preparesTheAggregateWhenInitializingEagerly() {
+
+		factoryBean.setDataAccessStrategy(dataAccessStrategy);
+		factoryBean.setMappingContext(mappingContext);
+		factoryBean.setConverter(new BasicRelationalConverter(mappingContext));
+		factoryBean.setApplicationEventPublisher(publisher);
+		factoryBean.setInitializeEagerly(true);
+		factoryBean.afterPropertiesSet();
+
+		assertThat(factoryBean.getObject()).isNotNull();
+		verify(dataAccessStrategy).prepare(DummyEntity.class);
+	}
+
+	@Test
+	public void doesNotPrepareTheAggregateByDefault() {
+
+		factoryBean.setDataAccessStrategy(dataAccessStrategy);
+		factoryBean.setMappingContext(mappingContext);
+		factoryBean.setConverter(new BasicRelationalConverter(mappingContext));
+		factoryBean.setApplicationEventPublisher(publisher);
+		factoryBean.afterPropertiesSet();
+
+		assertThat(factoryBean.getObject()).isNotNull();
+		verify(dataAccessStrategy, never()).prepare(any());
+	}
+
 	private static class DummyEntity {
 		@Id private Long id;
 	}
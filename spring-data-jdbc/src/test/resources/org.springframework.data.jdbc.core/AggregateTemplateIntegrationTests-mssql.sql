@@ -13,3 +13,10 @@ DROP TABLE IF EXISTS LIST_PARENT;
 DROP TABLE IF EXISTS element_no_id;
 CREATE TABLE LIST_PARENT ( id4 BIGINT IDENTITY  PRIMARY KEY, NAME VARCHAR(100));
 CREATE TABLE element_no_id ( content VARCHAR(100), LIST_PARENT_key BIGINT, LIST_PARENT BIGINT);
+
+DROP TABLE IF EXISTS ACCOUNT;
+CREATE TABLE ACCOUNT ( id5 BIGINT IDENTITY PRIMARY KEY, BALANCE BIGINT, VERSION BIGINT);
+DROP TABLE IF EXISTS VERSIONED_AGGREGATE;
+CREATE TABLE VERSIONED_AGGREGATE ( id6 BIGINT IDENTITY PRIMARY KEY, NAME VARCHAR(100), VERSION BIGINT);
+DROP TABLE IF EXISTS TAGGED_AGGREGATE;
+CREATE TABLE TAGGED_AGGREGATE ( id7 BIGINT IDENTITY PRIMARY KEY, TAGS VARCHAR(100));
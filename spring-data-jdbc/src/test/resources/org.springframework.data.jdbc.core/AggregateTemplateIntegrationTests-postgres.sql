@@ -12,3 +12,7 @@ CREATE TABLE Child_No_Id (ONE_TO_ONE_PARENT INTEGER PRIMARY KEY, content VARCHAR
 
 CREATE TABLE LIST_PARENT ( id4 SERIAL PRIMARY KEY, NAME VARCHAR(100));
 CREATE TABLE element_no_id ( content VARCHAR(100), LIST_PARENT_key BIGINT, LIST_PARENT INTEGER);
+
+CREATE TABLE ACCOUNT ( id5 SERIAL PRIMARY KEY, BALANCE BIGINT, VERSION BIGINT);
+CREATE TABLE VERSIONED_AGGREGATE ( id6 SERIAL PRIMARY KEY, NAME VARCHAR(100), VERSION BIGINT);
+CREATE TABLE TAGGED_AGGREGATE ( id7 SERIAL PRIMARY KEY, TAGS VARCHAR(100));
@@ -3,3 +3,9 @@ CREATE TABLE MANUAL ( id BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) P
 
 ALTER TABLE MANUAL ADD FOREIGN KEY (LEGO_SET)
 REFERENCES LEGO_SET(id);
+
+CREATE TABLE ALBUM ( id BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) PRIMARY KEY, NAME VARCHAR(30));
+CREATE TABLE TRACK ( id BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) PRIMARY KEY, ALBUM BIGINT, ALBUM_KEY INTEGER, TITLE VARCHAR(30));
+
+CREATE TABLE TIMELINE ( id BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) PRIMARY KEY, NAME VARCHAR(30));
+CREATE TABLE TIMELINE_EVENT ( id BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) PRIMARY KEY, TIMELINE BIGINT, TIMELINE_KEY INTEGER, DESCRIPTION VARCHAR(30));
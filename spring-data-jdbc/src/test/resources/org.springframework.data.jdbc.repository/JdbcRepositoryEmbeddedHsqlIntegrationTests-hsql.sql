@@ -0,0 +1 @@
+CREATE TABLE customer ( id BIGINT GENERATED BY DEFAULT AS IDENTITY ( START WITH 1 ) PRIMARY KEY, name VARCHAR(100), home_street VARCHAR(100), home_city_name VARCHAR(100));
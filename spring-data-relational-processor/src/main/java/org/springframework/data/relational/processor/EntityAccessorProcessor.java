@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor generating a {@code GeneratedEntityAccessor} for every class that has a property annotated with
+ * {@code @Id} or that is annotated with {@code @Table}. The generated class reads and writes properties and calls the
+ * persistence constructor without reflection. Entities the processor can't generate code for, e.g. because their fields
+ * are private and have no getters and setters, are reported as a note and use the runtime mechanisms.
+ */
+@SupportedAnnotationTypes({ EntityAccessorProcessor.ID, EntityAccessorProcessor.TABLE })
+public class EntityAccessorProcessor extends AbstractProcessor {
+
+	static final String ID = "org.springframework.data.annotation.Id";
+	static final String TABLE = "org.springframework.data.relational.core.mapping.Table";
+
+	private final Set<String> processed = new HashSet<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+
+		Set<TypeElement> entities = new LinkedHashSet<>();
+
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+
+				Element type = element.getKind().isClass() ? element : element.getEnclosingElement();
+
+				if (type.getKind() == ElementKind.CLASS) {
+					entities.add((TypeElement) type);
+				}
+			}
+		}
+
+		for (TypeElement entity : entities) {
+			if (processed.add(entity.getQualifiedName().toString())) {
+				generate(entity);
+			}
+		}
+
+		return false;
+	}
+
+	private void generate(TypeElement entity) {
+
+		EntityAccessorSource source = new EntityAccessorSource(processingEnv, entity);
+
+		if (source.getProblem() != null) {
+
+			processingEnv.getMessager().printMessage(Kind.NOTE,
+					String.format("Not generating an entity accessor for %s because %s.", entity.getQualifiedName(),
+							source.getProblem()),
+					entity);
+			return;
+		}
+
+		try {
+
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(source.getClassName(), entity);
+
+			try (Writer writer = file.openWriter()) {
+				source.writeTo(writer);
+			}
+
+		} catch (IOException o_O) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					String.format("Could not write %s: %s", source.getClassName(), o_O.getMessage()), entity);
+		}
+	}
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Source of the {@code GeneratedEntityAccessor} for a single entity. Mirrors the rules Spring Data Commons uses at
+ * runtime: every non-static field is a property and the persistence constructor is the one annotated
+ * with {@code @PersistenceConstructor}, the only one, or the no-argument one. The generated code uses fields where they
+ * are accessible and getters, setters and withers otherwise.
+ */
+class EntityAccessorSource {
+
+	private static final String BASE_CLASS = "org.springframework.data.relational.core.mapping.GeneratedEntityAccessor";
+	private static final String CLASS_NAME_SUFFIX = "_EntityAccessor";
+	private static final String ACCESS_TYPE = "org.springframework.data.annotation.AccessType";
+	private static final String PERSISTENCE_CONSTRUCTOR = "org.springframework.data.annotation.PersistenceConstructor";
+
+	private final Elements elements;
+	private final Types types;
+	private final TypeElement entity;
+	private final PackageElement entityPackage;
+	private final String entityName;
+	private final List<Property> properties = new ArrayList<>();
+	private final String generatedAnnotation;
+
+	private String problem;
+	private ExecutableElement constructor;
+
+	EntityAccessorSource(ProcessingEnvironment environment, TypeElement entity) {
+
+		this.elements = environment.getElementUtils();
+		this.types = environment.getTypeUtils();
+		this.entity = entity;
+		this.entityPackage = elements.getPackageOf(entity);
+		this.entityName = entity.getQualifiedName().toString();
+		this.generatedAnnotation = findGeneratedAnnotation();
+
+		this.problem = verifyEntity();
+
+		if (problem == null) {
+			problem = collectProperties();
+		}
+
+		if (problem == null) {
+			constructor = findConstructor();
+		}
+	}
+
+	/**
+	 * @return why no accessor can be generated, {@literal null} if it can.
+	 */
+	String getProblem() {
+		return problem;
+	}
+
+	/**
+	 * @return the fully qualified name of the generated class.
+	 */
+	String getClassName() {
+
+		String packageName = entityPackage.getQualifiedName().toString();
+		String binaryName = elements.getBinaryName(entity).toString();
+		String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+
+		return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + CLASS_NAME_SUFFIX;
+	}
+
+	void writeTo(Writer writer) throws IOException {
+
+		String className = getClassName();
+		String packageName = entityPackage.getQualifiedName().toString();
+		String simpleName = className.substring(className.lastIndexOf('.') + 1);
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		if (generatedAnnotation != null) {
+			source.append("@").append(generatedAnnotation).append("(\"").append(EntityAccessorProcessor.class.getName())
+					.append("\")\n");
+		}
+
+		source.append("public final class ").append(simpleName).append(" extends ").append(BASE_CLASS).append("<")
+				.append(entityName).append("> {\n\n");
+
+		source.append("\tpublic ").append(simpleName).append("() {\n");
+		source.append("\t\tsuper(").append(entityName).append(".class, java.util.Arrays.asList(") //
+				.append(properties.stream().map(it -> "\"" + it.name + "\"").collect(Collectors.joining(", "))) //
+				.append("), ");
+		if (constructor == null) {
+			source.append("null");
+		} else {
+			source.append("new java.lang.Class<?>[] { ") //
+					.append(constructor.getParameters().stream().map(it -> typeName(it.asType()) + ".class")
+							.collect(Collectors.joining(", "))) //
+					.append(" }");
+		}
+		source.append(");\n\t}\n\n");
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tprotected java.lang.Object getProperty(").append(entityName)
+				.append(" bean, java.lang.String property) {\n\n");
+		source.append("\t\tswitch (property) {\n");
+		for (Property property : properties) {
+			source.append("\t\t\tcase \"").append(property.name).append("\":\n");
+			source.append("\t\t\t\treturn ").append(property.read).append(";\n");
+		}
+		source.append("\t\t\tdefault:\n\t\t\t\tthrow unknownProperty(property);\n\t\t}\n\t}\n\n");
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\t@java.lang.SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+		source.append("\tprotected ").append(entityName).append(" setProperty(").append(entityName)
+				.append(" bean, java.lang.String property, java.lang.Object value) {\n\n");
+		source.append("\t\tswitch (property) {\n");
+		for (Property property : properties) {
+			source.append("\t\t\tcase \"").append(property.name).append("\":\n");
+			for (String statement : property.write) {
+				source.append("\t\t\t\t").append(statement).append("\n");
+			}
+		}
+		source.append("\t\t\tdefault:\n\t\t\t\tthrow unknownProperty(property);\n\t\t}\n\t}\n\n");
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\t@java.lang.SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+		source.append("\tprotected ").append(entityName).append(" newInstance(java.lang.Object[] arguments) {\n");
+		if (constructor == null) {
+			source.append("\t\tthrow new java.lang.UnsupportedOperationException(\"No accessible persistence constructor.\");\n");
+		} else {
+
+			List<String> arguments = new ArrayList<>();
+			for (int i = 0; i < constructor.getParameters().size(); i++) {
+				arguments.add("(" + typeName(constructor.getParameters().get(i).asType()) + ") arguments[" + i + "]");
+			}
+
+			source.append("\t\treturn new ").append(entityName).append("(").append(String.join(", ", arguments))
+					.append(");\n");
+		}
+		source.append("\t}\n}\n");
+
+		writer.write(source.toString());
+	}
+
+	private String verifyEntity() {
+
+		if (entity.getModifiers().contains(Modifier.ABSTRACT)) {
+			return "it is abstract";
+		}
+
+		if (!entity.getTypeParameters().isEmpty()) {
+			return "it is generic";
+		}
+
+		if (hasAnnotation(entity, ACCESS_TYPE)) {
+			return "it declares an access type";
+		}
+
+		for (Element element = entity; isType(element); element = element.getEnclosingElement()) {
+
+			TypeElement type = (TypeElement) element;
+
+			if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+				return "it is a local or anonymous class";
+			}
+
+			if (type.getModifiers().contains(Modifier.PRIVATE)) {
+				return String.format("%s is private", type.getQualifiedName());
+			}
+
+			if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)
+					&& type.getEnclosingElement().getKind() == ElementKind.CLASS) {
+				return String.format("%s is an inner class", type.getQualifiedName());
+			}
+		}
+
+		return null;
+	}
+
+	private String collectProperties() {
+
+		Set<String> names = new HashSet<>();
+		DeclaredType entityType = (DeclaredType) entity.asType();
+
+		for (TypeElement type = entity; type != null; type = superclassOf(type)) {
+
+			for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+
+				if (field.getModifiers().contains(Modifier.STATIC)) {
+					continue;
+				}
+
+				String name = field.getSimpleName().toString();
+
+				if (!names.add(name)) {
+					return String.format("it declares property %s more than once", name);
+				}
+
+				if (hasAnnotation(field, ACCESS_TYPE)) {
+					return String.format("property %s declares an access type", name);
+				}
+
+				TypeMirror fieldType = types.asMemberOf(entityType, field);
+
+				if (!isAccessible(fieldType)) {
+					return String.format("the type of property %s is not accessible", name);
+				}
+
+				String read = read(field, name, fieldType);
+
+				if (read == null) {
+					return String.format("property %s has neither an accessible field nor an accessible getter", name);
+				}
+
+				List<String> write = write(field, name, fieldType);
+
+				if (write == null) {
+					return String.format("property %s has neither an accessible field nor an accessible setter", name);
+				}
+
+				properties.add(new Property(name, read, write));
+			}
+		}
+
+		return null;
+	}
+
+	private String read(VariableElement field, String name, TypeMirror fieldType) {
+
+		if (isAccessible(field)) {
+			return "bean." + name;
+		}
+
+		ExecutableElement getter = findMethod("get" + capitalize(name), null);
+
+		if (getter == null && fieldType.getKind() == TypeKind.BOOLEAN) {
+			getter = findMethod("is" + capitalize(name), null);
+		}
+
+		return getter != null && types.isSameType(memberType(getter).getReturnType(), fieldType)
+				? "bean." + getter.getSimpleName() + "()"
+				: null;
+	}
+
+	private List<String> write(VariableElement field, String name, TypeMirror fieldType) {
+
+		String value = "(" + typeName(fieldType) + ") value";
+
+		if (field.getModifiers().contains(Modifier.FINAL)) {
+
+			ExecutableElement wither = findMethod("with" + capitalize(name), fieldType);
+
+			if (wither != null && types.isAssignable(memberType(wither).getReturnType(), entity.asType())) {
+				return Collections.singletonList("return bean." + wither.getSimpleName() + "(" + value + ");");
+			}
+
+			return Collections.singletonList("throw immutableProperty(property);");
+		}
+
+		List<String> statements = new ArrayList<>();
+
+		if (isAccessible(field)) {
+			statements.add("bean." + name + " = " + value + ";");
+		} else {
+
+			ExecutableElement setter = findMethod("set" + capitalize(name), fieldType);
+
+			if (setter == null) {
+				return null;
+			}
+
+			statements.add("bean." + setter.getSimpleName() + "(" + value + ");");
+		}
+
+		statements.add("return bean;");
+
+		return statements;
+	}
+
+	/**
+	 * Finds an accessible, non-static method with the given name that takes no parameter if {@code parameterType} is
+	 * {@literal null} and a single parameter of the given type otherwise.
+	 */
+	private ExecutableElement findMethod(String name, TypeMirror parameterType) {
+
+		for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(entity))) {
+
+			if (!method.getSimpleName().contentEquals(name) || method.getModifiers().contains(Modifier.STATIC)
+					|| !isAccessible(method)) {
+				continue;
+			}
+
+			List<? extends TypeMirror> parameterTypes = memberType(method).getParameterTypes();
+
+			if (parameterType == null ? parameterTypes.isEmpty()
+					: parameterTypes.size() == 1 && types.isSameType(parameterTypes.get(0), parameterType)) {
+				return method;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Picks the persistence constructor the way {@code PreferredConstructorDiscoverer} does. Returns {@literal null} if
+	 * there is none or the generated code can't call it.
+	 */
+	private ExecutableElement findConstructor() {
+
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(entity.getEnclosedElements());
+		ExecutableElement candidate = constructors.stream() //
+				.filter(it -> hasAnnotation(it, PERSISTENCE_CONSTRUCTOR)) //
+				.findFirst() //
+				.orElseGet(() -> constructors.size() == 1 ? constructors.get(0)
+						: constructors.stream().filter(it -> it.getParameters().isEmpty()).findFirst().orElse(null));
+
+		if (candidate == null || candidate.getModifiers().contains(Modifier.PRIVATE)
+				|| !candidate.getParameters().stream().allMatch(it -> isAccessible(it.asType()))) {
+			return null;
+		}
+
+		return candidate;
+	}
+
+	private ExecutableType memberType(ExecutableElement method) {
+		return (ExecutableType) types.asMemberOf((DeclaredType) entity.asType(), method);
+	}
+
+	private TypeElement superclassOf(TypeElement type) {
+
+		TypeMirror superclass = type.getSuperclass();
+
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		TypeElement element = (TypeElement) types.asElement(superclass);
+
+		return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+	}
+
+	/**
+	 * Returns whether the generated class, living in the package of the entity, can access the given field or method.
+	 */
+	private boolean isAccessible(Element member) {
+
+		Set<Modifier> modifiers = member.getModifiers();
+
+		if (modifiers.contains(Modifier.PRIVATE)
+				|| !modifiers.contains(Modifier.PUBLIC) && !isInEntityPackage(member.getEnclosingElement())) {
+			return false;
+		}
+
+		return isAccessible(member.getEnclosingElement().asType());
+	}
+
+	/**
+	 * Returns whether the generated class, living in the package of the entity, can refer to the given type.
+	 */
+	private boolean isAccessible(TypeMirror type) {
+
+		switch (type.getKind()) {
+
+			case ARRAY:
+				return isAccessible(((ArrayType) type).getComponentType());
+
+			case DECLARED:
+
+				for (Element element = types.asElement(type); isType(element); element = element.getEnclosingElement()) {
+
+					Set<Modifier> modifiers = element.getModifiers();
+
+					if (modifiers.contains(Modifier.PRIVATE)
+							|| !modifiers.contains(Modifier.PUBLIC) && !isInEntityPackage(element)) {
+						return false;
+					}
+				}
+
+				return true;
+
+			default:
+				return type.getKind().isPrimitive();
+		}
+	}
+
+	private boolean isInEntityPackage(Element element) {
+		return elements.getPackageOf(element).equals(entityPackage);
+	}
+
+	private String typeName(TypeMirror type) {
+		return types.erasure(type).toString();
+	}
+
+	private String findGeneratedAnnotation() {
+
+		for (String candidate : new String[] { "javax.annotation.processing.Generated", "javax.annotation.Generated" }) {
+			if (elements.getTypeElement(candidate) != null) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean isType(Element element) {
+		return element.getKind().isClass() || element.getKind().isInterface();
+	}
+
+	private static boolean hasAnnotation(Element element, String annotation) {
+
+		return element.getAnnotationMirrors().stream() //
+				.anyMatch(it -> ((TypeElement) it.getAnnotationType().asElement()).getQualifiedName()
+						.contentEquals(annotation));
+	}
+
+	private static String capitalize(String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private static class Property {
+
+		private final String name;
+		private final String read;
+		private final List<String> write;
+
+		Property(String name, String read, List<String> write) {
+
+			this.name = name;
+			this.read = read;
+			this.write = write;
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.processor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.GeneratedEntityAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link EntityAccessorProcessor}. Compiles sample entities with the processor and checks that a
+ * {@link RelationalMappingContext} picks up the generated code.
+ */
+public class EntityAccessorProcessorUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	File output;
+
+	@Before
+	public void before() throws IOException {
+		output = folder.newFolder();
+	}
+
+	@Test
+	public void generatedAccessorReadsAndWritesAccessibleFields() throws Exception {
+
+		Class<?> type = compile("sample.Person", //
+				"package sample;", //
+				"public class Person {", //
+				"	@org.springframework.data.annotation.Id Long id;", //
+				"	String name;", //
+				"	int age;", //
+				"	transient String ignored;", //
+				"}").loadClass("sample.Person");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(type.newInstance());
+
+		accessor.setProperty(entity.getRequiredPersistentProperty("name"), "Alfred");
+		accessor.setProperty(entity.getRequiredPersistentProperty("age"), 42);
+
+		assertThat(accessor.getClass().getEnclosingClass()).isEqualTo(GeneratedEntityAccessor.class);
+		assertThat(accessor.getProperty(entity.getRequiredPersistentProperty("name"))).isEqualTo("Alfred");
+		assertThat(accessor.getProperty(entity.getRequiredPersistentProperty("age"))).isEqualTo(42);
+	}
+
+	@Test
+	public void generatedAccessorUsesAccessorMethodsForPrivateFields() throws Exception {
+
+		ClassLoader classLoader = compile("sample.Account", //
+				"package sample;", //
+				"public class Account {", //
+				"	@org.springframework.data.annotation.Id private final Long id;", //
+				"	private String owner;", //
+				"	public Account(Long id) { this.id = id; }", //
+				"	public Long getId() { return id; }", //
+				"	public Account withId(Long id) { return new Account(id); }", //
+				"	public String getOwner() { return owner; }", //
+				"	public void setOwner(String owner) { this.owner = owner; }", //
+				"}");
+		Class<?> type = classLoader.loadClass("sample.Account");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+		Object original = type.getConstructor(Long.class).newInstance(1L);
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(original);
+
+		accessor.setProperty(entity.getRequiredPersistentProperty("owner"), "Bertram");
+		accessor.setProperty(entity.getRequiredIdProperty(), 23L);
+
+		assertThat(accessor.getClass().getEnclosingClass()).isEqualTo(GeneratedEntityAccessor.class);
+		assertThat(accessor.getBean()).isNotSameAs(original);
+		assertThat(accessor.getProperty(entity.getRequiredIdProperty())).isEqualTo(23L);
+		assertThat(generatedSource("sample.Account")) //
+				.contains("return bean.withId((java.lang.Long) value);") //
+				.contains("bean.setOwner((java.lang.String) value);");
+	}
+
+	@Test
+	public void generatedInstantiatorCallsPersistenceConstructor() throws Exception {
+
+		Class<?> type = compile("sample.Point", //
+				"package sample;", //
+				"public class Point {", //
+				"	@org.springframework.data.annotation.Id final long x;", //
+				"	final long y;", //
+				"	Point(long x, long y) { this.x = x; this.y = y; }", //
+				"}").loadClass("sample.Point");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+		Object point = new BasicRelationalConverter(context).createInstance(entity,
+				parameter -> "x".equals(parameter.getName()) ? 3L : 4L);
+
+		assertThat(generatedSource("sample.Point"))
+				.contains("return new sample.Point((long) arguments[0], (long) arguments[1]);");
+		assertThat(entity.getPropertyAccessor(point).getProperty(entity.getRequiredIdProperty())).isEqualTo(3L);
+		assertThat(entity.getPropertyAccessor(point).getProperty(entity.getRequiredPersistentProperty("y")))
+				.isEqualTo(4L);
+	}
+
+	@Test
+	public void finalFieldsWithoutWitherCanNotBeSet() throws Exception {
+
+		Class<?> type = compile("sample.Constant", //
+				"package sample;", //
+				"public class Constant {", //
+				"	@org.springframework.data.annotation.Id final Long id = 1L;", //
+				"}").loadClass("sample.Constant");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(type.newInstance());
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> accessor.setProperty(entity.getRequiredIdProperty(), 2L));
+	}
+
+	@Test
+	public void generatesNothingForInaccessibleProperties() throws Exception {
+
+		Class<?> type = compile("sample.Secret", //
+				"package sample;", //
+				"public class Secret {", //
+				"	@org.springframework.data.annotation.Id private Long id;", //
+				"}").loadClass("sample.Secret");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+
+		assertThat(new File(output, "sample/Secret_EntityAccessor.java")).doesNotExist();
+		assertThat(entity.getPropertyAccessor(type.newInstance()).getClass().getEnclosingClass())
+				.isNotEqualTo(GeneratedEntityAccessor.class);
+	}
+
+	@Test
+	public void generatesAccessorsForNestedClassesUsingTheirBinaryName() throws Exception {
+
+		Class<?> type = compile("sample.Outer", //
+				"package sample;", //
+				"public class Outer {", //
+				"	@org.springframework.data.relational.core.mapping.Table(\"INNER\")", //
+				"	public static class Inner {", //
+				"		String name;", //
+				"	}", //
+				"}").loadClass("sample.Outer$Inner");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+
+		assertThat(new File(output, "sample/Outer_Inner_EntityAccessor.java")).exists();
+		assertThat(entity.getPropertyAccessor(type.newInstance()).getClass().getEnclosingClass())
+				.isEqualTo(GeneratedEntityAccessor.class);
+	}
+
+	@Test
+	public void generatedAccessorsAreNotUsedWhenDisabled() throws Exception {
+
+		Class<?> type = compile("sample.Person", //
+				"package sample;", //
+				"public class Person {", //
+				"	@org.springframework.data.annotation.Id Long id;", //
+				"}").loadClass("sample.Person");
+
+		context.setGeneratedPropertyAccessors(false);
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+
+		assertThat(new File(output, "sample/Person_EntityAccessor.java")).exists();
+		assertThat(entity.getPropertyAccessor(type.newInstance()).getClass().getEnclosingClass())
+				.isNotEqualTo(GeneratedEntityAccessor.class);
+	}
+
+	private ClassLoader compile(String className, String... lines) throws IOException {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+				StandardCharsets.UTF_8)) {
+
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output));
+			fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output));
+
+			List<String> options = Arrays.asList("-parameters", "-classpath", System.getProperty("java.class.path"));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					Collections.singletonList(new Source(className, String.join("\n", lines))));
+			task.setProcessors(Collections.singletonList(new EntityAccessorProcessor()));
+
+			assertThat(task.call()).describedAs(diagnostics.getDiagnostics().toString()).isTrue();
+		}
+
+		return new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader());
+	}
+
+	private String generatedSource(String className) throws IOException {
+
+		File file = new File(output, className.replace('.', '/') + GeneratedEntityAccessor.CLASS_NAME_SUFFIX + ".java");
+
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	private static class Source extends SimpleJavaFileObject {
+
+		private final String content;
+
+		Source(String className, String content) {
+
+			super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.content = content;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return content;
+		}
+	}
+}
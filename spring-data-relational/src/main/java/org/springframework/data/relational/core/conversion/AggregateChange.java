@@ -49,6 +49,12 @@ public class AggregateChange<T> {
 
 	private final List<DbAction<?>> actions = new ArrayList<>();
 
+	/**
+	 * The state of the lists of the aggregate root as persisted in the database, if known. Allows synchronizing these
+	 * lists position by position.
+	 */
+	@Nullable private PersistedLists persistedLists;
+
 	public AggregateChange(Kind kind, Class<T> entityType, @Nullable T entity) {
 
 		this.kind = kind;
@@ -59,48 +65,75 @@ public class AggregateChange<T> {
 	@SuppressWarnings("unchecked")
 	public void executeWith(Interpreter interpreter, RelationalMappingContext context, RelationalConverter converter) {
 
-		RelationalPersistentEntity<T> persistentEntity = entity != null
-				? (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(entity.getClass())
-				: null;
+		actions.forEach(a -> a.executeWith(interpreter));
 
-		PersistentPropertyAccessor<T> propertyAccessor = //
-				persistentEntity != null //
-						? converter.getPropertyAccessor(persistentEntity, entity) //
-						: null;
-
-		actions.forEach(a -> {
+		if (entity != null) {
+			entity = (T) new GeneratedIdPropagator(context, converter).propagate(entity, actions);
+		}
+	}
 
-			a.executeWith(interpreter);
+	/**
+	 * Executes the actions for saving the aggregate root of this change while they get created by the {@code writer}
+	 * instead of executing the actions previously added to this change. Actions get buffered and handed to the
+	 * {@link Interpreter} in chunks of at most {@code chunkSize} actions. Executed actions are not retained, so the memory
+	 * required doesn't depend on the total number of actions. As a consequence, {@link #getActions()} does not contain the
+	 * executed actions and generated ids get applied to the aggregate one by one.
+	 *
+	 * @param interpreter the {@link Interpreter} executing the actions. Must not be {@code null}.
+	 * @param context the mapping context. Must not be {@code null}.
+	 * @param converter the converter used for setting generated ids. Must not be {@code null}.
+	 * @param writer the writer creating the actions. Must not be {@code null}.
+	 * @param chunkSize the maximum number of actions buffered before they get executed. Must be greater than zero.
+	 */
+	public void executeStreamingWith(Interpreter interpreter, RelationalMappingContext context,
+			RelationalConverter converter, RelationalEntityWriter writer, int chunkSize) {
 
-			if (a instanceof DbAction.WithGeneratedId) {
+		Assert.state(entity != null, "Streaming execution requires an aggregate root.");
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than zero.");
 
-				Assert.notNull(persistentEntity,
-						"For statements triggering database side id generation a RelationalPersistentEntity must be provided.");
-				Assert.notNull(propertyAccessor, "propertyAccessor must not be null");
+		Execution execution = new Execution(interpreter, context, converter);
+		List<DbAction<?>> chunk = new ArrayList<>(chunkSize);
 
-				Object generatedId = ((DbAction.WithGeneratedId<?>) a).getGeneratedId();
+		writer.write(entity, this, action -> {
 
-				if (generatedId != null) {
+			chunk.add(action);
 
-					if (a instanceof DbAction.InsertRoot && a.getEntityType().equals(entityType)) {
-						propertyAccessor.setProperty(persistentEntity.getRequiredIdProperty(), generatedId);
-					} else if (a instanceof DbAction.WithDependingOn) {
+			if (chunk.size() == chunkSize) {
 
-						setId(context, converter, propertyAccessor, (DbAction.WithDependingOn<?>) a, generatedId);
-					}
-				}
+				chunk.forEach(execution::execute);
+				chunk.clear();
 			}
 		});
 
-		if (propertyAccessor != null) {
-			entity = propertyAccessor.getBean();
-		}
+		chunk.forEach(execution::execute);
+
+		execution.finish();
 	}
 
 	public void addAction(DbAction<?> action) {
 		actions.add(action);
 	}
 
+	/**
+	 * Replaces the aggregate root of this change, e.g. by a copy with values that got set while executing the change,
+	 * like an incremented version.
+	 *
+	 * @param entity the aggregate root. May be {@code null}.
+	 */
+	public void setEntity(@Nullable T entity) {
+		this.entity = entity;
+	}
+
+	/**
+	 * Provides the state of the lists of the aggregate root as persisted in the database. Must be set before the actions
+	 * for saving the aggregate get created.
+	 *
+	 * @param persistedLists the state of the lists. May be {@code null} if unknown.
+	 */
+	public void setPersistedLists(@Nullable PersistedLists persistedLists) {
+		this.persistedLists = persistedLists;
+	}
+
 	@SuppressWarnings("unchecked")
 	static void setId(RelationalMappingContext context, RelationalConverter converter,
 			PersistentPropertyAccessor<?> propertyAccessor, DbAction.WithDependingOn<?> action, Object generatedId) {
@@ -200,6 +233,67 @@ public class AggregateChange<T> {
 		return intermediateAccessor;
 	}
 
+	/**
+	 * Executes actions one by one and applies generated ids to the aggregate right away, so the actions don't need to get
+	 * retained.
+	 */
+	private class Execution {
+
+		private final Interpreter interpreter;
+		private final RelationalMappingContext context;
+		private final RelationalConverter converter;
+		@Nullable private final RelationalPersistentEntity<T> persistentEntity;
+		@Nullable private final PersistentPropertyAccessor<T> propertyAccessor;
+
+		@SuppressWarnings("unchecked")
+		Execution(Interpreter interpreter, RelationalMappingContext context, RelationalConverter converter) {
+
+			this.interpreter = interpreter;
+			this.context = context;
+			this.converter = converter;
+
+			this.persistentEntity = entity != null
+					? (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(entity.getClass())
+					: null;
+
+			this.propertyAccessor = //
+					persistentEntity != null //
+							? converter.getPropertyAccessor(persistentEntity, entity) //
+							: null;
+		}
+
+		void execute(DbAction<?> a) {
+
+			a.executeWith(interpreter);
+
+			if (a instanceof DbAction.WithGeneratedId) {
+
+				Assert.notNull(persistentEntity,
+						"For statements triggering database side id generation a RelationalPersistentEntity must be provided.");
+				Assert.notNull(propertyAccessor, "propertyAccessor must not be null");
+
+				Object generatedId = ((DbAction.WithGeneratedId<?>) a).getGeneratedId();
+
+				if (generatedId != null) {
+
+					if (a instanceof DbAction.InsertRoot && a.getEntityType().equals(entityType)) {
+						propertyAccessor.setProperty(persistentEntity.getRequiredIdProperty(), generatedId);
+					} else if (a instanceof DbAction.WithDependingOn) {
+
+						setId(context, converter, propertyAccessor, (DbAction.WithDependingOn<?>) a, generatedId);
+					}
+				}
+			}
+		}
+
+		void finish() {
+
+			if (propertyAccessor != null) {
+				entity = propertyAccessor.getBean();
+			}
+		}
+	}
+
 	/**
 	 * The kind of action to be performed on an aggregate.
 	 */
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The persistent state of an aggregate at a point in time. It consists of the values of all persistent properties of
+ * all entities of the aggregate, structured like the aggregate itself. Immutable values are referenced. Mutable values
+ * get copied: {@link Date}s and {@link Calendar}s get cloned, arrays, collections and maps get copied deeply. Values of
+ * any other type might get changed in place without the fingerprint noticing, so a fingerprint containing such a value
+ * is incomplete and never equals another fingerprint, i.e. the aggregate always counts as changed.
+ * <p>
+ * The hash code gets calculated once, so unequal fingerprints are usually detected without comparing the full state.
+ * Equal hash codes never suffice though, so a changed aggregate never gets mistaken for an unchanged one.
+ */
+public final class AggregateFingerprint {
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+			Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+			BigDecimal.class, UUID.class, Locale.class, Currency.class, Class.class));
+
+	private final List<Object> state;
+	private final boolean complete;
+	private final int hash;
+
+	private AggregateFingerprint(List<Object> state, boolean complete) {
+
+		this.state = state;
+		this.complete = complete;
+		this.hash = state.hashCode();
+	}
+
+	/**
+	 * Takes the fingerprint of the aggregate with the root {@code root}.
+	 *
+	 * @param root the aggregate root. Must not be {@code null}.
+	 * @param context the {@link RelationalMappingContext} providing the structure of the aggregate. Must not be
+	 *          {@code null}.
+	 * @return the fingerprint. Guaranteed to be not {@code null}.
+	 */
+	public static AggregateFingerprint of(Object root, RelationalMappingContext context) {
+
+		StateCollector collector = new StateCollector(context);
+		List<Object> state = collector.entityState(root);
+
+		return new AggregateFingerprint(state, collector.complete);
+	}
+
+	/**
+	 * Collects the state of a single aggregate, keeping track of whether all of it could be captured.
+	 */
+	private static class StateCollector {
+
+		private final RelationalMappingContext context;
+		private boolean complete = true;
+
+		StateCollector(RelationalMappingContext context) {
+			this.context = context;
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object> entityState(Object entity) {
+
+			RelationalPersistentEntity<Object> persistentEntity = (RelationalPersistentEntity<Object>) context
+					.getRequiredPersistentEntity(entity.getClass());
+			PersistentPropertyAccessor<Object> accessor = persistentEntity.getPropertyAccessor(entity);
+
+			List<Object> state = new ArrayList<>();
+			state.add(entity.getClass());
+
+			for (RelationalPersistentProperty property : persistentEntity) {
+				state.add(propertyState(property, accessor.getProperty(property)));
+			}
+
+			return state;
+		}
+
+		@Nullable
+		private Object propertyState(RelationalPersistentProperty property, @Nullable Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (!property.isEntity()) {
+				return valueState(value);
+			}
+
+			if (property.isMap()) {
+
+				Map<Object, Object> state = new HashMap<>();
+				((Map<?, ?>) value).forEach((k, v) -> state.put(valueState(k), elementState(v)));
+				return state;
+			}
+
+			if (property.isQualified()) {
+
+				List<Object> state = new ArrayList<>();
+				((List<?>) value).forEach(element -> state.add(elementState(element)));
+				return state;
+			}
+
+			if (property.isCollectionLike()) {
+
+				// the iteration order of sets is not necessarily stable, so the elements get counted instead
+				Map<Object, Integer> state = new HashMap<>();
+				((Collection<?>) value).forEach(element -> state.merge(elementState(element), 1, Integer::sum));
+				return state;
+			}
+
+			return entityState(value);
+		}
+
+		@Nullable
+		private Object elementState(@Nullable Object element) {
+			return element == null ? null : entityState(element);
+		}
+
+		@Nullable
+		private Object valueState(@Nullable Object value) {
+
+			if (value == null || value instanceof Enum || isImmutable(value.getClass())) {
+				return value;
+			}
+
+			if (value instanceof Date) {
+				return ((Date) value).clone();
+			}
+
+			if (value instanceof Calendar) {
+				return ((Calendar) value).clone();
+			}
+
+			if (value.getClass().isArray()) {
+				return collectionState(Arrays.asList(ObjectUtils.toObjectArray(value)), new ArrayList<>());
+			}
+
+			if (value instanceof List) {
+				return collectionState((List<?>) value, new ArrayList<>());
+			}
+
+			if (value instanceof Set) {
+				return collectionState((Set<?>) value, new HashSet<>());
+			}
+
+			if (value instanceof Map) {
+
+				Map<Object, Object> state = new HashMap<>();
+				((Map<?, ?>) value).forEach((k, v) -> state.put(valueState(k), valueState(v)));
+				return state;
+			}
+
+			complete = false;
+			return value;
+		}
+
+		private Collection<Object> collectionState(Collection<?> values, Collection<Object> state) {
+
+			values.forEach(element -> state.add(valueState(element)));
+			return state;
+		}
+
+		private static boolean isImmutable(Class<?> type) {
+			return IMMUTABLE_TYPES.contains(type) || type.getName().startsWith("java.time.");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof AggregateFingerprint)) {
+			return false;
+		}
+
+		AggregateFingerprint that = (AggregateFingerprint) o;
+		return complete && that.complete && hash == that.hash && state.equals(that.state);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+}
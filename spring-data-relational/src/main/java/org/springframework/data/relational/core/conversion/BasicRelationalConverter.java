@@ -35,6 +35,7 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.relational.core.mapping.RelationalEntityInstantiator;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.util.TypeInformation;
@@ -69,7 +70,7 @@ public class BasicRelationalConverter implements RelationalConverter {
 	public BasicRelationalConverter(
 			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context) {
 		this(context, new CustomConversions(StoreConversions.NONE, Collections.emptyList()), new DefaultConversionService(),
-				new EntityInstantiators());
+				new EntityInstantiators(new RelationalEntityInstantiator()));
 	}
 
 	/**
@@ -81,7 +82,8 @@ public class BasicRelationalConverter implements RelationalConverter {
 	public BasicRelationalConverter(
 			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
 			CustomConversions conversions) {
-		this(context, conversions, new DefaultConversionService(), new EntityInstantiators());
+		this(context, conversions, new DefaultConversionService(),
+				new EntityInstantiators(new RelationalEntityInstantiator()));
 	}
 
 	@SuppressWarnings("unchecked")
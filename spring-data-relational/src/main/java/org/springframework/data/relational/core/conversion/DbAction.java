@@ -142,6 +142,31 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an update statement for a single element of a {@link java.util.List} directly referenced by the
+	 * aggregate root. The element is identified by the id of the aggregate root and its index in the list.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 */
+	@Value
+	class UpdateListElement<T> implements WithEntity<T>, WithPropertyPath<T> {
+
+		@NonNull T entity;
+		@NonNull PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		@NonNull Object rootId;
+		int index;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithEntity.super.getEntityType();
+		}
+	}
+
 	/**
 	 * Represents a merge statement for a single entity that is not the root of an aggregate.
 	 *
@@ -179,6 +204,25 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a delete statement for the trailing elements of a {@link java.util.List} directly referenced by the
+	 * aggregate root, i.e. for all elements with an index of at least {@code size}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 */
+	@Value
+	class DeleteListTail<T> implements WithPropertyPath<T> {
+
+		@NonNull Object rootId;
+		@NonNull PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		int size;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root.
 	 * <p>
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * Applies the ids generated while executing {@link DbAction}s to the aggregate in a single bottom-up pass. The actions
+ * form a tree via {@link DbAction.WithDependingOn#getDependingOn()}. Each entity that received an id, or contains such
+ * an entity, gets rebuilt exactly once after all its children got rebuilt. Collections containing such entities get
+ * copied once. Untouched parts of the aggregate are left as they are. This keeps the effort linear in the size of the
+ * aggregate, even for immutable entities, which need to be recreated for every change.
+ */
+class GeneratedIdPropagator {
+
+	private final RelationalMappingContext context;
+	private final RelationalConverter converter;
+	private final Map<DbAction<?>, List<DbAction.WithDependingOn<?>>> childrenByParent = new IdentityHashMap<>();
+
+	GeneratedIdPropagator(RelationalMappingContext context, RelationalConverter converter) {
+
+		this.context = context;
+		this.converter = converter;
+	}
+
+	/**
+	 * Applies the ids generated for the {@code actions} to the aggregate root {@code root}.
+	 *
+	 * @param root the aggregate root. Must not be {@code null}.
+	 * @param actions the executed actions. Must not be {@code null}.
+	 * @return the aggregate root with all generated ids applied. Might be {@code root} itself.
+	 */
+	Object propagate(Object root, List<DbAction<?>> actions) {
+
+		DbAction<?> rootAction = null;
+		for (DbAction<?> action : actions) {
+
+			if (action instanceof DbAction.WithDependingOn) {
+
+				DbAction.WithDependingOn<?> child = (DbAction.WithDependingOn<?>) action;
+				childrenByParent.computeIfAbsent(child.getDependingOn(), k -> new ArrayList<>()).add(child);
+			} else if ((action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot)
+					&& ((DbAction.WithEntity<?>) action).getEntity() == root) {
+				rootAction = action;
+			}
+		}
+
+		if (rootAction == null) {
+			return root;
+		}
+
+		Object rebuilt = rebuild((DbAction.WithEntity<?>) rootAction);
+
+		return rebuilt == null ? root : rebuilt;
+	}
+
+	/**
+	 * Applies the generated id of the action and of all its children to the entity of the action.
+	 *
+	 * @return the updated entity or {@code null} if neither the entity nor any of its children received a generated id.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Object rebuild(DbAction.WithEntity<?> action) {
+
+		Object generatedId = action instanceof DbAction.WithGeneratedId
+				? ((DbAction.WithGeneratedId<?>) action).getGeneratedId()
+				: null;
+		List<DbAction.WithDependingOn<?>> children = childrenByParent.getOrDefault(action, Collections.emptyList());
+
+		if (generatedId == null && children.isEmpty()) {
+			return null;
+		}
+
+		Object original = action.getEntity();
+		RelationalPersistentEntity<Object> persistentEntity = (RelationalPersistentEntity<Object>) context
+				.getRequiredPersistentEntity(original.getClass());
+		PersistentPropertyAccessor<Object> accessor = converter.getPropertyAccessor(persistentEntity, original);
+
+		boolean changed = false;
+
+		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
+		if (generatedId != null && idProperty != null) {
+
+			accessor.setProperty(idProperty, generatedId);
+			changed = true;
+		}
+
+		Map<RelationalPersistentProperty, List<DbAction.WithDependingOn<?>>> childrenByProperty = new LinkedHashMap<>();
+		children.forEach(child -> childrenByProperty
+				.computeIfAbsent(child.getPropertyPath().getRequiredLeafProperty(), k -> new ArrayList<>()).add(child));
+
+		for (Map.Entry<RelationalPersistentProperty, List<DbAction.WithDependingOn<?>>> entry : childrenByProperty
+				.entrySet()) {
+
+			RelationalPersistentProperty property = entry.getKey();
+			Object value = accessor.getProperty(property);
+			Object newValue = rebuildValue(property, value, entry.getValue());
+
+			if (newValue != null) {
+
+				accessor.setProperty(property, newValue);
+				changed = true;
+			}
+		}
+
+		return changed ? accessor.getBean() : null;
+	}
+
+	/**
+	 * Creates the new value of a property holding referenced entities.
+	 *
+	 * @return the new value or {@code null} if none of the referenced entities received a generated id.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Object rebuildValue(RelationalPersistentProperty property, @Nullable Object value,
+			List<DbAction.WithDependingOn<?>> children) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (property.isQualified()) {
+
+			String keyColumn = property.getKeyColumn();
+
+			if (property.isMap()) {
+
+				Map<Object, Object> map = null;
+				for (DbAction.WithDependingOn<?> child : children) {
+
+					Object rebuilt = rebuild(child);
+					if (rebuilt != null) {
+
+						if (map == null) {
+							map = CollectionFactory.createMap(property.getType(), ((Map<?, ?>) value).size());
+							map.putAll((Map<?, ?>) value);
+						}
+						map.put(child.getAdditionalValues().get(keyColumn), rebuilt);
+					}
+				}
+				return map;
+			}
+
+			List<Object> list = null;
+			for (DbAction.WithDependingOn<?> child : children) {
+
+				Object rebuilt = rebuild(child);
+				if (rebuilt != null) {
+
+					if (list == null) {
+						list = new ArrayList<>((List<?>) value);
+					}
+					list.set((Integer) child.getAdditionalValues().get(keyColumn), rebuilt);
+				}
+			}
+			return list;
+		}
+
+		if (property.isCollectionLike()) {
+
+			Map<Object, Object> replacements = new IdentityHashMap<>();
+			for (DbAction.WithDependingOn<?> child : children) {
+
+				Object rebuilt = rebuild(child);
+				if (rebuilt != null) {
+					replacements.put(child.getEntity(), rebuilt);
+				}
+			}
+
+			if (replacements.isEmpty()) {
+				return null;
+			}
+
+			// elements with a changed id might have a changed hash code, so the collection gets recreated instead of updated.
+			// Elements without an action, e.g. existing elements of an append only collection, are retained.
+			Collection<?> original = (Collection<?>) value;
+			Collection<Object> collection = CollectionFactory.createCollection(property.getType(), original.size());
+			original.forEach(element -> collection.add(replacements.getOrDefault(element, element)));
+			return collection;
+		}
+
+		return rebuild(children.get(0));
+	}
+}
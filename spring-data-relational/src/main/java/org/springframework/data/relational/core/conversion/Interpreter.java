@@ -18,11 +18,13 @@ package org.springframework.data.relational.core.conversion;
 import org.springframework.data.relational.core.conversion.DbAction.Delete;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAll;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAllRoot;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteListTail;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteRoot;
 import org.springframework.data.relational.core.conversion.DbAction.Insert;
 import org.springframework.data.relational.core.conversion.DbAction.InsertRoot;
 import org.springframework.data.relational.core.conversion.DbAction.Merge;
 import org.springframework.data.relational.core.conversion.DbAction.Update;
+import org.springframework.data.relational.core.conversion.DbAction.UpdateListElement;
 import org.springframework.data.relational.core.conversion.DbAction.UpdateRoot;
 
 /**
@@ -49,12 +51,16 @@ public interface Interpreter {
 
 	<T> void interpret(UpdateRoot<T> update);
 
+	<T> void interpret(UpdateListElement<T> update);
+
 	<T> void interpret(Merge<T> update);
 
 	<T> void interpret(Delete<T> delete);
 
 	<T> void interpret(DeleteRoot<T> deleteRoot);
 
+	<T> void interpret(DeleteListTail<T> delete);
+
 	<T> void interpret(DeleteAll<T> delete);
 
 	<T> void interpret(DeleteAllRoot<T> DeleteAllRoot);
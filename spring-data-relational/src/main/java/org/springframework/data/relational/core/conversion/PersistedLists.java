@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * The state of the {@link List} properties of an aggregate root as persisted in the database, typically taken right
+ * after the aggregate got loaded. It allows the {@link RelationalEntityWriter} to synchronize such a list position by
+ * position: appended elements get inserted, changed elements get updated using the index stored in the key column and
+ * removed trailing elements get deleted. Without it a changed list gets deleted and inserted as a whole.
+ * <p>
+ * Only lists directly referenced by the aggregate root are considered, with elements that have neither an id nor
+ * reference further entities. Such elements are identified by their position alone.
+ */
+public final class PersistedLists {
+
+	private final Map<RelationalPersistentProperty, List<AggregateFingerprint>> elements;
+
+	private PersistedLists(Map<RelationalPersistentProperty, List<AggregateFingerprint>> elements) {
+		this.elements = elements;
+	}
+
+	/**
+	 * Takes the state of the lists of the aggregate with the root {@code root}.
+	 *
+	 * @param root the aggregate root. Must not be {@code null}.
+	 * @param context the {@link RelationalMappingContext} providing the structure of the aggregate. Must not be
+	 *          {@code null}.
+	 * @return the state of the lists. Guaranteed to be not {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static PersistedLists of(Object root, RelationalMappingContext context) {
+
+		RelationalPersistentEntity<Object> rootEntity = (RelationalPersistentEntity<Object>) context
+				.getRequiredPersistentEntity(root.getClass());
+
+		Map<RelationalPersistentProperty, List<AggregateFingerprint>> elements = new HashMap<>();
+
+		for (RelationalPersistentProperty property : rootEntity) {
+
+			if (!isSynchronizable(property, context)) {
+				continue;
+			}
+
+			List<?> value = (List<?>) rootEntity.getPropertyAccessor(root).getProperty(property);
+
+			List<AggregateFingerprint> fingerprints = new ArrayList<>();
+			if (value != null) {
+				value.forEach(element -> fingerprints.add(AggregateFingerprint.of(element, context)));
+			}
+
+			elements.put(property, fingerprints);
+		}
+
+		return new PersistedLists(elements);
+	}
+
+	/**
+	 * @param property a property of the aggregate root.
+	 * @return the fingerprints of the persisted elements of the list or {@code null} if the list of the given property
+	 *         can't be synchronized by position.
+	 */
+	@Nullable
+	List<AggregateFingerprint> get(RelationalPersistentProperty property) {
+		return elements.get(property);
+	}
+
+	private static boolean isSynchronizable(RelationalPersistentProperty property, RelationalMappingContext context) {
+
+		if (!RelationalEntityWriter.isReferencedEntity(property) || !property.isQualified() || property.isMap()) {
+			return false;
+		}
+
+		RelationalPersistentEntity<?> elementEntity = context.getRequiredPersistentEntity(property.getActualType());
+
+		if (elementEntity.hasIdProperty()) {
+			return false;
+		}
+
+		for (RelationalPersistentProperty elementProperty : elementEntity) {
+			if (RelationalEntityWriter.isReferencedEntity(elementProperty)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
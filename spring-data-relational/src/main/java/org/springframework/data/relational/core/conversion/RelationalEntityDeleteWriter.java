@@ -20,7 +20,6 @@ import java.util.Collections;
 import java.util.List;
 
 import org.springframework.data.convert.EntityWriter;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -65,7 +64,7 @@ public class RelationalEntityDeleteWriter implements EntityWriter<Object, Aggreg
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		context.findPersistentPropertyPaths(entityType, PersistentProperty::isEntity)
+		context.findPersistentPropertyPaths(entityType, RelationalEntityWriter::isReferencedEntity)
 				.forEach(p -> actions.add(new DbAction.DeleteAll<>(p)));
 
 		Collections.reverse(actions);
@@ -94,7 +93,7 @@ public class RelationalEntityDeleteWriter implements EntityWriter<Object, Aggreg
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		context.findPersistentPropertyPaths(aggregateChange.getEntityType(), PersistentProperty::isEntity)
+		context.findPersistentPropertyPaths(aggregateChange.getEntityType(), RelationalEntityWriter::isReferencedEntity) //
 				.forEach(p -> actions.add(new DbAction.Delete<>(id, p)));
 
 		Collections.reverse(actions);
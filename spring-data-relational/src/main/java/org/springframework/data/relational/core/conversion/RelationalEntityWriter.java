@@ -15,20 +15,26 @@
  */
 package org.springframework.data.relational.core.conversion;
 
-import lombok.Value;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 import org.springframework.data.convert.EntityWriter;
-import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyPath;
-import org.springframework.data.mapping.PersistentPropertyPaths;
+import org.springframework.data.relational.core.mapping.AppendOnly;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
@@ -43,6 +49,7 @@ import org.springframework.util.Assert;
 public class RelationalEntityWriter implements EntityWriter<Object, AggregateChange<?>> {
 
 	private final RelationalMappingContext context;
+	private final ConcurrentMap<Class<?>, WritePlan> writePlans = new ConcurrentHashMap<>();
 
 	public RelationalEntityWriter(RelationalMappingContext context) {
 		this.context = context;
@@ -54,10 +61,148 @@ public class RelationalEntityWriter implements EntityWriter<Object, AggregateCha
 	 */
 	@Override
 	public void write(Object root, AggregateChange<?> aggregateChange) {
+		write(root, aggregateChange, aggregateChange::addAction);
+	}
+
+	/**
+	 * Converts the aggregate into {@link DbAction}s and hands each action to the {@code consumer} as soon as it got
+	 * created, instead of adding it to the {@link AggregateChange}. Actions are created path by path. Actions for
+	 * entities on which other entities depend get retained only until all their dependents got created, so the consumer
+	 * can execute and discard actions while writing is still in progress.
+	 *
+	 * @param root the aggregate root. Must not be {@code null}.
+	 * @param aggregateChange the change describing the aggregate. Must not be {@code null}.
+	 * @param consumer receives the actions in the order in which they must be executed. Must not be {@code null}.
+	 */
+	public void write(Object root, AggregateChange<?> aggregateChange, Consumer<DbAction<?>> consumer) {
+
+		WritePlan writePlan = getWritePlan(aggregateChange.getEntityType());
+
+		new WritingContext(writePlan, root, aggregateChange, consumer).write();
+	}
+
+	/**
+	 * Creates the plan for writing aggregates with the given root type up front instead of on first use.
+	 *
+	 * @param entityType the type of the aggregate root. Must not be {@code null}.
+	 * @throws MappingException if aggregates of this type can't be written.
+	 */
+	public void prepare(Class<?> entityType) {
+		getWritePlan(entityType);
+	}
+
+	/**
+	 * Determines if a property references an entity that is stored in its own table and therefore requires separate
+	 * {@link DbAction}s. This is the case for all entity valued properties, except embedded ones.
+	 *
+	 * @param property the property to check. Must not be {@code null}.
+	 * @return whether the property references an entity that is stored in a table of its own.
+	 */
+	static boolean isReferencedEntity(RelationalPersistentProperty property) {
+		return property.isEntity() && !property.isEmbedded();
+	}
+
+	private WritePlan getWritePlan(Class<?> entityType) {
+
+		WritePlan writePlan = writePlans.get(entityType);
+
+		if (writePlan != null) {
+			return writePlan;
+		}
+
+		WritePlan created = new WritePlan(context.getRequiredPersistentEntity(entityType));
+		WritePlan existing = writePlans.putIfAbsent(entityType, created);
+
+		return existing == null ? created : existing;
+	}
+
+	/**
+	 * The information required for writing any aggregate of a given type. It gets created once per aggregate type and
+	 * is immutable, so it can be shared between all concurrent write operations.
+	 */
+	private class WritePlan {
+
+		private final RelationalPersistentEntity<?> rootEntity;
+
+		/** Plans for all paths to referenced entities. Parents come before their children. */
+		private final List<PathPlan> paths;
+
+		WritePlan(RelationalPersistentEntity<?> rootEntity) {
+
+			this.rootEntity = rootEntity;
+			boolean appendOnlyRoot = rootEntity.isAnnotationPresent(AppendOnly.class);
+
+			Map<PersistentPropertyPath<RelationalPersistentProperty>, PathPlan> plansByPath = new HashMap<>();
+			List<PathPlan> paths = new ArrayList<>();
+
+			context.findPersistentPropertyPaths(rootEntity.getType(), RelationalEntityWriter::isReferencedEntity)
+					.forEach(path -> {
+
+						PathPlan parent = path.getLength() == 1 ? null : plansByPath.get(path.getParentPath());
+						PathPlan pathPlan = new PathPlan(path, parent, paths.size(), appendOnlyRoot);
+
+						if (pathPlan.appendOnly
+								&& !context.getRequiredPersistentEntity(pathPlan.property.getActualType()).hasIdProperty()) {
+							throw new MappingException(String.format(
+									"%s is append only, but %s has no id property to tell new entities apart from existing ones.",
+									path.toDotPath(), pathPlan.property.getActualType().getName()));
+						}
+
+						if (parent != null) {
+							parent.lastChildIndex = pathPlan.index;
+						}
+
+						plansByPath.put(path, pathPlan);
+						paths.add(pathPlan);
+					});
+
+			this.paths = Collections.unmodifiableList(paths);
+		}
+	}
+
+	/**
+	 * The information required for writing the entities reachable via a single {@link PersistentPropertyPath}.
+	 */
+	private static class PathPlan {
+
+		private final PersistentPropertyPath<RelationalPersistentProperty> path;
+		private final RelationalPersistentProperty property;
+		@Nullable private final PathPlan parent;
+		@Nullable private final String keyColumn;
+		private final int index;
+
+		/** Whether only new entities get inserted for this path, instead of deleting and inserting all entities. */
+		private final boolean appendOnly;
+
+		/** Whether this path or one of its ancestors is append only, so its entities never get deleted. */
+		private final boolean neverDeleted;
+
+		/**
+		 * The index of the last path having this path as its parent or -1 if there is none. Only modified while the
+		 * {@link WritePlan} gets constructed.
+		 */
+		private int lastChildIndex = -1;
+
+		PathPlan(PersistentPropertyPath<RelationalPersistentProperty> path, @Nullable PathPlan parent, int index,
+				boolean appendOnlyRoot) {
+
+			this.path = path;
+			this.property = path.getRequiredLeafProperty();
+			this.parent = parent;
+			this.keyColumn = property.isQualified() ? property.getKeyColumn() : null;
+			this.index = index;
+
+			boolean parentNeverDeleted = parent != null && parent.neverDeleted;
 
-		List<DbAction<?>> actions = new WritingContext(root, aggregateChange).write();
+			// entities below an append only path only get written as part of a new entity, so they need no filtering
+			this.appendOnly = !parentNeverDeleted
+					&& (property.isAnnotationPresent(AppendOnly.class) || appendOnlyRoot && parent == null);
+			this.neverDeleted = parentNeverDeleted || appendOnly;
+		}
 
-		actions.forEach(aggregateChange::addAction);
+		private boolean hasChildren() {
+			return lastChildIndex >= 0;
+		}
 	}
 
 	/**
@@ -65,102 +210,186 @@ public class RelationalEntityWriter implements EntityWriter<Object, AggregateCha
 	 */
 	private class WritingContext {
 
+		private final WritePlan writePlan;
 		private final Object root;
 		private final Object entity;
-		private final Class<?> entityType;
-		private final PersistentPropertyPaths<?, RelationalPersistentProperty> paths;
-		private final Map<PathNode, DbAction> previousActions = new HashMap<>();
-		private Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> nodesCache = new HashMap<>();
+		private final Consumer<DbAction<?>> consumer;
 
-		WritingContext(Object root, AggregateChange<?> aggregateChange) {
+		/**
+		 * Nodes and actions of already processed entities which have children, so they can be referenced by the actions of
+		 * their children. They get removed once all children got processed.
+		 */
+		private final Map<PathNode, DbAction<?>> previousActions = new IdentityHashMap<>();
+		private final Map<PathPlan, List<PathNode>> nodesByPath = new IdentityHashMap<>();
+		private final Map<PathPlan, List<AggregateFingerprint>> synchronizedLists = new IdentityHashMap<>();
+		@Nullable private final PersistedLists persistedLists;
+		@Nullable private DbAction<?> rootAction;
 
+		WritingContext(WritePlan writePlan, Object root, AggregateChange<?> aggregateChange,
+				Consumer<DbAction<?>> consumer) {
+
+			this.writePlan = writePlan;
 			this.root = root;
 			this.entity = aggregateChange.getEntity();
-			this.entityType = aggregateChange.getEntityType();
-			this.paths = context.findPersistentPropertyPaths(entityType, PersistentProperty::isEntity);
+			this.consumer = consumer;
+			this.persistedLists = aggregateChange.getPersistedLists();
 		}
 
-		private List<DbAction<?>> write() {
+		private void write() {
 
-			List<DbAction<?>> actions = new ArrayList<>();
 			if (isNew(root)) {
 
-				actions.add(setRootAction(new DbAction.InsertRoot<>(entity)));
-				actions.addAll(insertReferenced());
+				consumer.accept(setRootAction(new DbAction.InsertRoot<>(entity)));
+				insertReferenced();
 			} else {
 
-				actions.addAll(deleteReferenced());
-				actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
-				actions.addAll(insertReferenced());
+				determineSynchronizedLists();
+				deleteReferenced();
+				consumer.accept(setRootAction(new DbAction.UpdateRoot<>(entity)));
+				insertReferenced();
 			}
-
-			return actions;
 		}
 
 		//// Operations on all paths
 
-		private List<DbAction<?>> insertReferenced() {
+		private void insertReferenced() {
 
-			List<DbAction<?>> actions = new ArrayList<>();
+			writePlan.paths.forEach(pathPlan -> {
 
-			paths.forEach(path -> actions.addAll(insertAll(path)));
+				List<AggregateFingerprint> persisted = synchronizedLists.get(pathPlan);
 
-			return actions;
+				if (persisted == null) {
+					insertAll(pathPlan);
+				} else {
+					synchronizeList(pathPlan, persisted);
+				}
+			});
 		}
 
-		private List<DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		private void insertAll(PathPlan pathPlan) {
+
+			List<PathNode> nodes = from(pathPlan);
 
-			List<DbAction<?>> actions = new ArrayList<>();
+			// existing entities of an append only path are left untouched, including the entities they reference
+			if (pathPlan.appendOnly && !isNew(root)) {
+				nodes.removeIf(node -> !isNew(getEntity(pathPlan, node)));
+			}
 
-			from(path).forEach(node -> {
+			nodes.forEach(node -> {
 
 				DbAction.Insert<Object> insert;
-				if (node.path.getRequiredLeafProperty().isQualified()) {
+				if (pathPlan.keyColumn != null) {
 
 					Pair<Object, Object> value = (Pair) node.getValue();
-					insert = new DbAction.Insert<>(value.getSecond(), path, getAction(node.parent));
-					insert.getAdditionalValues().put(node.path.getRequiredLeafProperty().getKeyColumn(), value.getFirst());
+					insert = new DbAction.Insert<>(value.getSecond(), pathPlan.path, getAction(node.getParent()));
+					insert.getAdditionalValues().put(pathPlan.keyColumn, value.getFirst());
 
 				} else {
-					insert = new DbAction.Insert<>(node.getValue(), path, getAction(node.parent));
+					insert = new DbAction.Insert<>(node.getValue(), pathPlan.path, getAction(node.getParent()));
 				}
 
-				previousActions.put(node, insert);
-				actions.add(insert);
+				if (pathPlan.hasChildren()) {
+					previousActions.put(node, insert);
+				}
+				consumer.accept(insert);
 			});
 
-			return actions;
+			if (pathPlan.hasChildren()) {
+				nodesByPath.put(pathPlan, nodes);
+			}
+
+			PathPlan parent = pathPlan.parent;
+			if (parent != null && parent.lastChildIndex == pathPlan.index) {
+				nodesByPath.remove(parent).forEach(previousActions::remove);
+			}
+		}
+
+		/**
+		 * Updates a list directly referenced by the aggregate root position by position, based on the state of the list
+		 * persisted in the database. Trailing elements that got removed get deleted, changed elements get updated and
+		 * appended elements get inserted.
+		 */
+		private void synchronizeList(PathPlan pathPlan, List<AggregateFingerprint> persisted) {
+
+			Object id = getRootId();
+			List<PathNode> nodes = from(pathPlan);
+
+			if (nodes.size() < persisted.size()) {
+				consumer.accept(new DbAction.DeleteListTail<>(id, pathPlan.path, nodes.size()));
+			}
+
+			nodes.forEach(node -> {
+
+				Pair<?, ?> value = (Pair<?, ?>) node.getValue();
+				int index = (Integer) value.getFirst();
+				Object element = value.getSecond();
+
+				if (index >= persisted.size()) {
+
+					DbAction.Insert<Object> insert = new DbAction.Insert<>(element, pathPlan.path, getAction(null));
+					insert.getAdditionalValues().put(pathPlan.keyColumn, index);
+					consumer.accept(insert);
+
+				} else if (!persisted.get(index).equals(AggregateFingerprint.of(element, context))) {
+					consumer.accept(new DbAction.UpdateListElement<>(element, pathPlan.path, id, index));
+				}
+			});
 		}
 
-		private List<DbAction<?>> deleteReferenced() {
+		private void deleteReferenced() {
 
-			List<DbAction<?>> deletes = new ArrayList<>();
-			paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
+			Object id = getRootId();
 
-			return deletes;
+			List<PathPlan> paths = writePlan.paths;
+			for (int i = paths.size() - 1; i >= 0; i--) {
+
+				PathPlan pathPlan = paths.get(i);
+
+				if (!pathPlan.neverDeleted && !synchronizedLists.containsKey(pathPlan)) {
+					consumer.accept(new DbAction.Delete<>(id, pathPlan.path));
+				}
+			}
 		}
 
-		/// Operations on a single path
+		/**
+		 * Determines the lists that get synchronized position by position instead of getting deleted and inserted as a
+		 * whole. This requires the persisted state of the list and a list without nested entities, directly referenced by
+		 * the aggregate root, since otherwise elements can't be identified by their position alone.
+		 */
+		private void determineSynchronizedLists() {
+
+			if (persistedLists == null) {
+				return;
+			}
 
-		private DbAction.Delete<?> deleteReferenced(PersistentPropertyPath<RelationalPersistentProperty> path) {
+			writePlan.paths.forEach(pathPlan -> {
 
-			Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(entity).getIdentifier();
+				if (pathPlan.parent == null && !pathPlan.hasChildren()) {
 
-			return new DbAction.Delete<>(id, path);
+					List<AggregateFingerprint> persisted = persistedLists.get(pathPlan.property);
+					if (persisted != null) {
+						synchronizedLists.put(pathPlan, persisted);
+					}
+				}
+			});
 		}
 
 		//// methods not directly related to the creation of DbActions
 
+		private Object getRootId() {
+			return writePlan.rootEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+		}
+
 		private DbAction<?> setRootAction(DbAction<?> dbAction) {
 
-			previousActions.put(null, dbAction);
+			rootAction = dbAction;
 			return dbAction;
 		}
 
 		@Nullable
 		private DbAction.WithEntity<?> getAction(@Nullable PathNode parent) {
 
-			DbAction action = previousActions.get(parent);
+			DbAction<?> action = parent == null ? rootAction : previousActions.get(parent);
 
 			if (action != null) {
 
@@ -176,64 +405,71 @@ public class RelationalEntityWriter implements EntityWriter<Object, AggregateCha
 			return null;
 		}
 
+		/**
+		 * Returns the entity of a node. Elements of lists and maps are stored together with their key.
+		 */
+		private Object getEntity(PathPlan pathPlan, PathNode node) {
+			return pathPlan.keyColumn != null ? ((Pair<?, ?>) node.getValue()).getSecond() : node.getValue();
+		}
+
 		private boolean isNew(Object o) {
-			return context.getRequiredPersistentEntity(o.getClass()).isNew(o);
+
+			RelationalPersistentEntity<?> rootEntity = writePlan.rootEntity;
+
+			return (o.getClass() == rootEntity.getType() ? rootEntity : context.getRequiredPersistentEntity(o.getClass()))
+					.isNew(o);
 		}
 
-		private List<PathNode> from(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		private List<PathNode> from(PathPlan pathPlan) {
 
 			List<PathNode> nodes = new ArrayList<>();
 
-			if (path.getLength() == 1) {
+			if (pathPlan.parent == null) {
 
-				Object value = context //
-						.getRequiredPersistentEntity(entityType) //
-						.getPropertyAccessor(entity) //
-						.getProperty(path.getRequiredLeafProperty());
+				Object value = writePlan.rootEntity.getPropertyAccessor(entity).getProperty(pathPlan.property);
 
-				nodes.addAll(createNodes(path, null, value));
+				nodes.addAll(createNodes(pathPlan, null, value));
 
 			} else {
 
-				List<PathNode> pathNodes = nodesCache.get(path.getParentPath());
-				pathNodes.forEach(parentNode -> {
+				nodesByPath.get(pathPlan.parent).forEach(parentNode -> {
+
+					Object parentValue = getEntity(pathPlan.parent, parentNode);
 
-					Object value = path.getRequiredLeafProperty().getOwner().getPropertyAccessor(parentNode.getValue())
-							.getProperty(path.getRequiredLeafProperty());
+					Object value = pathPlan.property.getOwner().getPropertyAccessor(parentValue)
+							.getProperty(pathPlan.property);
 
-					nodes.addAll(createNodes(path, parentNode, value));
+					nodes.addAll(createNodes(pathPlan, parentNode, value));
 				});
 			}
 
-			nodesCache.put(path, nodes);
-
 			return nodes;
 		}
 
-		private List<PathNode> createNodes(PersistentPropertyPath<RelationalPersistentProperty> path,
-				@Nullable PathNode parentNode, @Nullable Object value) {
+		private List<PathNode> createNodes(PathPlan pathPlan, @Nullable PathNode parentNode, @Nullable Object value) {
 
 			if (value == null) {
 				return Collections.emptyList();
 			}
 
 			List<PathNode> nodes = new ArrayList<>();
+			RelationalPersistentProperty property = pathPlan.property;
 
-			if (path.getRequiredLeafProperty().isQualified()) {
+			if (property.isQualified()) {
 
-				if (path.getRequiredLeafProperty().isMap()) {
-					((Map<?, ?>) value).forEach((k, v) -> nodes.add(new PathNode(path, parentNode, Pair.of(k, v))));
+				if (property.isMap()) {
+					((Map<?, ?>) value).forEach((k, v) -> nodes.add(new PathNode(pathPlan.path, parentNode, Pair.of(k, v))));
 				} else {
 
 					List listValue = (List) value;
 					for (int k = 0; k < listValue.size(); k++) {
-						nodes.add(new PathNode(path, parentNode, Pair.of(k, listValue.get(k))));
+						nodes.add(new PathNode(pathPlan.path, parentNode, Pair.of(k, listValue.get(k))));
 					}
 				}
-			} else if (path.getRequiredLeafProperty().isCollectionLike()) { // collection value
-				((Collection<?>) value).forEach(v -> nodes.add(new PathNode(path, parentNode, v)));
+			} else if (property.isCollectionLike()) { // collection value
+				((Collection<?>) value).forEach(v -> nodes.add(new PathNode(pathPlan.path, parentNode, v)));
 			} else { // single entity value
-				nodes.add(new PathNode(path, parentNode, value));
+				nodes.add(new PathNode(pathPlan.path, parentNode, value));
 			}
 
 			return nodes;
@@ -243,20 +479,22 @@ public class RelationalEntityWriter implements EntityWriter<Object, AggregateCha
 
 	/**
 	 * Represents a single entity in an aggregate along with its property path from the root entity and the chain of
-	 * objects to traverse a long this path.
+	 * objects to traverse a long this path. Nodes get compared by identity, so neither the path nor the entity need to
+	 * get hashed or compared when tracking the actions of a write operation.
 	 */
-	@Value
+	@Getter
+	@RequiredArgsConstructor
 	static class PathNode {
 
 		/** The path to this entity */
-		PersistentPropertyPath<RelationalPersistentProperty> path;
+		private final PersistentPropertyPath<RelationalPersistentProperty> path;
 
 		/**
 		 * The parent {@link PathNode}. This is {@code null} if this is the root entity.
 		 */
-		@Nullable PathNode parent;
+		@Nullable private final PathNode parent;
 
 		/** The value of the entity. */
-		Object value;
+		private final Object value;
 	}
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a property referencing entities, or an aggregate root type, as append only. Entities referenced by an append
+ * only property only ever get added, never changed or removed. Therefore, updating the aggregate doesn't delete and
+ * re-insert the referenced entities, but only inserts the new ones, i.e. the ones without an id. Entities that already
+ * have an id, including all entities they reference, are left untouched in the database.
+ * <p>
+ * On an aggregate root type it applies to all properties of the aggregate root referencing entities. The referenced
+ * entities must have an id property, since it is used to tell new entities apart from existing ones.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface AppendOnly {}
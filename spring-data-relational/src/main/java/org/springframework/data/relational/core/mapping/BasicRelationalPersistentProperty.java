@@ -56,6 +56,7 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 	private final RelationalMappingContext context;
 	private final Lazy<Optional<String>> columnName;
 	private final Lazy<Optional<String>> keyColumnName;
+	private final Lazy<Optional<String>> embeddedPrefix;
 
 	/**
 	 * Creates a new {@link AnnotationBasedPersistentProperty}.
@@ -85,6 +86,11 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 				.map(Column::keyColumn) //
 				.filter(StringUtils::hasText) //
 		);
+
+		this.embeddedPrefix = Lazy.of(() -> Optional.ofNullable( //
+				findAnnotation(Embedded.class)) //
+				.map(Embedded::prefix) //
+		);
 	}
 
 	/*
@@ -168,6 +174,16 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return isListLike();
 	}
 
+	@Override
+	public boolean isEmbedded() {
+		return embeddedPrefix.get().isPresent();
+	}
+
+	@Override
+	public String getEmbeddedPrefix() {
+		return embeddedPrefix.get().orElse(null);
+	}
+
 	private boolean isListLike() {
 		return isCollectionLike() && !Set.class.isAssignableFrom(this.getType());
 	}
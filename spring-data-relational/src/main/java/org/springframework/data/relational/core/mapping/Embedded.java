@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a property as an embedded value object. The properties of an embedded value object get stored in columns of the
+ * table of the owning entity instead of a separate table. Therefore, no join is required for loading it and no separate
+ * statements are required for saving or deleting it.
+ * <p>
+ * Embedded value objects may contain simple properties and further embedded value objects, but no collections, maps or
+ * references to other entities. Such embedded value objects get rejected with a
+ * {@link org.springframework.data.mapping.MappingException} when the owning entity gets registered with the mapping
+ * context.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Embedded {
+
+	/**
+	 * The prefix prepended to the column names of the properties of the embedded value object.
+	 */
+	String prefix() default "";
+}
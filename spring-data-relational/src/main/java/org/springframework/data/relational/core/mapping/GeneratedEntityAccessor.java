@@ -0,0 +1,293 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.PersistentPropertyAccessorFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Base class of the property accessors and instantiators generated at build time by the annotation processor of
+ * {@code spring-data-relational-processor}. The class generated for {@code com.acme.Order} is
+ * {@code com.acme.Order_EntityAccessor}, the one for the nested class {@code com.acme.Order.Line} is
+ * {@code com.acme.Order_Line_EntityAccessor}.
+ * <p>
+ * A {@link RelationalPersistentEntity} uses the generated class instead of the accessors Spring Data Commons generates
+ * at runtime if it knows all properties of the entity. It uses it for creating instances if it calls the persistence
+ * constructor of the entity. Everything else falls back to the runtime mechanisms.
+ *
+ * @param <T> the type of the entity.
+ * @see RelationalMappingContext#setGeneratedPropertyAccessors(boolean)
+ */
+public abstract class GeneratedEntityAccessor<T> implements PersistentPropertyAccessorFactory, EntityInstantiator {
+
+	/**
+	 * Appended to the name of the entity for the name of the generated class.
+	 */
+	public static final String CLASS_NAME_SUFFIX = "_EntityAccessor";
+
+	private final Class<T> type;
+	private final Set<String> properties;
+	private final @Nullable List<Class<?>> constructorParameterTypes;
+
+	/**
+	 * Creates a new {@link GeneratedEntityAccessor}.
+	 *
+	 * @param type the type of the entity. Must not be {@literal null}.
+	 * @param properties the names of the properties {@link #getProperty(Object, String)} and
+	 *          {@link #setProperty(Object, String, Object)} support. Must not be {@literal null}.
+	 * @param constructorParameterTypes the parameter types of the constructor {@link #newInstance(Object[])} calls. May be
+	 *          {@literal null} if the generated code can't create instances.
+	 */
+	protected GeneratedEntityAccessor(Class<T> type, Collection<String> properties,
+			@Nullable Class<?>[] constructorParameterTypes) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(properties, "Properties must not be null!");
+
+		this.type = type;
+		this.properties = Collections.unmodifiableSet(new HashSet<>(properties));
+		this.constructorParameterTypes = constructorParameterTypes == null ? null
+				: Arrays.asList(constructorParameterTypes);
+	}
+
+	/**
+	 * Returns the value of the property with the given name.
+	 *
+	 * @param bean the instance to read from. Never {@literal null}.
+	 * @param property the name of the property.
+	 * @return the value of the property. May be {@literal null}.
+	 */
+	@Nullable
+	protected abstract Object getProperty(T bean, String property);
+
+	/**
+	 * Sets the property with the given name.
+	 *
+	 * @param bean the instance to modify. Never {@literal null}.
+	 * @param property the name of the property.
+	 * @param value the new value. May be {@literal null}.
+	 * @return the instance holding the new value. A new instance when the property is set through a wither.
+	 */
+	protected abstract T setProperty(T bean, String property, @Nullable Object value);
+
+	/**
+	 * Calls the persistence constructor of the entity.
+	 *
+	 * @param arguments the arguments in the order of the constructor parameters.
+	 * @return the new instance.
+	 */
+	protected abstract T newInstance(Object[] arguments);
+
+	/**
+	 * Creates the exception generated code throws when asked for a property it doesn't know.
+	 *
+	 * @param property the name of the property.
+	 * @return the exception to throw.
+	 */
+	protected final RuntimeException unknownProperty(String property) {
+		return new IllegalArgumentException(String.format("Unknown property %s of %s!", property, type.getName()));
+	}
+
+	/**
+	 * Creates the exception generated code throws when asked to set a final property that has no wither.
+	 *
+	 * @param property the name of the property.
+	 * @return the exception to throw.
+	 */
+	protected final RuntimeException immutableProperty(String property) {
+		return new UnsupportedOperationException(
+				String.format("Cannot set immutable property %s.%s!", type.getName(), property));
+	}
+
+	/**
+	 * Returns whether the generated code covers every property of the given entity.
+	 *
+	 * @see org.springframework.data.mapping.model.PersistentPropertyAccessorFactory#isSupported(org.springframework.data.mapping.PersistentEntity)
+	 */
+	@Override
+	public boolean isSupported(PersistentEntity<?, ?> entity) {
+
+		if (entity.getType() != type) {
+			return false;
+		}
+
+		Set<String> missing = new HashSet<>();
+		entity.doWithProperties((SimplePropertyHandler) property -> {
+			if (!properties.contains(property.getName())) {
+				missing.add(property.getName());
+			}
+		});
+
+		return missing.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.model.PersistentPropertyAccessorFactory#getPropertyAccessor(org.springframework.data.mapping.PersistentEntity, java.lang.Object)
+	 */
+	@Override
+	public <B> PersistentPropertyAccessor<B> getPropertyAccessor(PersistentEntity<?, ?> entity, B bean) {
+
+		Assert.isInstanceOf(type, bean, "Bean must be an instance of the entity type!");
+
+		return new Accessor<>(type.cast(bean));
+	}
+
+	/**
+	 * Returns whether {@link #newInstance(Object[])} calls the persistence constructor of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return whether this can be used as {@link EntityInstantiator} for the entity.
+	 */
+	boolean canInstantiate(PersistentEntity<?, ?> entity) {
+
+		PreferredConstructor<?, ?> constructor = entity.getPersistenceConstructor();
+
+		return entity.getType() == type //
+				&& constructorParameterTypes != null //
+				&& constructor != null //
+				&& Arrays.asList(constructor.getConstructor().getParameterTypes()).equals(constructorParameterTypes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.EntityInstantiator#createInstance(org.springframework.data.mapping.PersistentEntity, org.springframework.data.mapping.model.ParameterValueProvider)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S, E extends PersistentEntity<? extends S, P>, P extends PersistentProperty<P>> S createInstance(E entity,
+			ParameterValueProvider<P> provider) {
+
+		PreferredConstructor<? extends S, P> constructor = entity.getPersistenceConstructor();
+
+		Assert.state(constructor != null, () -> String.format("%s has no persistence constructor!", type.getName()));
+
+		List<Parameter<Object, P>> parameters = constructor.getParameters();
+		Object[] arguments = new Object[parameters.size()];
+
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = provider.getParameterValue(parameters.get(i));
+		}
+
+		return (S) newInstance(arguments);
+	}
+
+	/**
+	 * Loads and instantiates the class generated for the given type.
+	 *
+	 * @param type the type of the entity. Must not be {@literal null}.
+	 * @return the generated class, or {@link Optional#empty()} if there is none or it can't be loaded.
+	 */
+	static Optional<GeneratedEntityAccessor<?>> lookup(Class<?> type) {
+
+		String className = getClassName(type);
+		ClassLoader classLoader = type.getClassLoader();
+
+		if (!ClassUtils.isPresent(className, classLoader)) {
+			return Optional.empty();
+		}
+
+		try {
+
+			Class<?> accessorType = ClassUtils.forName(className, classLoader);
+
+			if (!GeneratedEntityAccessor.class.isAssignableFrom(accessorType)) {
+				return Optional.empty();
+			}
+
+			return Optional.of((GeneratedEntityAccessor<?>) ReflectionUtils.accessibleConstructor(accessorType).newInstance());
+
+		} catch (ReflectiveOperationException | LinkageError o_O) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns the name of the class generated for the given type.
+	 *
+	 * @param type the type of the entity. Must not be {@literal null}.
+	 * @return the fully qualified name of the generated class.
+	 */
+	static String getClassName(Class<?> type) {
+
+		String packageName = ClassUtils.getPackageName(type);
+		String simpleName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+
+		return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + CLASS_NAME_SUFFIX;
+	}
+
+	/**
+	 * {@link PersistentPropertyAccessor} delegating to the generated code.
+	 *
+	 * @param <B> the type of the bean as requested by the caller.
+	 */
+	private class Accessor<B> implements PersistentPropertyAccessor<B> {
+
+		private T bean;
+
+		Accessor(T bean) {
+			this.bean = bean;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setProperty(org.springframework.data.mapping.PersistentProperty, java.lang.Object)
+		 */
+		@Override
+		public void setProperty(PersistentProperty<?> property, @Nullable Object value) {
+			bean = GeneratedEntityAccessor.this.setProperty(bean, property.getName(), value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getProperty(org.springframework.data.mapping.PersistentProperty)
+		 */
+		@Nullable
+		@Override
+		public Object getProperty(PersistentProperty<?> property) {
+			return GeneratedEntityAccessor.this.getProperty(bean, property.getName());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getBean()
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public B getBean() {
+			return (B) bean;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+
+/**
+ * {@link EntityInstantiator} calling the persistence constructor through the {@link GeneratedEntityAccessor} generated at
+ * build time for entities that have one and through the default {@link EntityInstantiators} of Spring Data Commons for
+ * all others.
+ */
+public class RelationalEntityInstantiator implements EntityInstantiator {
+
+	private final EntityInstantiators fallback = new EntityInstantiators();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.EntityInstantiator#createInstance(org.springframework.data.mapping.PersistentEntity, org.springframework.data.mapping.model.ParameterValueProvider)
+	 */
+	@Override
+	public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> T createInstance(E entity,
+			ParameterValueProvider<P> provider) {
+
+		EntityInstantiator instantiator = entity instanceof RelationalPersistentEntityImpl
+				? ((RelationalPersistentEntityImpl<?>) entity).getBuildTimeInstantiator()
+				: null;
+
+		return (instantiator != null ? instantiator : fallback.getInstantiatorFor(entity)).createInstance(entity, provider);
+	}
+}
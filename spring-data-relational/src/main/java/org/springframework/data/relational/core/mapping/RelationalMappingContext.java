@@ -37,6 +37,7 @@ public class RelationalMappingContext
 		extends AbstractMappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> {
 
 	@Getter private final NamingStrategy namingStrategy;
+	private boolean generatedPropertyAccessors = true;
 
 	/**
 	 * Creates a new {@link RelationalMappingContext}.
@@ -59,13 +60,25 @@ public class RelationalMappingContext
 		setSimpleTypeHolder(SimpleTypeHolder.DEFAULT);
 	}
 
+	/**
+	 * Configures whether properties of entities get accessed through classes generated at runtime or through reflection.
+	 * Generated accessors are the default. Entities for which no accessor class can be generated, e.g. because their
+	 * class loader doesn't allow defining classes, use reflection either way. Only affects entities not yet known to
+	 * this context, so this should be configured before the context gets used.
+	 *
+	 * @param generatedPropertyAccessors {@literal false} to always use reflection.
+	 */
+	public void setGeneratedPropertyAccessors(boolean generatedPropertyAccessors) {
+		this.generatedPropertyAccessors = generatedPropertyAccessors;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.context.AbstractMappingContext#createPersistentEntity(org.springframework.data.util.TypeInformation)
 	 */
 	@Override
 	protected <T> RelationalPersistentEntity<T> createPersistentEntity(TypeInformation<T> typeInformation) {
-		return new RelationalPersistentEntityImpl<>(typeInformation, this.namingStrategy);
+		return new RelationalPersistentEntityImpl<>(typeInformation, this, this.generatedPropertyAccessors);
 	}
 
 	/*
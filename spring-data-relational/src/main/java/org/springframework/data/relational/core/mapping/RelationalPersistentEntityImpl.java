@@ -17,10 +17,14 @@ package org.springframework.data.relational.core.mapping;
 
 import java.util.Optional;
 
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.mapping.model.PersistentPropertyAccessorFactory;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 
 /**
  * Meta data a repository might need for implementing persistence operations for instances of type {@code T}
@@ -31,19 +35,31 @@ import org.springframework.data.util.TypeInformation;
 class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, RelationalPersistentProperty>
 		implements RelationalPersistentEntity<T> {
 
+	private final RelationalMappingContext context;
 	private final NamingStrategy namingStrategy;
+	private final boolean generatedPropertyAccessors;
 	private final Lazy<Optional<String>> tableName;
 
+	private @Nullable GeneratedEntityAccessor<?> buildTimeAccessor;
+	private @Nullable EntityInstantiator buildTimeInstantiator;
+
 	/**
 	 * Creates a new {@link RelationalPersistentEntityImpl} for the given {@link TypeInformation}.
 	 *
 	 * @param information must not be {@literal null}.
+	 * @param context the mapping context creating this entity. Must not be {@literal null}.
+	 * @param generatedPropertyAccessors whether to use the {@link GeneratedEntityAccessor} generated at build time or the
+	 *          class generating {@link PersistentPropertyAccessorFactory} offered by the mapping context, or to stay with
+	 *          reflective property access.
 	 */
-	RelationalPersistentEntityImpl(TypeInformation<T> information, NamingStrategy namingStrategy) {
+	RelationalPersistentEntityImpl(TypeInformation<T> information, RelationalMappingContext context,
+			boolean generatedPropertyAccessors) {
 
 		super(information);
 
-		this.namingStrategy = namingStrategy;
+		this.context = context;
+		this.namingStrategy = context.getNamingStrategy();
+		this.generatedPropertyAccessors = generatedPropertyAccessors;
 		this.tableName = Lazy.of(() -> Optional.ofNullable(findAnnotation(Table.class)).map(Table::value));
 	}
 
@@ -65,6 +81,72 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 		return getRequiredIdProperty().getColumnName();
 	}
 
+	/**
+	 * Rejects embedded value objects containing properties that can't be stored in the columns of the owning table, i.e.
+	 * collections, maps and references to other entities. Installs the {@link GeneratedEntityAccessor} generated at build
+	 * time if there is one covering all properties.
+	 *
+	 * @see org.springframework.data.mapping.model.BasicPersistentEntity#verify()
+	 */
+	@Override
+	public void verify() {
+
+		super.verify();
+
+		doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+
+			if (property.isEmbedded()) {
+				verifyEmbedded(property, property.getName());
+			}
+		});
+
+		if (generatedPropertyAccessors) {
+
+			buildTimeAccessor = GeneratedEntityAccessor.lookup(getType()) //
+					.filter(accessor -> accessor.isSupported(this)) //
+					.orElse(null);
+
+			if (buildTimeAccessor != null) {
+
+				super.setPersistentPropertyAccessorFactory(buildTimeAccessor);
+				buildTimeInstantiator = buildTimeAccessor.canInstantiate(this) ? buildTimeAccessor : null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link EntityInstantiator} generated at build time if it calls the persistence constructor of this
+	 * entity.
+	 *
+	 * @return May be {@literal null}.
+	 */
+	@Nullable
+	EntityInstantiator getBuildTimeInstantiator() {
+		return buildTimeInstantiator;
+	}
+
+	private void verifyEmbedded(RelationalPersistentProperty embedded, String path) {
+
+		if (embedded.isCollectionLike() || embedded.isMap()) {
+			throw new MappingException(
+					String.format("Embedded property %s of %s must not be a collection or map.", path, getType().getName()));
+		}
+
+		context.getRequiredPersistentEntity(embedded.getActualType())
+				.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+
+					String propertyPath = path + "." + property.getName();
+
+					if (property.isEmbedded()) {
+						verifyEmbedded(property, propertyPath);
+					} else if (property.isCollectionLike() || property.isMap() || property.isEntity()) {
+						throw new MappingException(String.format(
+								"Embedded property %s of %s may only contain simple properties and embedded value objects, but %s is a collection, a map or an entity.",
+								path, getType().getName(), propertyPath));
+					}
+				});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -74,12 +156,18 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 		return String.format("JdbcPersistentEntityImpl<%s>", getType());
 	}
 
-	/* 
-	 * (non-Javadoc)
+	/**
+	 * Accepts the factory the mapping context installs for entities it can generate accessor classes for, unless a
+	 * {@link GeneratedEntityAccessor} generated at build time is installed already. Entities it can't generate classes for
+	 * don't get a factory offered and keep using reflection.
+	 *
 	 * @see org.springframework.data.mapping.model.BasicPersistentEntity#setPersistentPropertyAccessorFactory(org.springframework.data.mapping.model.PersistentPropertyAccessorFactory)
 	 */
 	@Override
 	public void setPersistentPropertyAccessorFactory(PersistentPropertyAccessorFactory factory) {
 
+		if (generatedPropertyAccessors && buildTimeAccessor == null) {
+			super.setPersistentPropertyAccessorFactory(factory);
+		}
 	}
 }
@@ -68,4 +68,21 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 	 * Returns whether this property is an ordered property.
 	 */
 	boolean isOrdered();
+
+	/**
+	 * Returns whether this property is an embedded value object, i.e. its properties get stored in the table of the
+	 * owning entity.
+	 *
+	 * @see Embedded
+	 */
+	boolean isEmbedded();
+
+	/**
+	 * Returns the prefix to be used for the columns of an embedded value object.
+	 *
+	 * @return the prefix, possibly empty, if this property is embedded. {@code null} otherwise.
+	 * @see Embedded#prefix()
+	 */
+	@Nullable
+	String getEmbeddedPrefix();
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.Optional;
+
+import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.query.Criteria;
+
+/**
+ * Gets published once after all aggregates matching a {@link Criteria} got updated or deleted, instead of events for
+ * each single aggregate. The aggregates don't get loaded, so the event has neither an identifier nor an entity. The
+ * {@link AggregateChange} has the kind of the change and the type of the aggregate root.
+ */
+public class AfterBulkChangeEvent extends SimpleRelationalEvent {
+
+	private static final long serialVersionUID = 5261374981937461573L;
+
+	private final Criteria criteria;
+	private final long affectedAggregates;
+
+	/**
+	 * @param change the {@link AggregateChange} without an entity and without actions.
+	 * @param criteria the criteria selecting the changed aggregates.
+	 * @param affectedAggregates the number of aggregate roots that got updated or deleted.
+	 */
+	public AfterBulkChangeEvent(AggregateChange<?> change, Criteria criteria, long affectedAggregates) {
+
+		super(Unset.UNSET, Optional.empty(), change);
+
+		this.criteria = criteria;
+		this.affectedAggregates = affectedAggregates;
+	}
+
+	public Criteria getCriteria() {
+		return criteria;
+	}
+
+	public long getAffectedAggregates() {
+		return affectedAggregates;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.mapping.event.Identifier.Specified;
+
+/**
+ * Gets published instead of {@link BeforeSaveEvent} and {@link AfterSaveEvent} when saving an instance got skipped,
+ * because it did not change since it was loaded.
+ */
+public class SaveSkippedEvent extends RelationalEventWithIdAndEntity {
+
+	private static final long serialVersionUID = -3219347268346342312L;
+
+	/**
+	 * @param id identifier of the unchanged entity.
+	 * @param instance the unchanged entity.
+	 * @param change the {@link AggregateChange} without any actions, since nothing got written to the database.
+	 */
+	public SaveSkippedEvent(Specified id, Object instance, AggregateChange<?> change) {
+		super(id, instance, change);
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Conditions on the simple properties of an aggregate root, combined with {@code AND}. A {@link Criteria} gets created
+ * by {@link #where(String)} and extended by {@link #and(String)}:
+ *
+ * <pre class="code">
+ * Criteria.where("status").is(Status.OPEN).and("created").lessThan(cutoff)
+ * </pre>
+ *
+ * Instances are immutable.
+ */
+@EqualsAndHashCode
+public final class Criteria {
+
+	/**
+	 * The escape character of the patterns of {@link CriteriaStep#like(String)}. It makes the wildcard following it match
+	 * literally. It isn't the backslash, which some databases treat as escape character of string literals.
+	 */
+	public static final char LIKE_ESCAPE_CHARACTER = '!';
+
+	private final List<Condition> conditions;
+
+	private Criteria(List<Condition> conditions) {
+		this.conditions = Collections.unmodifiableList(conditions);
+	}
+
+	/**
+	 * Escapes the wildcards and the {@link #LIKE_ESCAPE_CHARACTER} in the given value, so it matches literally as part of
+	 * a pattern of {@link CriteriaStep#like(String)}.
+	 *
+	 * @param value must not be {@code null}.
+	 * @return the escaped value. Guaranteed to be not {@code null}.
+	 */
+	public static String escapeLike(String value) {
+
+		Assert.notNull(value, "Value must not be null!");
+
+		StringBuilder escaped = new StringBuilder(value.length());
+
+		for (char character : value.toCharArray()) {
+
+			if (character == '%' || character == '_' || character == LIKE_ESCAPE_CHARACTER) {
+				escaped.append(LIKE_ESCAPE_CHARACTER);
+			}
+
+			escaped.append(character);
+		}
+
+		return escaped.toString();
+	}
+
+	/**
+	 * Starts a {@link Criteria} with a condition on the given property.
+	 *
+	 * @param property the name of a simple property of the aggregate root. Must not be {@code null}.
+	 * @return the step defining the condition. Guaranteed to be not {@code null}.
+	 */
+	public static CriteriaStep where(String property) {
+		return new CriteriaStep(Collections.emptyList(), property);
+	}
+
+	/**
+	 * Adds a condition on the given property, which has to hold in addition to the conditions of this {@link Criteria}.
+	 *
+	 * @param property the name of a simple property of the aggregate root. Must not be {@code null}.
+	 * @return the step defining the condition. Guaranteed to be not {@code null}.
+	 */
+	public CriteriaStep and(String property) {
+		return new CriteriaStep(conditions, property);
+	}
+
+	/**
+	 * @return the conditions in the order they got added. Guaranteed to be not {@code null} nor empty.
+	 */
+	public List<Condition> getConditions() {
+		return conditions;
+	}
+
+	/**
+	 * Defines the condition on a single property.
+	 */
+	public static final class CriteriaStep {
+
+		private final List<Condition> previous;
+		private final String property;
+
+		private CriteriaStep(List<Condition> previous, String property) {
+
+			Assert.hasText(property, "Property must not be empty!");
+
+			this.previous = previous;
+			this.property = property;
+		}
+
+		public Criteria is(Object value) {
+			return with(Operator.EQ, requireValue(value));
+		}
+
+		public Criteria not(Object value) {
+			return with(Operator.NEQ, requireValue(value));
+		}
+
+		public Criteria lessThan(Object value) {
+			return with(Operator.LT, requireValue(value));
+		}
+
+		public Criteria lessThanOrEquals(Object value) {
+			return with(Operator.LTE, requireValue(value));
+		}
+
+		public Criteria greaterThan(Object value) {
+			return with(Operator.GT, requireValue(value));
+		}
+
+		public Criteria greaterThanOrEquals(Object value) {
+			return with(Operator.GTE, requireValue(value));
+		}
+
+		public Criteria in(Object... values) {
+			return in(Arrays.asList(values));
+		}
+
+		public Criteria in(Collection<?> values) {
+
+			Assert.notEmpty(values, "Values must not be empty!");
+
+			return with(Operator.IN, new ArrayList<>(values));
+		}
+
+		/**
+		 * @param pattern a SQL {@code LIKE} pattern, using {@code %} and {@code _} as wildcards and
+		 *          {@link Criteria#LIKE_ESCAPE_CHARACTER} to match them literally, see {@link Criteria#escapeLike(String)}.
+		 *          Must not be {@code null}.
+		 */
+		public Criteria like(String pattern) {
+			return with(Operator.LIKE, requireValue(pattern));
+		}
+
+		public Criteria isNull() {
+			return with(Operator.IS_NULL, null);
+		}
+
+		public Criteria isNotNull() {
+			return with(Operator.IS_NOT_NULL, null);
+		}
+
+		private Criteria with(Operator operator, @Nullable Object value) {
+
+			List<Condition> conditions = new ArrayList<>(previous);
+			conditions.add(new Condition(property, operator, value));
+
+			return new Criteria(conditions);
+		}
+
+		private static Object requireValue(Object value) {
+
+			Assert.notNull(value, "Value must not be null! Use isNull() or isNotNull() instead.");
+
+			return value;
+		}
+	}
+
+	/**
+	 * A single condition on a property.
+	 */
+	@Value
+	public static class Condition {
+
+		/** The name of the property. */
+		String property;
+
+		Operator operator;
+
+		/**
+		 * The value to compare with. A {@link List} for {@link Operator#IN} and {@code null} for {@link Operator#IS_NULL}
+		 * and {@link Operator#IS_NOT_NULL}.
+		 */
+		@Nullable Object value;
+	}
+
+	public enum Operator {
+		EQ, NEQ, LT, LTE, GT, GTE, IN, LIKE, IS_NULL, IS_NOT_NULL
+	}
+}
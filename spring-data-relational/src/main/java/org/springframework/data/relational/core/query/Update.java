@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Assignments of new values to simple properties of aggregate roots, e.g. {@code Update.set("status", Status.CLOSED)}.
+ * Instances are immutable.
+ */
+@EqualsAndHashCode
+public final class Update {
+
+	private final Map<String, Object> assignments;
+
+	private Update(Map<String, Object> assignments) {
+		this.assignments = Collections.unmodifiableMap(assignments);
+	}
+
+	/**
+	 * Creates an {@link Update} assigning a value to a single property.
+	 *
+	 * @param property the name of a simple property of the aggregate root. Must not be {@code null}.
+	 * @param value the new value. May be {@code null}.
+	 * @return the update. Guaranteed to be not {@code null}.
+	 */
+	public static Update set(String property, @Nullable Object value) {
+		return new Update(Collections.emptyMap()).and(property, value);
+	}
+
+	/**
+	 * Creates an {@link Update} assigning a value to a further property.
+	 *
+	 * @param property the name of a simple property of the aggregate root. Must not be {@code null}.
+	 * @param value the new value. May be {@code null}.
+	 * @return the update. Guaranteed to be not {@code null}.
+	 */
+	public Update and(String property, @Nullable Object value) {
+
+		Assert.hasText(property, "Property must not be empty!");
+
+		Map<String, Object> newAssignments = new LinkedHashMap<>(assignments);
+		newAssignments.put(property, value);
+
+		return new Update(newAssignments);
+	}
+
+	/**
+	 * @return the new values by property name in the order they got added. Guaranteed to be not {@code null} nor empty.
+	 */
+	public Map<String, Object> getAssignments() {
+		return assignments;
+	}
+}
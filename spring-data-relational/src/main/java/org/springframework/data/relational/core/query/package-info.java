@@ -0,0 +1,7 @@
+/**
+ * Query and update definitions that get applied to the rows of aggregate roots without loading the aggregates.
+ */
+@NonNullApi
+package org.springframework.data.relational.core.query;
+
+import org.springframework.lang.NonNullApi;
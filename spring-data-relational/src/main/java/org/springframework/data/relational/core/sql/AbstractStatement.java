@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Base class of {@link Statement}s, memoizing the rendering per {@link SqlRenderer}.
+ */
+abstract class AbstractStatement implements Statement {
+
+	private final Map<SqlRenderer, RenderedSql> renderings = new ConcurrentHashMap<>(2);
+
+	RenderedSql getRendering(SqlRenderer renderer, Function<SqlRenderer, RenderedSql> render) {
+
+		RenderedSql rendering = renderings.get(renderer);
+
+		if (rendering == null) {
+
+			rendering = render.apply(renderer);
+			renderings.put(renderer, rendering);
+		}
+
+		return rendering;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.util.Assert;
+
+/**
+ * A placeholder for a value bound to the statement. It gets rendered either as a named parameter or as a positional
+ * parameter, depending on the {@link SqlRenderer}.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BindMarker implements Expression {
+
+	private final String name;
+
+	/**
+	 * @param name the name of the parameter holding the value. Must not be {@code null} or empty.
+	 * @return the bind marker. Guaranteed to be not {@code null}.
+	 */
+	public static BindMarker named(String name) {
+
+		Assert.hasText(name, "Name must not be empty!");
+
+		return new BindMarker(name);
+	}
+
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A column, optionally qualified with its {@link Table} and with an alias for the select list. Conditions on the
+ * column get created by its {@code is...}, {@link #like(Expression)} and {@link #in(Expression)} methods.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Column implements Expression {
+
+	private final String name;
+	private final @Nullable Table table;
+	private final @Nullable String alias;
+
+	/**
+	 * @param name the name of the column. Must not be {@code null} or empty.
+	 * @return a column that doesn't get qualified with a table.
+	 */
+	public static Column create(String name) {
+
+		Assert.hasText(name, "Name must not be empty!");
+
+		return new Column(name, null, null);
+	}
+
+	/**
+	 * @param name the name of the column. Must not be {@code null} or empty.
+	 * @param table the table to qualify the column with. Must not be {@code null}.
+	 * @return a column qualified with the alias or name of the table.
+	 */
+	public static Column create(String name, Table table) {
+
+		Assert.hasText(name, "Name must not be empty!");
+		Assert.notNull(table, "Table must not be null!");
+
+		return new Column(name, table, null);
+	}
+
+	/**
+	 * @param alias the alias of the column in the select list. Must not be {@code null} or empty.
+	 * @return the column with the alias. Guaranteed to be not {@code null}.
+	 */
+	public Column as(String alias) {
+
+		Assert.hasText(alias, "Alias must not be empty!");
+
+		return new Column(name, table, alias);
+	}
+
+	public Condition isEqualTo(Expression expression) {
+		return new Comparison(this, "=", expression);
+	}
+
+	public Condition isNotEqualTo(Expression expression) {
+		return new Comparison(this, "<>", expression);
+	}
+
+	public Condition isLess(Expression expression) {
+		return new Comparison(this, "<", expression);
+	}
+
+	public Condition isLessOrEqualTo(Expression expression) {
+		return new Comparison(this, "<=", expression);
+	}
+
+	public Condition isGreater(Expression expression) {
+		return new Comparison(this, ">", expression);
+	}
+
+	public Condition isGreaterOrEqualTo(Expression expression) {
+		return new Comparison(this, ">=", expression);
+	}
+
+	public Condition like(Expression expression) {
+		return new Comparison(this, "LIKE", expression);
+	}
+
+	/**
+	 * @param pattern the pattern to match. Must not be {@code null}.
+	 * @param escapeCharacter the character making the wildcard following it in the {@code pattern} match literally.
+	 * @return a {@code LIKE} condition with an {@code ESCAPE} clause.
+	 */
+	public Condition like(Expression pattern, char escapeCharacter) {
+
+		Assert.isTrue(escapeCharacter != '\'' && escapeCharacter != '\\',
+				"The escape character must not need escaping in a SQL string literal!");
+
+		return new Like(this, pattern, escapeCharacter);
+	}
+
+	/**
+	 * @param expression a {@link BindMarker} for a list of values or a {@link Select} of a single column.
+	 * @return a condition holding if the value of the column is one of the values of the {@code expression}.
+	 */
+	public Condition in(Expression expression) {
+		return new In(this, expression);
+	}
+
+	public Expression plus(Expression expression) {
+		return new Addition(this, expression);
+	}
+
+	public Condition isNull() {
+		return new IsNull(this, false);
+	}
+
+	public Condition isNotNull() {
+		return new IsNull(this, true);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Nullable
+	public Table getTable() {
+		return table;
+	}
+
+	@Nullable
+	public String getAlias() {
+		return alias;
+	}
+}
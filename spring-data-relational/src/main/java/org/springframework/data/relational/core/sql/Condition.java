@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * A boolean condition, as used in {@code WHERE} clauses and join conditions. Conditions get created starting from a
+ * {@link Column}, e.g. {@code column.isEqualTo(BindMarker.named("id"))}.
+ */
+public interface Condition {
+
+	/**
+	 * @param other the condition that must hold as well. Must not be {@code null}.
+	 * @return a condition holding if both this and the {@code other} condition hold.
+	 */
+	default Condition and(Condition other) {
+		return new AndCondition(this, other);
+	}
+
+	/**
+	 * Creates a condition that gets rendered as is, for database specific syntax not covered by the syntax tree.
+	 *
+	 * @param sql the SQL of the condition. Bind markers it contains don't get tracked, so statements using it can only
+	 *          get rendered with named parameters.
+	 * @return the condition. Guaranteed to be not {@code null}.
+	 */
+	static Condition just(String sql) {
+		return new Verbatim(sql);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code DELETE} statement. Instances are immutable, every method adding to the statement returns a new instance.
+ */
+public final class Delete extends AbstractStatement {
+
+	final Table from;
+	final @Nullable Condition where;
+
+	private Delete(Table from, @Nullable Condition where) {
+
+		this.from = from;
+		this.where = where;
+	}
+
+	/**
+	 * @param table the table to delete from. Must not be {@code null}.
+	 * @return a delete of all rows of the table. Guaranteed to be not {@code null}.
+	 */
+	public static Delete from(Table table) {
+
+		Assert.notNull(table, "Table must not be null!");
+
+		return new Delete(table, null);
+	}
+
+	/**
+	 * @param condition the condition rows must match. Combined with an existing condition using {@code AND}. May be
+	 *          {@code null} to leave the delete unchanged.
+	 * @return the delete with the condition.
+	 */
+	public Delete where(@Nullable Condition condition) {
+
+		if (condition == null) {
+			return this;
+		}
+
+		return new Delete(from, where == null ? condition : where.and(condition));
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * An expression, like a {@link Column} or a {@link BindMarker}.
+ */
+public interface Expression {
+
+	/**
+	 * Creates an expression that gets rendered as is, for SQL not covered by the syntax tree, e.g. function calls.
+	 *
+	 * @param sql the SQL of the expression. Must not contain bind markers, since they wouldn't get tracked.
+	 * @return the expression. Guaranteed to be not {@code null}.
+	 */
+	static Expression just(String sql) {
+		return new Verbatim(sql);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * An {@code INSERT} statement of a single row. Instances are immutable, every method adding to the statement returns a
+ * new instance.
+ */
+public final class Insert extends AbstractStatement {
+
+	final Table into;
+	final List<Column> columns;
+	final List<Expression> values;
+
+	private Insert(Table into, List<Column> columns, List<Expression> values) {
+
+		this.into = into;
+		this.columns = columns;
+		this.values = values;
+	}
+
+	/**
+	 * @param table the table to insert into. Must not be {@code null}.
+	 * @return an insert without any columns yet. Guaranteed to be not {@code null}.
+	 */
+	public static Insert into(Table table) {
+
+		Assert.notNull(table, "Table must not be null!");
+
+		return new Insert(table, Collections.emptyList(), Collections.emptyList());
+	}
+
+	/**
+	 * @param column the column to insert a value into. Must not be {@code null}.
+	 * @param value the value to insert, typically a {@link BindMarker}. Must not be {@code null}.
+	 * @return the insert with the additional value.
+	 */
+	public Insert value(Column column, Expression value) {
+
+		List<Column> newColumns = new ArrayList<>(columns);
+		newColumns.add(column);
+		List<Expression> newValues = new ArrayList<>(values);
+		newValues.add(value);
+
+		return new Insert(into, Collections.unmodifiableList(newColumns), Collections.unmodifiableList(newValues));
+	}
+}
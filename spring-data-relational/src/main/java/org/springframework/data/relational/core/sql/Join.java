@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A join of a {@link Table} in a {@link Select}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Join {
+
+	final Type type;
+	final Table table;
+	final Condition on;
+
+	public static Join inner(Table table, Condition on) {
+		return new Join(Type.INNER, table, on);
+	}
+
+	public static Join leftOuter(Table table, Condition on) {
+		return new Join(Type.LEFT_OUTER, table, on);
+	}
+
+	public static Join rightOuter(Table table, Condition on) {
+		return new Join(Type.RIGHT_OUTER, table, on);
+	}
+
+	enum Type {
+
+		INNER("JOIN"), LEFT_OUTER("LEFT OUTER JOIN"), RIGHT_OUTER("RIGHT OUTER JOIN");
+
+		final String sql;
+
+		Type(String sql) {
+			this.sql = sql;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * A column to order the rows of a {@link Select} by.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OrderByField {
+
+	final Column column;
+	final @Nullable Sort.Direction direction;
+
+	/**
+	 * @param column the column to order by. Must not be {@code null}.
+	 * @param direction the direction. May be {@code null} to use the default of the database.
+	 * @return the field. Guaranteed to be not {@code null}.
+	 */
+	public static OrderByField of(Column column, @Nullable Sort.Direction direction) {
+		return new OrderByField(column, direction);
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The SQL of a rendered {@link Statement} together with the names of the parameters in the order of their bind
+ * markers. For positional parameters the value of the n-th parameter name gets bound to the n-th {@code ?}.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class RenderedSql {
+
+	private final String sql;
+	private final List<String> parameterNames;
+
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return the names of the bind markers in the order they appear in the SQL. A name appears once per bind marker.
+	 */
+	public List<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	@Override
+	public String toString() {
+		return sql;
+	}
+}
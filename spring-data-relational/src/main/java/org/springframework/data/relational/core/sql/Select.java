@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code SELECT} statement. Since it is an {@link Expression} as well, it can be used as sub select, e.g. in
+ * {@link Column#in(Expression)}. Instances are immutable, every method adding to the statement returns a new instance.
+ */
+public final class Select extends AbstractStatement implements Expression {
+
+	final Table from;
+	final List<Expression> columns;
+	final List<Join> joins;
+	final @Nullable Condition where;
+	final List<OrderByField> orderBy;
+
+	private Select(Table from, List<Expression> columns, List<Join> joins, @Nullable Condition where,
+			List<OrderByField> orderBy) {
+
+		this.from = from;
+		this.columns = columns;
+		this.joins = joins;
+		this.where = where;
+		this.orderBy = orderBy;
+	}
+
+	/**
+	 * @param table the table to select from. Must not be {@code null}.
+	 * @return a select without any columns yet. Guaranteed to be not {@code null}.
+	 */
+	public static Select from(Table table) {
+
+		Assert.notNull(table, "Table must not be null!");
+
+		return new Select(table, Collections.emptyList(), Collections.emptyList(), null, Collections.emptyList());
+	}
+
+	/**
+	 * @param column a column or other expression to add to the select list. Must not be {@code null}.
+	 * @return the select with the additional column.
+	 */
+	public Select column(Expression column) {
+		return columns(Collections.singletonList(column));
+	}
+
+	/**
+	 * @param columns columns or other expressions to add to the select list. Must not be {@code null}.
+	 * @return the select with the additional columns.
+	 */
+	public Select columns(List<? extends Expression> columns) {
+		return new Select(from, append(this.columns, columns), joins, where, orderBy);
+	}
+
+	/**
+	 * @param join the join to add. Must not be {@code null}.
+	 * @return the select with the additional join.
+	 */
+	public Select join(Join join) {
+		return new Select(from, columns, append(joins, Collections.singletonList(join)), where, orderBy);
+	}
+
+	/**
+	 * @param condition the condition rows must match. Combined with an existing condition using {@code AND}. May be
+	 *          {@code null} to leave the select unchanged.
+	 * @return the select with the condition.
+	 */
+	public Select where(@Nullable Condition condition) {
+
+		if (condition == null) {
+			return this;
+		}
+
+		return new Select(from, columns, joins, where == null ? condition : where.and(condition), orderBy);
+	}
+
+	/**
+	 * @param fields the fields to order by, after the ones already present. Must not be {@code null}.
+	 * @return the select with the additional order.
+	 */
+	public Select orderBy(List<OrderByField> fields) {
+		return new Select(from, columns, joins, where, append(orderBy, fields));
+	}
+
+	/**
+	 * @return whether the select has an {@code ORDER BY} clause.
+	 */
+	public boolean isOrdered() {
+		return !orderBy.isEmpty();
+	}
+
+	static <T> List<T> append(List<T> list, List<? extends T> elements) {
+
+		List<T> result = new ArrayList<>(list.size() + elements.size());
+		result.addAll(list);
+		result.addAll(elements);
+
+		return Collections.unmodifiableList(result);
+	}
+}
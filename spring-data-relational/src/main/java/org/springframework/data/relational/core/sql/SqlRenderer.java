@@ -0,0 +1,344 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Renders {@link Statement}s into SQL. The rendering of a statement is memoized per renderer, so statements held on to
+ * by their users get rendered only once. Bind markers get rendered either as named parameters like {@code :name} or as
+ * positional parameters {@code ?}. In both cases the names of the parameters are available from
+ * {@link RenderedSql#getParameterNames()} in the order of their occurrence. Verbatim fragments created with
+ * {@link Expression#just(String)} or {@link Condition#just(String)} are rendered as they are. Subclasses may customize
+ * the rendering of identifiers.
+ */
+public class SqlRenderer {
+
+	private static final SqlRenderer NAMED = new SqlRenderer(false);
+	private static final SqlRenderer POSITIONAL = new SqlRenderer(true);
+
+	private final boolean positional;
+
+	/**
+	 * @param positional whether bind markers get rendered as positional parameters {@code ?}.
+	 */
+	protected SqlRenderer(boolean positional) {
+		this.positional = positional;
+	}
+
+	/**
+	 * @return a renderer rendering bind markers as named parameters like {@code :name}. Guaranteed to be not
+	 *         {@code null}.
+	 */
+	public static SqlRenderer named() {
+		return NAMED;
+	}
+
+	/**
+	 * @return a renderer rendering bind markers as positional parameters {@code ?}. Guaranteed to be not {@code null}.
+	 */
+	public static SqlRenderer positional() {
+		return POSITIONAL;
+	}
+
+	/**
+	 * @param statement the statement to render. Must not be {@code null}.
+	 * @return the rendered statement. Guaranteed to be not {@code null}.
+	 */
+	public RenderedSql render(Statement statement) {
+
+		Assert.isInstanceOf(AbstractStatement.class, statement, "Unsupported statement");
+
+		return ((AbstractStatement) statement).getRendering(this, renderer -> {
+
+			Rendering rendering = new Rendering();
+			renderStatement(statement, rendering);
+			return rendering.toRenderedSql();
+		});
+	}
+
+	/**
+	 * Renders a condition on its own, e.g. for statements a {@code Dialect} assembles from fragments.
+	 *
+	 * @param condition the condition to render. Must not be {@code null}.
+	 * @return the rendered condition. Guaranteed to be not {@code null}.
+	 */
+	public RenderedSql render(Condition condition) {
+
+		Rendering rendering = new Rendering();
+		renderCondition(condition, rendering);
+		return rendering.toRenderedSql();
+	}
+
+	/**
+	 * Renders the fields of an {@code ORDER BY} clause, without the keywords.
+	 *
+	 * @param fields the fields to render. Must not be {@code null}.
+	 * @return the rendered fields, separated by comma. Guaranteed to be not {@code null}.
+	 */
+	public String render(List<OrderByField> fields) {
+
+		Rendering rendering = new Rendering();
+		renderOrderBy(fields, rendering);
+		return rendering.sql.toString();
+	}
+
+	/**
+	 * Renders the name of a table, column or alias. Override to quote identifiers.
+	 *
+	 * @param identifier the identifier as given. Must not be {@code null}.
+	 * @return the identifier as it should appear in the SQL. Guaranteed to be not {@code null}.
+	 */
+	protected String quote(String identifier) {
+		return identifier;
+	}
+
+	private void renderStatement(Statement statement, Rendering rendering) {
+
+		if (statement instanceof Select) {
+			renderSelect((Select) statement, rendering);
+		} else if (statement instanceof Insert) {
+			renderInsert((Insert) statement, rendering);
+		} else if (statement instanceof Update) {
+			renderUpdate((Update) statement, rendering);
+		} else if (statement instanceof Delete) {
+			renderDelete((Delete) statement, rendering);
+		} else {
+			throw new IllegalArgumentException("Unsupported statement " + statement);
+		}
+	}
+
+	private void renderSelect(Select select, Rendering rendering) {
+
+		rendering.append("SELECT ");
+
+		for (int i = 0; i < select.columns.size(); i++) {
+
+			if (i > 0) {
+				rendering.append(", ");
+			}
+
+			Expression column = select.columns.get(i);
+			renderExpression(column, rendering);
+
+			if (column instanceof Column && ((Column) column).getAlias() != null) {
+				rendering.append(" AS ").append(quote(((Column) column).getAlias()));
+			}
+		}
+
+		rendering.append(" FROM ");
+		renderTable(select.from, rendering);
+
+		for (Join join : select.joins) {
+
+			rendering.append(" ").append(join.type.sql).append(" ");
+			renderTable(join.table, rendering);
+			rendering.append(" ON ");
+			renderCondition(join.on, rendering);
+		}
+
+		renderWhere(select.where, rendering);
+
+		if (select.isOrdered()) {
+
+			rendering.append(" ORDER BY ");
+			renderOrderBy(select.orderBy, rendering);
+		}
+	}
+
+	private void renderInsert(Insert insert, Rendering rendering) {
+
+		rendering.append("INSERT INTO ").append(quote(insert.into.getName())).append(" (");
+
+		for (int i = 0; i < insert.columns.size(); i++) {
+			rendering.append(i > 0 ? ", " : "").append(quote(insert.columns.get(i).getName()));
+		}
+
+		rendering.append(") VALUES (");
+
+		for (int i = 0; i < insert.values.size(); i++) {
+
+			rendering.append(i > 0 ? ", " : "");
+			renderExpression(insert.values.get(i), rendering);
+		}
+
+		rendering.append(")");
+	}
+
+	private void renderUpdate(Update update, Rendering rendering) {
+
+		rendering.append("UPDATE ").append(quote(update.table.getName())).append(" SET ");
+
+		for (int i = 0; i < update.assignments.size(); i++) {
+
+			Update.Assignment assignment = update.assignments.get(i);
+
+			rendering.append(i > 0 ? ", " : "").append(quote(assignment.column.getName())).append(" = ");
+			renderExpression(assignment.value, rendering);
+		}
+
+		renderWhere(update.where, rendering);
+	}
+
+	private void renderDelete(Delete delete, Rendering rendering) {
+
+		rendering.append("DELETE FROM ").append(quote(delete.from.getName()));
+		renderWhere(delete.where, rendering);
+	}
+
+	private void renderTable(Table table, Rendering rendering) {
+
+		rendering.append(quote(table.getName()));
+
+		if (table.getAlias() != null) {
+			rendering.append(" AS ").append(quote(table.getAlias()));
+		}
+	}
+
+	private void renderWhere(@Nullable Condition where, Rendering rendering) {
+
+		if (where != null) {
+
+			rendering.append(" WHERE ");
+			renderCondition(where, rendering);
+		}
+	}
+
+	private void renderOrderBy(List<OrderByField> fields, Rendering rendering) {
+
+		for (int i = 0; i < fields.size(); i++) {
+
+			OrderByField field = fields.get(i);
+
+			rendering.append(i > 0 ? ", " : "");
+			renderExpression(field.column, rendering);
+
+			if (field.direction != null) {
+				rendering.append(" ").append(field.direction.name());
+			}
+		}
+	}
+
+	private void renderCondition(Condition condition, Rendering rendering) {
+
+		if (condition instanceof Comparison) {
+
+			Comparison comparison = (Comparison) condition;
+
+			renderExpression(comparison.left, rendering);
+			rendering.append(" ").append(comparison.comparator).append(" ");
+			renderExpression(comparison.right, rendering);
+
+		} else if (condition instanceof Like) {
+
+			Like like = (Like) condition;
+
+			renderExpression(like.left, rendering);
+			rendering.append(" LIKE ");
+			renderExpression(like.pattern, rendering);
+			rendering.append(" ESCAPE '").append(String.valueOf(like.escapeCharacter)).append("'");
+
+		} else if (condition instanceof In) {
+
+			In in = (In) condition;
+
+			renderExpression(in.left, rendering);
+			rendering.append(" IN (");
+			renderExpression(in.values, rendering);
+			rendering.append(")");
+
+		} else if (condition instanceof IsNull) {
+
+			IsNull isNull = (IsNull) condition;
+
+			renderExpression(isNull.expression, rendering);
+			rendering.append(isNull.negated ? " IS NOT NULL" : " IS NULL");
+
+		} else if (condition instanceof AndCondition) {
+
+			AndCondition and = (AndCondition) condition;
+
+			renderCondition(and.left, rendering);
+			rendering.append(" AND ");
+			renderCondition(and.right, rendering);
+
+		} else if (condition instanceof Verbatim) {
+			rendering.append(((Verbatim) condition).sql);
+		} else {
+			throw new IllegalArgumentException("Unsupported condition " + condition);
+		}
+	}
+
+	private void renderExpression(Expression expression, Rendering rendering) {
+
+		if (expression instanceof Column) {
+
+			Column column = (Column) expression;
+
+			if (column.getTable() != null) {
+				rendering.append(quote(column.getTable().getReferenceName())).append(".");
+			}
+
+			rendering.append(quote(column.getName()));
+
+		} else if (expression instanceof BindMarker) {
+
+			String name = ((BindMarker) expression).getName();
+
+			rendering.parameterNames.add(name);
+			rendering.append(positional ? "?" : ":" + name);
+
+		} else if (expression instanceof Addition) {
+
+			Addition addition = (Addition) expression;
+
+			renderExpression(addition.left, rendering);
+			rendering.append(" + ");
+			renderExpression(addition.right, rendering);
+
+		} else if (expression instanceof Select) {
+			renderSelect((Select) expression, rendering);
+		} else if (expression instanceof Verbatim) {
+			rendering.append(((Verbatim) expression).sql);
+		} else {
+			throw new IllegalArgumentException("Unsupported expression " + expression);
+		}
+	}
+
+	/**
+	 * The SQL and parameter names rendered so far.
+	 */
+	private static class Rendering {
+
+		private final StringBuilder sql = new StringBuilder();
+		private final List<String> parameterNames = new ArrayList<>();
+
+		Rendering append(String fragment) {
+
+			sql.append(fragment);
+			return this;
+		}
+
+		RenderedSql toRenderedSql() {
+			return new RenderedSql(sql.toString(), Collections.unmodifiableList(parameterNames));
+		}
+	}
+}
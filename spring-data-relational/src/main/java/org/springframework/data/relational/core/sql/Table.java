@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A table, optionally with an alias, to select from or join.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Table {
+
+	private final String name;
+	private final @Nullable String alias;
+
+	/**
+	 * @param name the name of the table. Must not be {@code null} or empty.
+	 * @return the table. Guaranteed to be not {@code null}.
+	 */
+	public static Table create(String name) {
+
+		Assert.hasText(name, "Name must not be empty!");
+
+		return new Table(name, null);
+	}
+
+	/**
+	 * @param alias the alias to reference the table by. Must not be {@code null} or empty.
+	 * @return the table with the alias. Guaranteed to be not {@code null}.
+	 */
+	public Table as(String alias) {
+
+		Assert.hasText(alias, "Alias must not be empty!");
+
+		return new Table(name, alias);
+	}
+
+	/**
+	 * @param name the name of the column. Must not be {@code null} or empty.
+	 * @return a column of this table, qualified with the alias or name of this table.
+	 */
+	public Column column(String name) {
+		return Column.create(name, this);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Nullable
+	public String getAlias() {
+		return alias;
+	}
+
+	/**
+	 * @return the alias if there is one, the name otherwise.
+	 */
+	public String getReferenceName() {
+		return alias == null ? name : alias;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@code UPDATE} statement. Instances are immutable, every method adding to the statement returns a new instance.
+ */
+public final class Update extends AbstractStatement {
+
+	final Table table;
+	final List<Assignment> assignments;
+	final @Nullable Condition where;
+
+	private Update(Table table, List<Assignment> assignments, @Nullable Condition where) {
+
+		this.table = table;
+		this.assignments = assignments;
+		this.where = where;
+	}
+
+	/**
+	 * @param table the table to update. Must not be {@code null}.
+	 * @return an update without any assignments yet. Guaranteed to be not {@code null}.
+	 */
+	public static Update table(Table table) {
+
+		Assert.notNull(table, "Table must not be null!");
+
+		return new Update(table, Collections.emptyList(), null);
+	}
+
+	/**
+	 * @param column the column to assign a value to. Must not be {@code null}.
+	 * @param value the new value, typically a {@link BindMarker}. Must not be {@code null}.
+	 * @return the update with the additional assignment.
+	 */
+	public Update set(Column column, Expression value) {
+		return new Update(table, Select.append(assignments, Collections.singletonList(new Assignment(column, value))),
+				where);
+	}
+
+	/**
+	 * @param condition the condition rows must match. Combined with an existing condition using {@code AND}. May be
+	 *          {@code null} to leave the update unchanged.
+	 * @return the update with the condition.
+	 */
+	public Update where(@Nullable Condition condition) {
+
+		if (condition == null) {
+			return this;
+		}
+
+		return new Update(table, assignments, where == null ? condition : where.and(condition));
+	}
+
+	static class Assignment {
+
+		final Column column;
+		final Expression value;
+
+		Assignment(Column column, Expression value) {
+
+			this.column = column;
+			this.value = value;
+		}
+	}
+}
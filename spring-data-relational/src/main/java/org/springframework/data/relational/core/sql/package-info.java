@@ -0,0 +1,7 @@
+/**
+ * An immutable abstract syntax tree of SQL statements and its rendering.
+ */
+@NonNullApi
+package org.springframework.data.relational.core.sql;
+
+import org.springframework.lang.NonNullApi;
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.repository.query;
 
+import java.util.Map;
+import java.util.function.Function;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.convert.EntityInstantiators;
@@ -31,7 +34,8 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.util.Assert;
 
 /**
- * {@link Converter} to instantiate DTOs from fully equipped domain objects.
+ * {@link Converter} to instantiate DTOs from fully equipped domain objects or from the property values loaded for a
+ * projection.
  *
  * @author Mark Paluch
  */
@@ -72,8 +76,7 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 			return source;
 		}
 
-		final PersistentEntity<?, ?> sourceEntity = context.getRequiredPersistentEntity(source.getClass());
-		final PersistentPropertyAccessor sourceAccessor = sourceEntity.getPropertyAccessor(source);
+		final Function<String, Object> sourceValues = getSourceValues(source);
 		final PersistentEntity<?, ?> targetEntity = context.getRequiredPersistentEntity(targetType);
 		final PreferredConstructor<?, ? extends PersistentProperty<?>> constructor = targetEntity
 				.getPersistenceConstructor();
@@ -83,7 +86,7 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 
 			@Override
 			public Object getParameterValue(Parameter parameter) {
-				return sourceAccessor.getProperty(sourceEntity.getPersistentProperty(parameter.getName()));
+				return sourceValues.apply(parameter.getName());
 			}
 		});
 
@@ -95,10 +98,26 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 				return;
 			}
 
-			dtoAccessor.setProperty(property,
-					sourceAccessor.getProperty(sourceEntity.getPersistentProperty(property.getName())));
+			dtoAccessor.setProperty(property, sourceValues.apply(property.getName()));
 		});
 
 		return dto;
 	}
+
+	/**
+	 * The source is either a domain object or a {@link Map} of property values by property name, as loaded for a
+	 * projection.
+	 */
+	@SuppressWarnings("unchecked")
+	private Function<String, Object> getSourceValues(Object source) {
+
+		if (source instanceof Map) {
+			return ((Map<String, Object>) source)::get;
+		}
+
+		PersistentEntity<?, ?> sourceEntity = context.getRequiredPersistentEntity(source.getClass());
+		PersistentPropertyAccessor sourceAccessor = sourceEntity.getPropertyAccessor(source);
+
+		return name -> sourceAccessor.getProperty(sourceEntity.getPersistentProperty(name));
+	}
 }
@@ -16,6 +16,8 @@
 package org.springframework.data.relational.core.conversion;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -23,10 +25,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -112,6 +116,35 @@ public class AggregateChangeUnitTests {
 				.containsExactlyInAnyOrder(tuple("one", 23));
 	}
 
+	@Test
+	public void streamingExecutionExecutesActionsWithoutCollectingThem() {
+
+		for (int i = 0; i < 7; i++) {
+			entity.contentList.add(new Content());
+		}
+
+		AtomicInteger generatedIds = new AtomicInteger();
+		Interpreter interpreter = mock(Interpreter.class);
+		doAnswer(invocation -> {
+			((DbAction.InsertRoot<?>) invocation.getArgument(0)).setGeneratedId(generatedIds.incrementAndGet());
+			return null;
+		}).when(interpreter).interpret(any(DbAction.InsertRoot.class));
+		doAnswer(invocation -> {
+			((DbAction.Insert<?>) invocation.getArgument(0)).setGeneratedId(generatedIds.incrementAndGet());
+			return null;
+		}).when(interpreter).interpret(any(DbAction.Insert.class));
+
+		AggregateChange<DummyEntity> change = new AggregateChange<>(Kind.SAVE, DummyEntity.class, entity);
+		change.executeStreamingWith(interpreter, context, converter, new RelationalEntityWriter(context), 3);
+
+		verify(interpreter).interpret(any(DbAction.InsertRoot.class));
+		verify(interpreter, times(7)).interpret(any(DbAction.Insert.class));
+
+		assertThat(change.getActions()).isEmpty();
+		assertThat(change.getEntity().rootId).isEqualTo(1);
+		assertThat(change.getEntity().contentList).extracting(c -> c.id).containsExactly(2, 3, 4, 5, 6, 7, 8);
+	}
+
 	private static class DummyEntity {
 
 		@Id Integer rootId;
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+import lombok.experimental.Wither;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link GeneratedIdPropagator}.
+ */
+public class GeneratedIdPropagatorUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	RelationalConverter converter = new BasicRelationalConverter(context);
+	RelationalEntityWriter writer = new RelationalEntityWriter(context);
+
+	@Test
+	public void appliesGeneratedIdsToAllEntitiesOfAnImmutableAggregate() {
+
+		Map<String, Element> map = new HashMap<>();
+		map.put("one", new Element(null, "m1", null));
+
+		Root root = new Root(null, //
+				new Element(null, "single", new Leaf(null, "leaf")), //
+				asList(new Element(null, "l1", null), new Element(null, "l2", new Leaf(null, "nested"))), //
+				new HashSet<>(asList(new Element(null, "s1", null), new Element(null, "s2", null))), //
+				map);
+
+		List<DbAction<?>> actions = writeAndGenerateIds(root);
+
+		Root result = (Root) new GeneratedIdPropagator(context, converter).propagate(root, actions);
+
+		assertThat(result.id).isNotNull();
+		assertThat(result.single.id).isNotNull();
+		assertThat(result.single.leaf.id).isNotNull();
+		assertThat(result.list).extracting(e -> e.name, e -> e.id != null).containsExactly( //
+				tuple("l1", true), //
+				tuple("l2", true));
+		assertThat(result.list.get(1).leaf.id).isNotNull();
+		assertThat(result.set).extracting(e -> e.name, e -> e.id != null).containsExactlyInAnyOrder( //
+				tuple("s1", true), //
+				tuple("s2", true));
+		assertThat(result.map.get("one").id).isNotNull();
+
+		assertThat(root.id).describedAs("original aggregate is unchanged").isNull();
+		assertThat(root.list.get(0).id).describedAs("original aggregate is unchanged").isNull();
+	}
+
+	@Test
+	public void leavesAggregateUntouchedWhenNoIdsGetGenerated() {
+
+		Root root = new Root(1L, new Element(2L, "single", null), singletonList(new Element(3L, "l1", null)), emptySet(),
+				emptyMap());
+
+		AggregateChange<Root> change = new AggregateChange<>(Kind.SAVE, Root.class, root);
+		writer.write(root, change);
+
+		Object result = new GeneratedIdPropagator(context, converter).propagate(root, change.getActions());
+
+		assertThat(result).isSameAs(root);
+	}
+
+	@Test
+	public void onlyCopiesCollectionsContainingChangedElements() {
+
+		List<Element> list = singletonList(new Element(3L, "l1", null));
+		Set<Element> set = singleton(new Element(null, "s1", null));
+		Root root = new Root(1L, null, list, set, emptyMap());
+
+		AggregateChange<Root> change = new AggregateChange<>(Kind.SAVE, Root.class, root);
+		writer.write(root, change);
+		change.getActions().stream() //
+				.filter(a -> a instanceof DbAction.Insert && ((DbAction.Insert<?>) a).getEntity() instanceof Element) //
+				.filter(a -> ((Element) ((DbAction.Insert<?>) a).getEntity()).id == null) //
+				.forEach(a -> ((DbAction.Insert<?>) a).setGeneratedId(42L));
+
+		Root result = (Root) new GeneratedIdPropagator(context, converter).propagate(root, change.getActions());
+
+		assertThat(result).isNotSameAs(root);
+		assertThat(result.list).isSameAs(list);
+		assertThat(result.set).isNotSameAs(set).extracting(e -> e.id).containsExactly(42L);
+	}
+
+	@Test
+	public void retainsElementsOfSetsWithoutAction() {
+
+		Element existing = new Element(7L, "existing", null);
+		Root root = new Root(1L, null, emptyList(), new HashSet<>(asList(existing, new Element(null, "new", null))),
+				emptyMap());
+
+		List<DbAction<?>> actions = writeAndGenerateIds(root);
+		// as for append only collections, there is no action for the existing element
+		actions.removeIf(a -> a instanceof DbAction.Insert && ((DbAction.Insert<?>) a).getEntity() == existing);
+
+		Root result = (Root) new GeneratedIdPropagator(context, converter).propagate(root, actions);
+
+		assertThat(result.set).hasSize(2).contains(existing);
+		assertThat(result.set).extracting(e -> e.id).doesNotContainNull();
+	}
+
+	private List<DbAction<?>> writeAndGenerateIds(Root root) {
+
+		AggregateChange<Root> change = new AggregateChange<>(Kind.SAVE, Root.class, root);
+		writer.write(root, change);
+
+		long id = 1;
+		for (DbAction<?> action : change.getActions()) {
+			if (action instanceof DbAction.InsertRoot) {
+				((DbAction.InsertRoot<?>) action).setGeneratedId(id++);
+			} else if (action instanceof DbAction.Insert) {
+				((DbAction.Insert<?>) action).setGeneratedId(id++);
+			}
+		}
+
+		return change.getActions();
+	}
+
+	@Value
+	@Wither
+	static class Root {
+
+		@Id Long id;
+		Element single;
+		List<Element> list;
+		Set<Element> set;
+		Map<String, Element> map;
+	}
+
+	@Value
+	@Wither
+	static class Element {
+
+		@Id Long id;
+		String name;
+		Leaf leaf;
+	}
+
+	@Value
+	@Wither
+	static class Leaf {
+
+		@Id Long id;
+		String name;
+	}
+}
@@ -30,11 +30,16 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
 import org.springframework.data.relational.core.conversion.DbAction.Delete;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteListTail;
 import org.springframework.data.relational.core.conversion.DbAction.Insert;
 import org.springframework.data.relational.core.conversion.DbAction.InsertRoot;
+import org.springframework.data.relational.core.conversion.DbAction.UpdateListElement;
 import org.springframework.data.relational.core.conversion.DbAction.UpdateRoot;
+import org.springframework.data.relational.core.mapping.AppendOnly;
+import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -46,7 +51,8 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 public class RelationalEntityWriterUnitTests {
 
 	public static final long SOME_ENTITY_ID = 23L;
-	RelationalEntityWriter converter = new RelationalEntityWriter(new RelationalMappingContext());
+	RelationalMappingContext context = new RelationalMappingContext();
+	RelationalEntityWriter converter = new RelationalEntityWriter(context);
 
 	@Test // DATAJDBC-112
 	public void newEntityGetsConvertedToOneInsert() {
@@ -388,6 +394,246 @@ public class RelationalEntityWriterUnitTests {
 				);
 	}
 
+	@Test
+	public void embeddedValueObjectsDoNotTriggerSeparateActions() {
+
+		EmbeddedContainer entity = new EmbeddedContainer(SOME_ENTITY_ID);
+		entity.embedded = new NoIdElement();
+
+		AggregateChange<EmbeddedContainer> aggregateChange = new AggregateChange(Kind.SAVE, EmbeddedContainer.class,
+				entity);
+
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, this::extractPath) //
+				.containsExactly( //
+						tuple(UpdateRoot.class, EmbeddedContainer.class, "") //
+				);
+	}
+
+	@Test
+	public void nestedEntitiesDependOnTheInsertOfTheirOwnParent() {
+
+		CascadingReferenceEntity entity = new CascadingReferenceEntity(null);
+		entity.other.add(createMiddleElement(new Element(null), new Element(null)));
+		entity.other.add(createMiddleElement(new Element(null), new Element(null)));
+
+		AggregateChange<CascadingReferenceEntity> aggregateChange = new AggregateChange(Kind.SAVE,
+				CascadingReferenceEntity.class, entity);
+
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.filteredOn(a -> a.getEntityType() == Element.class) //
+				.hasSize(4) //
+				.allSatisfy(a -> {
+
+					DbAction.WithDependingOn<?> insert = (DbAction.WithDependingOn<?>) a;
+					Object parent = insert.getDependingOn().getEntity();
+
+					assertThat(((CascadingReferenceMiddleElement) parent).element).contains((Element) insert.getEntity());
+				});
+	}
+
+	@Test
+	public void writingTheSameAggregateTypeRepeatedlyCreatesIndependentActions() {
+
+		ListContainer first = new ListContainer(null);
+		first.elements.add(new Element(null));
+
+		ListContainer second = new ListContainer(SOME_ENTITY_ID);
+		second.elements.add(new Element(null));
+		second.elements.add(new Element(null));
+
+		AggregateChange<ListContainer> firstChange = new AggregateChange(Kind.SAVE, ListContainer.class, first);
+		AggregateChange<ListContainer> secondChange = new AggregateChange(Kind.SAVE, ListContainer.class, second);
+
+		converter.write(first, firstChange);
+		converter.write(second, secondChange);
+
+		assertThat(firstChange.getActions()) //
+				.extracting(DbAction::getClass, this::getListKey, this::extractPath) //
+				.containsExactly( //
+						tuple(InsertRoot.class, null, ""), //
+						tuple(Insert.class, 0, "elements") //
+				);
+		assertThat(secondChange.getActions()) //
+				.extracting(DbAction::getClass, this::getListKey, this::extractPath) //
+				.containsExactly( //
+						tuple(Delete.class, null, "elements"), //
+						tuple(UpdateRoot.class, null, ""), //
+						tuple(Insert.class, 0, "elements"), //
+						tuple(Insert.class, 1, "elements") //
+				);
+		assertThat(secondChange.getActions()) //
+				.filteredOn(a -> a instanceof Insert) //
+				.allSatisfy(a -> assertThat(((Insert<?>) a).getDependingOn().getEntity()).isSameAs(second));
+	}
+
+	@Test
+	public void actionsHandedToAConsumerMatchTheActionsAddedToTheChange() {
+
+		CascadingReferenceEntity entity = new CascadingReferenceEntity(SOME_ENTITY_ID);
+		entity.other.add(createMiddleElement(new Element(null), new Element(null)));
+		entity.other.add(createMiddleElement(new Element(null), new Element(null)));
+
+		AggregateChange<CascadingReferenceEntity> aggregateChange = new AggregateChange(Kind.SAVE,
+				CascadingReferenceEntity.class, entity);
+		List<DbAction<?>> consumed = new ArrayList<>();
+
+		converter.write(entity, aggregateChange, consumed::add);
+
+		assertThat(aggregateChange.getActions()).isEmpty();
+		assertThat(consumed) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, this::extractPath, this::isWithDependsOn) //
+				.containsExactly( //
+						tuple(Delete.class, Element.class, "other.element", false), //
+						tuple(Delete.class, CascadingReferenceMiddleElement.class, "other", false), //
+						tuple(UpdateRoot.class, CascadingReferenceEntity.class, "", false), //
+						tuple(Insert.class, CascadingReferenceMiddleElement.class, "other", true), //
+						tuple(Insert.class, CascadingReferenceMiddleElement.class, "other", true), //
+						tuple(Insert.class, Element.class, "other.element", true), //
+						tuple(Insert.class, Element.class, "other.element", true), //
+						tuple(Insert.class, Element.class, "other.element", true), //
+						tuple(Insert.class, Element.class, "other.element", true) //
+				);
+	}
+
+	@Test
+	public void listWithPersistedStateGetsSynchronizedByPosition() {
+
+		NoIdListContainer entity = new NoIdListContainer(SOME_ENTITY_ID);
+		entity.elements.add(noIdElement("zero"));
+		entity.elements.add(noIdElement("one"));
+		PersistedLists persistedLists = PersistedLists.of(entity, context);
+
+		entity.elements.get(1).name = "changed";
+		entity.elements.add(noIdElement("two"));
+
+		AggregateChange<NoIdListContainer> aggregateChange = new AggregateChange(Kind.SAVE, NoIdListContainer.class,
+				entity);
+		aggregateChange.setPersistedLists(persistedLists);
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions())
+				.extracting(DbAction::getClass, this::getNoIdListIndex, this::extractPath, this::actualEntityType) //
+				.containsExactly( //
+						tuple(UpdateRoot.class, null, "", NoIdListContainer.class), //
+						tuple(UpdateListElement.class, 1, "elements", NoIdElement.class), //
+						tuple(Insert.class, 2, "elements", NoIdElement.class) //
+				);
+	}
+
+	@Test
+	public void removedTrailingElementsGetDeletedWhenSynchronizingByPosition() {
+
+		NoIdListContainer entity = new NoIdListContainer(SOME_ENTITY_ID);
+		entity.elements.add(noIdElement("zero"));
+		entity.elements.add(noIdElement("one"));
+		entity.elements.add(noIdElement("two"));
+		PersistedLists persistedLists = PersistedLists.of(entity, context);
+
+		entity.elements.remove(2);
+		entity.elements.remove(1);
+
+		AggregateChange<NoIdListContainer> aggregateChange = new AggregateChange(Kind.SAVE, NoIdListContainer.class,
+				entity);
+		aggregateChange.setPersistedLists(persistedLists);
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions())
+				.extracting(DbAction::getClass, this::getNoIdListIndex, this::extractPath) //
+				.containsExactly( //
+						tuple(UpdateRoot.class, null, ""), //
+						tuple(DeleteListTail.class, 1, "elements") //
+				);
+	}
+
+	@Test
+	public void listsOfEntitiesWithIdDoNotGetSynchronizedByPosition() {
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.elements.add(new Element(null));
+		PersistedLists persistedLists = PersistedLists.of(entity, context);
+
+		entity.elements.add(new Element(null));
+
+		AggregateChange<ListContainer> aggregateChange = new AggregateChange(Kind.SAVE, ListContainer.class, entity);
+		aggregateChange.setPersistedLists(persistedLists);
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions()).extracting(DbAction::getClass, this::getListKey, this::extractPath) //
+				.containsExactly( //
+						tuple(Delete.class, null, "elements"), //
+						tuple(UpdateRoot.class, null, ""), //
+						tuple(Insert.class, 0, "elements"), //
+						tuple(Insert.class, 1, "elements") //
+				);
+	}
+
+	@Test
+	public void appendOnlyPropertiesOnlyGetNewEntitiesInserted() {
+
+		Element existing = new Element(5L);
+		Element added = new Element(null);
+
+		AppendOnlyContainer entity = new AppendOnlyContainer(SOME_ENTITY_ID);
+		entity.elements.add(existing);
+		entity.elements.add(added);
+
+		AggregateChange<AppendOnlyContainer> aggregateChange = new AggregateChange(Kind.SAVE, AppendOnlyContainer.class,
+				entity);
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions()).extracting(DbAction::getClass, this::extractPath) //
+				.containsExactly( //
+						tuple(UpdateRoot.class, ""), //
+						tuple(Insert.class, "elements") //
+				);
+		assertThat(((Insert<?>) aggregateChange.getActions().get(1)).getEntity()).isSameAs(added);
+	}
+
+	@Test
+	public void appendOnlyRequiresReferencedEntitiesWithId() {
+
+		AppendOnlyNoIdContainer entity = new AppendOnlyNoIdContainer(SOME_ENTITY_ID);
+		AggregateChange<AppendOnlyNoIdContainer> aggregateChange = new AggregateChange(Kind.SAVE,
+				AppendOnlyNoIdContainer.class, entity);
+
+		assertThatThrownBy(() -> converter.write(entity, aggregateChange)) //
+				.isInstanceOf(MappingException.class) //
+				.hasMessageContaining("elements");
+	}
+
+	@Test
+	public void preparingDetectsMappingProblemsWithoutWriting() {
+
+		assertThatThrownBy(() -> converter.prepare(AppendOnlyNoIdContainer.class)) //
+				.isInstanceOf(MappingException.class) //
+				.hasMessageContaining("elements");
+	}
+
+	private static NoIdElement noIdElement(String name) {
+
+		NoIdElement element = new NoIdElement();
+		element.name = name;
+		return element;
+	}
+
+	private Object getNoIdListIndex(DbAction a) {
+
+		if (a instanceof UpdateListElement) {
+			return ((UpdateListElement) a).getIndex();
+		}
+		if (a instanceof DeleteListTail) {
+			return ((DeleteListTail) a).getSize();
+		}
+		return a instanceof DbAction.WithDependingOn
+				? ((DbAction.WithDependingOn) a).getAdditionalValues().get("no_id_list_container_key")
+				: null;
+	}
+
 	private CascadingReferenceMiddleElement createMiddleElement(Element first, Element second) {
 
 		CascadingReferenceMiddleElement middleElement1 = new CascadingReferenceMiddleElement(null);
@@ -482,11 +728,39 @@ public class RelationalEntityWriterUnitTests {
 		List<Element> elements = new ArrayList<>();
 	}
 
+	@RequiredArgsConstructor
+	private static class EmbeddedContainer {
+
+		@Id final Long id;
+		@Embedded NoIdElement embedded;
+	}
+
 	@RequiredArgsConstructor
 	private static class Element {
 		@Id final Long id;
 	}
 
+	@RequiredArgsConstructor
+	private static class AppendOnlyContainer {
+
+		@Id final Long id;
+		@AppendOnly Set<Element> elements = new HashSet<>();
+	}
+
+	@RequiredArgsConstructor
+	private static class AppendOnlyNoIdContainer {
+
+		@Id final Long id;
+		@AppendOnly List<NoIdElement> elements = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	private static class NoIdListContainer {
+
+		@Id final Long id;
+		List<NoIdElement> elements = new ArrayList<>();
+	}
+
 	@RequiredArgsConstructor
 	private static class NoIdElement {
 		// empty classes feel weird.
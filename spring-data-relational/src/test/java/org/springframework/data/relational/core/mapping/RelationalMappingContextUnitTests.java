@@ -17,12 +17,16 @@ package org.springframework.data.relational.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import lombok.Value;
+import lombok.experimental.Wither;
+
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.UUID;
 
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 
 /**
@@ -46,8 +50,50 @@ public class RelationalMappingContextUnitTests {
 		assertThat(uuidProperty.isEntity()).isFalse();
 	}
 
+	@Test
+	public void generatedPropertyAccessorsSetPropertiesOfImmutableEntitiesUsingWithers() {
+
+		RelationalMappingContext mappingContext = new RelationalMappingContext();
+
+		PersistentPropertyAccessor<ImmutableEntity> accessor = accessorFor(mappingContext);
+		accessor.setProperty(getIdProperty(mappingContext), 23L);
+
+		assertThat(accessor.getClass().getName()).contains("_Accessor_");
+		assertThat(accessor.getBean().id).isEqualTo(23L);
+		assertThat(accessor.getBean().name).isEqualTo("name");
+	}
+
+	@Test
+	public void usesReflectionWhenGeneratedPropertyAccessorsAreDisabled() {
+
+		RelationalMappingContext mappingContext = new RelationalMappingContext();
+		mappingContext.setGeneratedPropertyAccessors(false);
+
+		PersistentPropertyAccessor<ImmutableEntity> accessor = accessorFor(mappingContext);
+		accessor.setProperty(getIdProperty(mappingContext), 23L);
+
+		assertThat(accessor.getClass().getName()).doesNotContain("_Accessor_");
+		assertThat(accessor.getBean().id).isEqualTo(23L);
+	}
+
+	private static PersistentPropertyAccessor<ImmutableEntity> accessorFor(RelationalMappingContext mappingContext) {
+		return mappingContext.getRequiredPersistentEntity(ImmutableEntity.class)
+				.getPropertyAccessor(new ImmutableEntity(null, "name"));
+	}
+
+	private static RelationalPersistentProperty getIdProperty(RelationalMappingContext mappingContext) {
+		return mappingContext.getRequiredPersistentEntity(ImmutableEntity.class).getRequiredIdProperty();
+	}
+
 	static class EntityWithUuid {
 		@Id UUID uuid;
 	}
 
+	@Value
+	@Wither
+	public static class ImmutableEntity {
+		@Id Long id;
+		String name;
+	}
+
 }
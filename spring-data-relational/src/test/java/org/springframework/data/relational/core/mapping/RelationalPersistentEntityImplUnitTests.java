@@ -17,8 +17,12 @@ package org.springframework.data.relational.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
 
 /**
  * Unit tests for {@link RelationalPersistentEntityImpl}.
@@ -46,8 +50,86 @@ public class RelationalPersistentEntityImplUnitTests {
 		assertThat(entity.getIdColumn()).isEqualTo("renamedId");
 	}
 
+	@Test
+	public void acceptsNestedEmbeddedValueObjectsWithSimpleProperties() {
+
+		assertThat(mappingContext.getPersistentEntity(WithNestedEmbedded.class)).isNotNull();
+	}
+
+	@Test
+	public void rejectsEmbeddedValueObjectsWithCollectionsMapsOrEntities() {
+
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> mappingContext.getPersistentEntity(WithEmbeddedCollection.class)) //
+				.withMessageContaining("value.list");
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> mappingContext.getPersistentEntity(WithEmbeddedMap.class)) //
+				.withMessageContaining("value.map");
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> mappingContext.getPersistentEntity(WithEmbeddedReference.class)) //
+				.withMessageContaining("nested.reference");
+	}
+
+	@Test
+	public void rejectsEmbeddedCollections() {
+
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> mappingContext.getPersistentEntity(WithCollectionOfEmbedded.class)) //
+				.withMessageContaining("values");
+	}
+
 	@Table("dummy_sub_entity")
 	static class DummySubEntity {
 		@Id @Column("renamedId") Long id;
 	}
+
+	static class SimpleValue {
+		String name;
+	}
+
+	static class WithNestedEmbedded {
+		@Id Long id;
+		@Embedded(prefix = "outer_") NestedValue value;
+	}
+
+	static class NestedValue {
+		String name;
+		@Embedded(prefix = "inner_") SimpleValue inner;
+	}
+
+	static class WithEmbeddedCollection {
+		@Id Long id;
+		@Embedded ValueWithCollection value;
+	}
+
+	static class ValueWithCollection {
+		List<String> list;
+	}
+
+	static class WithEmbeddedMap {
+		@Id Long id;
+		@Embedded ValueWithMap value;
+	}
+
+	static class ValueWithMap {
+		Map<String, SimpleValue> map;
+	}
+
+	static class WithEmbeddedReference {
+		@Id Long id;
+		@Embedded NestedReference value;
+	}
+
+	static class NestedReference {
+		@Embedded ValueWithReference nested;
+	}
+
+	static class ValueWithReference {
+		DummySubEntity reference;
+	}
+
+	static class WithCollectionOfEmbedded {
+		@Id Long id;
+		@Embedded List<SimpleValue> values;
+	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link SqlRenderer}.
+ */
+public class SqlRendererUnitTests {
+
+	Table table = Table.create("mytable");
+
+	@Test
+	public void rendersSelectWithColumnAliases() {
+
+		Select select = Select.from(table) //
+				.column(table.column("one").as("oneAlias")) //
+				.column(Column.create("two").as("twoAlias"));
+
+		assertThat(render(select)).isEqualTo("SELECT mytable.one AS oneAlias, two AS twoAlias FROM mytable");
+	}
+
+	@Test
+	public void rendersJoinsConditionsAndOrder() {
+
+		Table other = Table.create("other").as("o");
+
+		Select select = Select.from(table) //
+				.column(table.column("mycolumn").as("myalias")) //
+				.join(Join.rightOuter(other, other.column("oid").isEqualTo(table.column("id")))) //
+				.where(table.column("mycolumn").isEqualTo(BindMarker.named("var"))) //
+				.where(table.column("other").isNotNull()) //
+				.orderBy(Collections.singletonList(OrderByField.of(table.column("mycolumn"), Sort.Direction.DESC)));
+
+		assertThat(render(select)).isEqualTo("SELECT mytable.mycolumn AS myalias FROM mytable " //
+				+ "RIGHT OUTER JOIN other AS o ON o.oid = mytable.id " //
+				+ "WHERE mytable.mycolumn = :var AND mytable.other IS NOT NULL " //
+				+ "ORDER BY mytable.mycolumn DESC");
+	}
+
+	@Test
+	public void rendersInsertUpdateAndDeleteWithSubSelects() {
+
+		Column version = Column.create("version");
+
+		assertThat(render(Insert.into(table).value(Column.create("name"), BindMarker.named("name"))))
+				.isEqualTo("INSERT INTO mytable (name) VALUES (:name)");
+		assertThat(render(Insert.into(table))).isEqualTo("INSERT INTO mytable () VALUES ()");
+		assertThat(render(Update.table(table) //
+				.set(Column.create("name"), BindMarker.named("name")) //
+				.set(version, version.plus(Expression.just("1"))) //
+				.where(Column.create("id").isEqualTo(BindMarker.named("id"))))) //
+						.isEqualTo("UPDATE mytable SET name = :name, version = version + 1 WHERE id = :id");
+		assertThat(render(Delete.from(table).where(Column.create("parent").in(Select.from(Table.create("parent")) //
+				.column(Column.create("id")) //
+				.where(Column.create("name").like(BindMarker.named("name"))))))) //
+						.isEqualTo("DELETE FROM mytable WHERE parent IN (SELECT id FROM parent WHERE name LIKE :name)");
+	}
+
+	@Test
+	public void rendersLikeWithEscapeCharacter() {
+
+		Select select = Select.from(table) //
+				.column(Column.create("id")) //
+				.where(Column.create("name").like(BindMarker.named("pattern"), '!'));
+
+		assertThat(render(select)).isEqualTo("SELECT id FROM mytable WHERE name LIKE :pattern ESCAPE '!'");
+	}
+
+	@Test
+	public void rendersPositionalParametersInOrderOfOccurrence() {
+
+		Select select = Select.from(table) //
+				.column(Column.create("id")) //
+				.where(Column.create("b").isEqualTo(BindMarker.named("second"))) //
+				.where(Column.create("a").in(BindMarker.named("first")));
+
+		RenderedSql rendered = SqlRenderer.positional().render(select);
+
+		assertThat(rendered.getSql()).isEqualTo("SELECT id FROM mytable WHERE b = ? AND a IN (?)");
+		assertThat(rendered.getParameterNames()).containsExactly("second", "first");
+	}
+
+	@Test
+	public void memoizesTheRenderingPerRenderer() {
+
+		Select select = Select.from(table).column(Column.create("id"));
+
+		assertThat(SqlRenderer.named().render(select)).isSameAs(SqlRenderer.named().render(select));
+		assertThat(SqlRenderer.positional().render(select)).isNotSameAs(SqlRenderer.named().render(select));
+	}
+
+	@Test
+	public void quotesIdentifiersInSubclasses() {
+
+		SqlRenderer renderer = new SqlRenderer(false) {
+
+			@Override
+			protected String quote(String identifier) {
+				return '"' + identifier + '"';
+			}
+		};
+
+		assertThat(renderer.render(Select.from(table).column(table.column("id").as("x"))).getSql())
+				.isEqualTo("SELECT \"mytable\".\"id\" AS \"x\" FROM \"mytable\"");
+	}
+
+	private static String render(Statement statement) {
+		return SqlRenderer.named().render(statement).getSql();
+	}
+}